@@ -1,5 +1,8 @@
 const TOKEN_KEY = 'accessToken';
 
+// GET responses keyed by path, revalidated with If-None-Match
+const etagCache = new Map();
+
 export function setToken(token) {
     localStorage.setItem(TOKEN_KEY, token);
 }
@@ -10,6 +13,7 @@ export function getToken() {
 
 export function clearToken() {
     localStorage.removeItem(TOKEN_KEY);
+    etagCache.clear();
 }
 
 function notifyLogout() {
@@ -38,20 +42,33 @@ export function getRole() {
     return payload?.role ?? null;
 }
 
-async function request(path, {method = 'GET', body} = {}) {
-    const headers = {'Content-Type': 'application/json'};
+async function request(path, {method = 'GET', body, ifMatch, contentType = 'application/json'} = {}) {
+    const headers = {'Content-Type': contentType};
 
     const token = getToken();
     if (token) {
         headers['Authorization'] = `Bearer ${token}`;
     }
 
+    if (ifMatch != null) {
+        headers['If-Match'] = `"${ifMatch}"`;
+    }
+
+    const cached = method === 'GET' ? etagCache.get(path) : undefined;
+    if (cached) {
+        headers['If-None-Match'] = cached.etag;
+    }
+
     const res = await fetch(path, {
         method,
         headers,
         body: body ? JSON.stringify(body) : undefined,
     });
 
+    if (res.status === 304 && cached) {
+        return cached.data;
+    }
+
     if (res.status === 401) {
         clearToken();
         notifyLogout();
@@ -73,7 +90,14 @@ async function request(path, {method = 'GET', body} = {}) {
     }
 
     const text = await res.text();
-    return text ? JSON.parse(text) : null;
+    const data = text ? JSON.parse(text) : null;
+
+    const etag = res.headers.get('ETag');
+    if (method === 'GET' && etag) {
+        etagCache.set(path, {etag, data});
+    }
+
+    return data;
 }
 
 export const api = {
@@ -96,22 +120,54 @@ export const api = {
 
     getTask: (id) => request(`/api/tasks/${id}`),
 
+    lookupTasks: (ids) =>
+        request('/api/tasks/lookup', {
+            method: 'POST',
+            body: {ids},
+        }),
+
+    claimTask: (params = {}) =>
+        request('/api/tasks/claim', {
+            method: 'POST',
+            body: params,
+        }),
+
+    getTaskSummary: () => request('/api/tasks/summary'),
+
+    getTaskChanges: (since, limit) => {
+        const params = {};
+        if (since) params.since = since;
+        if (limit) params.limit = limit;
+        const qs = new URLSearchParams(params).toString();
+        return request(`/api/tasks/changes${qs ? `?${qs}` : ''}`);
+    },
+
     createTask: (payload) =>
         request('/api/tasks', {
             method: 'POST',
             body: payload,
         }),
 
-    updateTask: (id, payload) =>
+    updateTask: (id, payload, version) =>
         request(`/api/tasks/${id}`, {
             method: 'PUT',
             body: payload,
+            ifMatch: version,
+        }),
+
+    patchTask: (id, patch, version) =>
+        request(`/api/tasks/${id}`, {
+            method: 'PATCH',
+            body: patch,
+            ifMatch: version,
+            contentType: 'application/merge-patch+json',
         }),
 
-    updateTaskStatus: (id, status) =>
+    updateTaskStatus: (id, status, version) =>
         request(`/api/tasks/${id}/status`, {
             method: 'PATCH',
             body: {status},
+            ifMatch: version,
         }),
 
     deleteTask: (id) =>
@@ -23,6 +23,7 @@ export default function TasksPage() {
     const [error, setError] = useState('');
 
     const [editingId, setEditingId] = useState(null);
+    const [editingVersion, setEditingVersion] = useState(null);
     const [title, setTitle] = useState('');
     const [description, setDescription] = useState('');
     const [status, setStatus] = useState('TODO');
@@ -55,6 +56,7 @@ export default function TasksPage() {
 
     function resetForm() {
         setEditingId(null);
+        setEditingVersion(null);
         setTitle('');
         setDescription('');
         setStatus('TODO');
@@ -62,10 +64,20 @@ export default function TasksPage() {
         setAssignee({id: null, email: ''});
     }
 
-    function startEdit(t) {
+    async function startEdit(listed) {
         if (!isAdmin) return;
 
+        // List items carry no description; load the full task for editing.
+        let t;
+        try {
+            t = await api.getTask(listed.id);
+        } catch (e) {
+            setError(e?.message ?? 'Load failed');
+            return;
+        }
+
         setEditingId(t.id);
+        setEditingVersion(t.version ?? null);
         setTitle(t.title ?? '');
         setDescription(t.description ?? '');
         setStatus(t.status ?? 'TODO');
@@ -96,7 +108,7 @@ export default function TasksPage() {
 
         try {
             if (editingId) {
-                await api.updateTask(editingId, payload);
+                await api.updateTask(editingId, payload, editingVersion);
             } else {
                 await api.createTask(payload);
             }
@@ -131,7 +143,7 @@ export default function TasksPage() {
         setError('');
         setBusy(true);
         try {
-            await api.updateTaskStatus(t.id, newStatus);
+            await api.updateTaskStatus(t.id, newStatus, t.version);
             await load();
         } catch (e) {
             setError(e?.message ?? 'Failed to update status');
@@ -375,8 +387,6 @@ export default function TasksPage() {
                                     </div>
                                 </div>
 
-                                {t.description && <div className="task-desc">{t.description}</div>}
-
                                 <div className="task-meta">
                                     {t.deadline ? (
                                         <span>
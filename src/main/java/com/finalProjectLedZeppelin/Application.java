@@ -1,5 +1,6 @@
 package com.finalProjectLedZeppelin;
 
+import com.finalProjectLedZeppelin.common.migration.MigrateOnly;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -8,7 +9,8 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Application entry point.
  * <p>
  * Bootstraps the Spring Boot application and initializes
- * the application context.
+ * the application context. With {@code --migrate-only} it applies
+ * the database migrations and exits instead.
  */
 @Log4j2
 @SpringBootApplication
@@ -20,6 +22,10 @@ public class Application {
      * @param args command-line arguments
      */
     public static void main(String[] args) {
+        if (MigrateOnly.requested(args)) {
+            log.info("Database migration starting...");
+            System.exit(MigrateOnly.run(args));
+        }
         log.info("Application starting...");
         SpringApplication.run(Application.class, args);
         log.info("Application started");
@@ -0,0 +1,36 @@
+package com.finalProjectLedZeppelin.auth.event;
+
+/**
+ * Application event published whenever a user account is created,
+ * modified, or removed.
+ * <p>
+ * Listeners use it to keep in-process derived state (such as the
+ * email autocomplete index) consistent with the {@code users} table.
+ *
+ * @param type   kind of change that happened
+ * @param userId identifier of the affected user
+ * @param email  user's email address; {@code null} for deletions
+ */
+public record UserChangedEvent(Type type, Long userId, String email) {
+
+    /**
+     * Kind of user change.
+     */
+    public enum Type {
+
+        /**
+         * A new user account was registered.
+         */
+        REGISTERED,
+
+        /**
+         * The role of an existing user was changed.
+         */
+        ROLE_CHANGED,
+
+        /**
+         * A user account was deleted.
+         */
+        DELETED
+    }
+}
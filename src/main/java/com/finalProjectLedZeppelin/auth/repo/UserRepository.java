@@ -1,12 +1,17 @@
 package com.finalProjectLedZeppelin.auth.repo;
 
+import com.finalProjectLedZeppelin.auth.dto.UserOption;
 import com.finalProjectLedZeppelin.auth.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link User} entities.
@@ -25,15 +30,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
-    /**
-     * Finds up to 20 users whose email contains the given query,
-     * ignoring case, ordered alphabetically by email.
-     *
-     * @param q search query to match against user emails
-     * @return list of matching users, limited to 20 results
-     */
-    List<User> findTop20ByEmailContainingIgnoreCaseOrderByEmailAsc(String q);
-
     /**
      * Finds users whose email contains the given query, ignoring case,
      * and returns the result in a paginated form.
@@ -52,4 +48,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * {@code false} otherwise
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Streams the identifier and email of every user.
+     * <p>
+     * Rows are fetched from the database in chunks and are not attached
+     * to the persistence context, so the whole table can be read with a
+     * constant memory footprint. Must be consumed inside a transaction
+     * and closed afterwards.
+     *
+     * @return stream of user options
+     */
+    @Query("select new com.finalProjectLedZeppelin.auth.dto.UserOption(u.id, u.email) from User u")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserOption> streamAllOptions();
 }
@@ -0,0 +1,332 @@
+package com.finalProjectLedZeppelin.auth.search;
+
+import com.finalProjectLedZeppelin.auth.dto.UserOption;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory, sorted index of user emails used for autocomplete lookups.
+ * <p>
+ * Entries are kept in an immutable snapshot made of three flat arrays:
+ * lower-cased UTF-8 email bytes packed into a single {@code byte[]},
+ * their start offsets, and the matching user identifiers. Readers never
+ * lock; writers rebuild the snapshot and publish it atomically. Writes
+ * (registrations, deletions) are rare compared to keystroke-driven reads,
+ * so the O(n) copy on write is an acceptable trade for allocation-free,
+ * cache-friendly scans.
+ * <p>
+ * Entries are ordered by the byte order of the lower-cased email, which
+ * equals code point order.
+ * <p>
+ * A load may overlap with writes: changes applied between
+ * {@link #beginLoad()} and the end of {@link #load} are recorded and
+ * replayed on top of the loaded entries, so a change committed after the
+ * loading read's snapshot is not overwritten by it.
+ */
+@Log4j2
+@Component
+public class UserEmailIndex implements MeterBinder {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Changes applied while a load is in progress, by user identifier;
+     * a {@code null} email marks a removal. {@code null} when no load is
+     * in progress.
+     */
+    private Map<Long, String> pendingChanges;
+
+    /**
+     * Starts recording changes for the next {@link #load}.
+     * <p>
+     * Must be called before the loading read takes its snapshot.
+     */
+    public synchronized void beginLoad() {
+        pendingChanges = new HashMap<>();
+    }
+
+    /**
+     * Replaces the whole index content.
+     * <p>
+     * Changes recorded since {@link #beginLoad()} are applied on top of the
+     * loaded entries before the new content is published.
+     *
+     * @param entries user options to index; consumed once
+     * @return number of indexed entries
+     */
+    public int load(Iterator<UserOption> entries) {
+        List<Entry> list = new ArrayList<>();
+        while (entries.hasNext()) {
+            UserOption o = entries.next();
+            if (o.id() != null && o.email() != null) {
+                list.add(new Entry(o.id(), key(o.email())));
+            }
+        }
+        list.sort((a, b) -> Arrays.compareUnsigned(a.key(), b.key()));
+        Snapshot next;
+        int replayed;
+        synchronized (this) {
+            Map<Long, String> pending = pendingChanges != null ? pendingChanges : Map.of();
+            replayed = pending.size();
+            if (!pending.isEmpty()) {
+                list.removeIf(e -> pending.containsKey(e.id()));
+                pending.forEach((id, email) -> {
+                    if (email != null) {
+                        Entry e = new Entry(id, key(email));
+                        list.add(insertionPoint(list, e.key()), e);
+                    }
+                });
+            }
+            next = Snapshot.of(list);
+            snapshot = next;
+            pendingChanges = null;
+        }
+        log.info("User email index loaded (entries={}, replayed={}, bytes={})",
+                next.size(), replayed, next.footprintBytes());
+        return next.size();
+    }
+
+    /**
+     * Inserts or replaces the entry of the given user.
+     *
+     * @param id    user identifier
+     * @param email user's email address
+     */
+    public synchronized void put(long id, String email) {
+        if (pendingChanges != null) {
+            pendingChanges.put(id, email);
+        }
+        List<Entry> list = snapshot.entriesExcept(id);
+        Entry e = new Entry(id, key(email));
+        int pos = insertionPoint(list, e.key());
+        list.add(pos, e);
+        snapshot = Snapshot.of(list);
+    }
+
+    /**
+     * Removes the entry of the given user, if present.
+     *
+     * @param id user identifier
+     */
+    public synchronized void remove(long id) {
+        if (pendingChanges != null) {
+            pendingChanges.put(id, null);
+        }
+        Snapshot s = snapshot;
+        if (s.indexOfId(id) < 0) {
+            return;
+        }
+        snapshot = Snapshot.of(s.entriesExcept(id));
+    }
+
+    /**
+     * Returns up to {@code limit} users whose email starts with the given
+     * prefix, ignoring case, ordered by email.
+     *
+     * @param prefix email prefix
+     * @param limit  maximum number of results
+     * @return matching users
+     */
+    public List<UserOption> prefix(String prefix, int limit) {
+        Snapshot s = snapshot;
+        byte[] q = key(prefix);
+        List<UserOption> result = new ArrayList<>(Math.min(limit, 32));
+        for (int i = s.lowerBound(q); i < s.size() && result.size() < limit; i++) {
+            if (!s.startsWith(i, q)) {
+                break;
+            }
+            result.add(s.option(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} users whose email contains the given
+     * query, ignoring case, ordered by email.
+     * <p>
+     * The scan walks entries in sorted order and stops as soon as
+     * {@code limit} matches are found.
+     *
+     * @param query substring to search for
+     * @param limit maximum number of results
+     * @return matching users
+     */
+    public List<UserOption> search(String query, int limit) {
+        Snapshot s = snapshot;
+        byte[] q = key(query);
+        List<UserOption> result = new ArrayList<>(Math.min(limit, 32));
+        for (int i = 0; i < s.size() && result.size() < limit; i++) {
+            if (s.contains(i, q)) {
+                result.add(s.option(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of indexed users.
+     *
+     * @return entry count
+     */
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * Returns the approximate heap footprint of the index arrays.
+     *
+     * @return size in bytes
+     */
+    public long footprintBytes() {
+        return snapshot.footprintBytes();
+    }
+
+    /**
+     * Registers index size and footprint gauges.
+     *
+     * @param registry meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("app.users.email_index.entries", this, UserEmailIndex::size)
+                .description("Number of users in the in-memory email index")
+                .register(registry);
+        Gauge.builder("app.users.email_index.footprint", this, UserEmailIndex::footprintBytes)
+                .description("Approximate heap size of the in-memory email index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private static byte[] key(String email) {
+        return email.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int insertionPoint(List<Entry> list, byte[] key) {
+        int lo = 0;
+        int hi = list.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Arrays.compareUnsigned(list.get(mid).key(), key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private record Entry(long id, byte[] key) {
+    }
+
+    /**
+     * Immutable packed representation of the index.
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new byte[0], new int[]{0}, new long[0]);
+
+        private final byte[] data;
+        private final int[] offsets;
+        private final long[] ids;
+
+        private Snapshot(byte[] data, int[] offsets, long[] ids) {
+            this.data = data;
+            this.offsets = offsets;
+            this.ids = ids;
+        }
+
+        static Snapshot of(List<Entry> sorted) {
+            int total = 0;
+            for (Entry e : sorted) {
+                total += e.key().length;
+            }
+            byte[] data = new byte[total];
+            int[] offsets = new int[sorted.size() + 1];
+            long[] ids = new long[sorted.size()];
+            int pos = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                Entry e = sorted.get(i);
+                offsets[i] = pos;
+                ids[i] = e.id();
+                System.arraycopy(e.key(), 0, data, pos, e.key().length);
+                pos += e.key().length;
+            }
+            offsets[sorted.size()] = pos;
+            return new Snapshot(data, offsets, ids);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        long footprintBytes() {
+            return data.length + (long) offsets.length * Integer.BYTES + (long) ids.length * Long.BYTES;
+        }
+
+        UserOption option(int i) {
+            return new UserOption(ids[i], new String(data, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8));
+        }
+
+        int indexOfId(long id) {
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        List<Entry> entriesExcept(long id) {
+            List<Entry> list = new ArrayList<>(ids.length + 1);
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] != id) {
+                    list.add(new Entry(ids[i], Arrays.copyOfRange(data, offsets[i], offsets[i + 1])));
+                }
+            }
+            return list;
+        }
+
+        int lowerBound(byte[] q) {
+            int lo = 0;
+            int hi = ids.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (Arrays.compareUnsigned(data, offsets[mid], offsets[mid + 1], q, 0, q.length) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        boolean startsWith(int i, byte[] q) {
+            int start = offsets[i];
+            return offsets[i + 1] - start >= q.length
+                    && Arrays.equals(data, start, start + q.length, q, 0, q.length);
+        }
+
+        boolean contains(int i, byte[] q) {
+            int start = offsets[i];
+            int last = offsets[i + 1] - q.length;
+            for (int p = start; p <= last; p++) {
+                if (Arrays.equals(data, p, p + q.length, q, 0, q.length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.finalProjectLedZeppelin.auth.search;
+
+import com.finalProjectLedZeppelin.auth.dto.UserOption;
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Populates and maintains the {@link UserEmailIndex}.
+ * <p>
+ * The index is loaded by streaming the {@code users} table once at startup,
+ * before the application reports readiness, and is then kept current from
+ * {@link UserChangedEvent}s delivered after the originating transaction
+ * commits. The web server already accepts requests during the load, so
+ * events delivered meanwhile are recorded by the index and replayed on
+ * top of the loaded snapshot.
+ */
+@Log4j2
+@Component
+public class UserEmailIndexLoader implements ApplicationRunner {
+
+    private final UserEmailIndex index;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTx;
+
+    /**
+     * Creates a new {@code UserEmailIndexLoader} instance.
+     *
+     * @param index              index to populate
+     * @param userRepository     repository used to stream users
+     * @param transactionManager transaction manager used for the streaming read
+     */
+    public UserEmailIndexLoader(
+            UserEmailIndex index,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.index = index;
+        this.userRepository = userRepository;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * Loads the index from the database.
+     *
+     * @param args application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        index.beginLoad();
+        Integer size = readOnlyTx.execute(status -> {
+            try (Stream<UserOption> users = userRepository.streamAllOptions()) {
+                return index.load(users.iterator());
+            }
+        });
+        log.info("User email index ready (entries={}, tookMs={})", size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a committed user change to the index.
+     *
+     * @param event user change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("User email index update (type={}, userId={})", event.type(), event.userId());
+        switch (event.type()) {
+            case REGISTERED, ROLE_CHANGED -> index.put(event.userId(), event.email());
+            case DELETED -> index.remove(event.userId());
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.finalProjectLedZeppelin.auth.service;
 import com.finalProjectLedZeppelin.auth.dto.AuthResponse;
 import com.finalProjectLedZeppelin.auth.dto.LoginRequest;
 import com.finalProjectLedZeppelin.auth.dto.RegisterRequest;
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
 import com.finalProjectLedZeppelin.auth.jwt.JwtService;
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.model.UserRole;
 import com.finalProjectLedZeppelin.auth.repo.UserRepository;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +28,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new {@code AuthService} instance.
@@ -33,11 +36,18 @@ public class AuthService {
      * @param userRepository  repository used to access user data
      * @param passwordEncoder encoder used for hashing and validating passwords
      * @param jwtService      service responsible for JWT generation and parsing
+     * @param eventPublisher  publisher used to announce user changes
      */
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            JwtService jwtService,
+            ApplicationEventPublisher eventPublisher
+    ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -63,6 +73,7 @@ public class AuthService {
         u.setRole(UserRole.USER);
         u = userRepository.save(u);
         log.info("Auth register success (userId={}, email={}, role={})", u.getId(), u.getEmail(), u.getRole());
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.REGISTERED, u.getId(), u.getEmail()));
         String token = jwtService.generateAccessToken(u.getId(), u.getEmail(), u.getRole().name());
         return new AuthResponse(token);
     }
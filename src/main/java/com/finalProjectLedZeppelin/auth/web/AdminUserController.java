@@ -2,17 +2,25 @@ package com.finalProjectLedZeppelin.auth.web;
 
 import com.finalProjectLedZeppelin.auth.dto.UpdateUserRoleRequest;
 import com.finalProjectLedZeppelin.auth.dto.UserAdminResponse;
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.model.UserRole;
 import com.finalProjectLedZeppelin.auth.repo.UserRepository;
 import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.web.PageGuard;
+import com.finalProjectLedZeppelin.common.web.ResourceVersions;
 import jakarta.validation.Valid;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
 
 /**
  * REST controller providing administrative operations for managing users.
@@ -27,30 +35,61 @@ import org.springframework.web.bind.annotation.*;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminUserController {
 
+    /**
+     * Properties user listings may be sorted by; each is backed by an
+     * index of {@code users}.
+     */
+    private static final Set<String> SORTABLE = Set.of("id", "email");
+
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ResourceVersions resourceVersions;
+    private final PageGuard pageGuard;
+    private final int maxPageSize;
 
     /**
      * Creates a new {@code AdminUserController} instance.
      *
-     * @param userRepository repository used to access and manage users
+     * @param userRepository   repository used to access and manage users
+     * @param eventPublisher   publisher used to announce user changes
+     * @param resourceVersions version stamps used to validate cached listings
+     * @param pageGuard        guardrails applied to listing requests
+     * @param maxPageSize      largest page size of user listings
      */
-    public AdminUserController(UserRepository userRepository) {
+    public AdminUserController(
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            ResourceVersions resourceVersions,
+            PageGuard pageGuard,
+            @Value("${app.users.list.max-page-size:100}") int maxPageSize
+    ) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.resourceVersions = resourceVersions;
+        this.pageGuard = pageGuard;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
      * Returns a paginated list of users.
      * <p>
-     * Supports optional case-insensitive search by email.
+     * Supports optional case-insensitive search by email, and conditional
+     * requests validated against the user listing version stamp. Pages
+     * are limited to {@code app.users.list.max-page-size} users and may be
+     * sorted by {@code id} and {@code email} only.
      *
      * @param q        optional search query for filtering users by email
      * @param pageable pagination and sorting information
-     * @return page of users represented as {@link UserAdminResponse}
+     * @param request  current web request used for conditional checks
+     * @return page of users represented as {@link UserAdminResponse},
+     * or {@code null} if not modified
+     * @throws IllegalArgumentException if the page is too large or sorted by an unsupported property
      */
     @GetMapping
     public Page<UserAdminResponse> list(
             @RequestParam(required = false) String q,
-            Pageable pageable
+            Pageable pageable,
+            WebRequest request
     ) {
         log.debug(
                 "Admin users list requested (query={}, page={}, size={}, sort={})",
@@ -59,6 +98,16 @@ public class AdminUserController {
                 pageable.getPageSize(),
                 pageable.getSort()
         );
+        pageGuard.check("admin-users", pageable, maxPageSize, SORTABLE);
+        String etag = ResourceVersions.listEtag(
+                ResourceVersions.Scope.USERS,
+                resourceVersions.current(ResourceVersions.Scope.USERS),
+                q + "|" + pageable
+        );
+        if (request.checkNotModified(etag)) {
+            log.debug("Admin users list not modified");
+            return null;
+        }
         Page<User> page = (q == null || q.isBlank())
                 ? userRepository.findAll(pageable)
                 : userRepository.findByEmailContainingIgnoreCase(q.trim(), pageable);
@@ -98,6 +147,8 @@ public class AdminUserController {
                     return new NotFoundException("User not found");
                 });
         u.setRole(UserRole.valueOf(req.role()));
+        userRepository.save(u);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.ROLE_CHANGED, u.getId(), u.getEmail()));
         log.info(
                 "Admin role updated (targetUserId={}, role={})",
                 u.getId(), u.getRole()
@@ -137,6 +188,7 @@ public class AdminUserController {
             throw new NotFoundException("User not found");
         }
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, id, null));
         log.info(
                 "Admin delete success (targetUserId={}, adminId={})",
                 id, currentUserId
@@ -1,7 +1,7 @@
 package com.finalProjectLedZeppelin.auth.web;
 
 import com.finalProjectLedZeppelin.auth.dto.UserOption;
-import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.auth.search.UserEmailIndex;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,15 +22,20 @@ import java.util.List;
 @RequestMapping("/api/users")
 public class UserController {
 
-    private final UserRepository userRepository;
+    /**
+     * Maximum number of search results returned.
+     */
+    private static final int SEARCH_LIMIT = 20;
+
+    private final UserEmailIndex userEmailIndex;
 
     /**
      * Creates a new {@code UserController} instance.
      *
-     * @param userRepository repository used to search for users
+     * @param userEmailIndex in-memory index used to search for users
      */
-    public UserController(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public UserController(UserEmailIndex userEmailIndex) {
+        this.userEmailIndex = userEmailIndex;
     }
 
     /**
@@ -39,6 +44,9 @@ public class UserController {
      * Performs a case-insensitive search and returns up to
      * 20 matching users ordered by email. If the query is empty,
      * an empty list is returned.
+     * <p>
+     * Served from the in-memory {@link UserEmailIndex}; the database
+     * is not queried.
      *
      * @param q search query for matching user emails
      * @return list of matching users represented as {@link UserOption}
@@ -52,11 +60,7 @@ public class UserController {
             log.debug("Admin user search skipped: empty query");
             return List.of();
         }
-        List<UserOption> result = userRepository
-                .findTop20ByEmailContainingIgnoreCaseOrderByEmailAsc(query)
-                .stream()
-                .map(u -> new UserOption(u.getId(), u.getEmail()))
-                .toList();
+        List<UserOption> result = userEmailIndex.search(query, SEARCH_LIMIT);
         log.debug("Admin user search result (query='{}', count={})", query, result.size());
         return result;
     }
@@ -0,0 +1,17 @@
+package com.finalProjectLedZeppelin.common.error;
+
+/**
+ * Exception thrown when a request conflicts with the current state of
+ * the resource, for example a status change the workflow does not allow.
+ */
+public class ConflictException extends RuntimeException {
+
+    /**
+     * Creates a new {@code ConflictException} with the specified message.
+     *
+     * @param message detail message describing the conflict
+     */
+    public ConflictException(String message) {
+        super(message);
+    }
+}
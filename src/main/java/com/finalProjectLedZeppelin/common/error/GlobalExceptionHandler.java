@@ -4,6 +4,7 @@ import com.finalProjectLedZeppelin.auth.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -143,6 +144,56 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.NOT_FOUND, ex.getMessage(), req);
     }
 
+    /**
+     * Handles requests that conflict with the current resource state.
+     *
+     * @param ex  thrown exception
+     * @param req current HTTP request
+     * @return API error response with HTTP 409 (Conflict)
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiError> handleConflict(ConflictException ex, HttpServletRequest req) {
+        log.warn(
+                "Conflict (path={}, message={})",
+                req.getRequestURI(),
+                ex.getMessage()
+        );
+        return build(HttpStatus.CONFLICT, ex.getMessage(), req);
+    }
+
+    /**
+     * Handles failed {@code If-Match} preconditions.
+     *
+     * @param ex  thrown exception
+     * @param req current HTTP request
+     * @return API error response with HTTP 412 (Precondition Failed)
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest req) {
+        log.warn(
+                "Precondition failed (path={}, message={})",
+                req.getRequestURI(),
+                ex.getMessage()
+        );
+        return build(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), req);
+    }
+
+    /**
+     * Handles lost-update conflicts detected by optimistic locking.
+     *
+     * @param ex  thrown exception
+     * @param req current HTTP request
+     * @return API error response with HTTP 412 (Precondition Failed)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex, HttpServletRequest req) {
+        log.warn(
+                "Concurrent modification detected (path={})",
+                req.getRequestURI()
+        );
+        return build(HttpStatus.PRECONDITION_FAILED, "Resource was modified concurrently", req);
+    }
+
     /**
      * Builds a standardized {@link ApiError} response.
      *
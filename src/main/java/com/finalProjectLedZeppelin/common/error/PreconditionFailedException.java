@@ -0,0 +1,17 @@
+package com.finalProjectLedZeppelin.common.error;
+
+/**
+ * Exception thrown when a conditional request cannot be fulfilled because
+ * the resource has changed since the client last read it.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Creates a new {@code PreconditionFailedException} with the specified message.
+     *
+     * @param message detail message describing the failed precondition
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,118 @@
+package com.finalProjectLedZeppelin.common.jdbc;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Data source that hands out logical connections and borrows a physical
+ * connection from the pool only when the first statement is executed.
+ * <p>
+ * Transaction managers open a connection when a transaction begins. With
+ * this proxy, transactions that end before touching the database (early
+ * validation failures, cached answers) never take a connection from the
+ * pool. Connection settings such as auto-commit and read-only are replayed
+ * onto the physical connection when it is borrowed.
+ * <p>
+ * Two counters are published: {@code app.datasource.connections.logical}
+ * (one per transaction or non-transactional statement) and
+ * {@code app.datasource.connections.physical}. Their rate difference is the
+ * rate of transactions that completed without touching the database.
+ */
+public class LazyConnectionDataSource extends LazyConnectionDataSourceProxy implements MeterBinder {
+
+    private final LongAdder logical = new LongAdder();
+    private final LongAdder physical = new LongAdder();
+
+    /**
+     * Creates a new {@code LazyConnectionDataSource} instance.
+     * <p>
+     * Default connection settings are probed once from {@code target}
+     * before counting starts.
+     *
+     * @param target pooled data source to borrow physical connections from
+     */
+    public LazyConnectionDataSource(DataSource target) {
+        super(target);
+        checkDefaultConnectionProperties();
+        setTargetDataSource(new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                physical.increment();
+                return super.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                physical.increment();
+                return super.getConnection(username, password);
+            }
+        });
+    }
+
+    /**
+     * Returns a logical connection.
+     *
+     * @return lazy connection proxy
+     * @throws SQLException never thrown before the first statement
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        logical.increment();
+        return super.getConnection();
+    }
+
+    /**
+     * Returns a logical connection for the given credentials.
+     *
+     * @param username database user
+     * @param password database password
+     * @return lazy connection proxy
+     * @throws SQLException never thrown before the first statement
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        logical.increment();
+        return super.getConnection(username, password);
+    }
+
+    /**
+     * Returns the number of logical connections handed out.
+     *
+     * @return logical connection count
+     */
+    public long logicalConnections() {
+        return logical.sum();
+    }
+
+    /**
+     * Returns the number of physical connections borrowed from the pool.
+     *
+     * @return physical connection count
+     */
+    public long physicalConnections() {
+        return physical.sum();
+    }
+
+    /**
+     * Registers connection counters.
+     *
+     * @param registry meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("app.datasource.connections.logical", this, LazyConnectionDataSource::logicalConnections)
+                .description("Logical connections opened, one per transaction or non-transactional statement")
+                .register(registry);
+        FunctionCounter.builder("app.datasource.connections.physical", this, LazyConnectionDataSource::physicalConnections)
+                .description("Physical connections borrowed from the pool on first statement")
+                .register(registry);
+    }
+}
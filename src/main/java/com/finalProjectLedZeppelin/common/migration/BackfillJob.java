@@ -0,0 +1,53 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+/**
+ * Large data migration executed by the {@link BackfillRunner} in small,
+ * throttled batches while the application keeps serving traffic.
+ * <p>
+ * A job walks the key range captured on its first run. Rows written
+ * afterwards must be kept current by other means, for example by the
+ * application itself or by a trigger. Every batch runs in the transaction
+ * that records its progress, so batches must be idempotent and a restarted
+ * job resumes after the last committed batch.
+ */
+public interface BackfillJob {
+
+    /**
+     * Returns the unique job name used to track progress.
+     *
+     * @return job name
+     */
+    String name();
+
+    /**
+     * Tells whether the scheduled runner should execute this job.
+     *
+     * @return {@code true} if the job is enabled
+     */
+    boolean enabled();
+
+    /**
+     * Returns the key range to process, evaluated once when the job starts.
+     *
+     * @return key range, or {@code null} if there is nothing to process
+     */
+    KeyRange keyRange();
+
+    /**
+     * Processes one key range inside the caller's transaction.
+     *
+     * @param from first key (inclusive)
+     * @param to   last key (inclusive)
+     * @return number of processed rows
+     */
+    int runBatch(long from, long to);
+
+    /**
+     * Inclusive key range of a backfill.
+     *
+     * @param from first key
+     * @param to   last key
+     */
+    record KeyRange(long from, long to) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Executes {@link BackfillJob}s in throttled, resumable batches.
+ * <p>
+ * Progress is kept in {@code backfill_progress}: the key range is fixed
+ * on the first run and every batch advances {@code next_key} in the same
+ * transaction that processed it. The progress row is locked with
+ * {@code FOR UPDATE SKIP LOCKED}, so with several instances only one of
+ * them works on a job at a time. A pause between batches leaves room for
+ * regular traffic, vacuum and replication.
+ * <p>
+ * Scheduled runs execute on a dedicated thread rather than on the shared
+ * scheduler thread, so a backfill lasting hours does not hold up the
+ * other {@code @Scheduled} jobs; a tick that finds the previous run still
+ * in progress does nothing.
+ * <p>
+ * Per job, {@code app.migrations.backfill.progress} reports the processed
+ * share of the key range, {@code app.migrations.backfill.rows} the
+ * processed rows and {@code app.migrations.backfill.batch} the batch
+ * durations.
+ */
+@Log4j2
+@Component
+public class BackfillRunner {
+
+    private final List<BackfillJob> jobs;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration pause;
+    private final Map<String, Progress> progress = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "backfill-runner");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Creates a new {@code BackfillRunner} instance.
+     *
+     * @param jobs               registered backfill jobs
+     * @param jdbcTemplate       JDBC template used to track progress
+     * @param transactionManager transaction manager used for per-batch transactions
+     * @param meterRegistry      registry used to publish progress metrics
+     * @param batchSize          width of the key range processed per transaction
+     * @param pause              pause between batches
+     */
+    public BackfillRunner(
+            List<BackfillJob> jobs,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.migrations.backfill.batch-size:5000}") int batchSize,
+            @Value("${app.migrations.backfill.pause:PT0.05S}") Duration pause
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.migrations.backfill.batch-size must be positive");
+        }
+        this.jobs = jobs;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        for (BackfillJob job : jobs) {
+            Gauge.builder("app.migrations.backfill.progress", progress, p -> ratio(p.get(job.name())))
+                    .description("Processed share of the backfill key range")
+                    .tag("job", job.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Starts a run of every enabled job that has not finished yet on the
+     * runner thread, unless the previous run is still in progress.
+     */
+    @Scheduled(fixedDelayString = "${app.migrations.backfill.poll-interval:PT1M}")
+    public void runPending() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runJobs();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Stops the runner thread; an interrupted job resumes after its last
+     * committed batch on the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs every enabled job that has not finished yet, one after the other.
+     * <p>
+     * A failing job is logged and does not stop the others; an interrupt
+     * stops the run.
+     */
+    private void runJobs() {
+        for (BackfillJob job : jobs) {
+            Progress p = progress.get(job.name());
+            if (!job.enabled() || (p != null && p.finished())) {
+                continue;
+            }
+            try {
+                run(job);
+            } catch (RuntimeException ex) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("Backfill stopped (job={})", job.name());
+                    return;
+                }
+                log.error("Backfill failed (job={})", job.name(), ex);
+            }
+        }
+    }
+
+    /**
+     * Runs a job until it finishes or another instance holds it.
+     * <p>
+     * The job runs even if it is disabled for the scheduler.
+     *
+     * @param job job to run
+     * @return number of rows processed by this call
+     */
+    public long run(BackfillJob job) {
+        if (!start(job)) {
+            return 0;
+        }
+        Counter rows = meterRegistry.counter("app.migrations.backfill.rows", "job", job.name());
+        Timer timer = meterRegistry.timer("app.migrations.backfill.batch", "job", job.name());
+        long processed = 0;
+        int batches = 0;
+        long startNanos = System.nanoTime();
+        while (true) {
+            long batchStart = System.nanoTime();
+            Batch batch = tx.execute(status -> step(job));
+            if (batch == null) {
+                log.info("Backfill is running elsewhere (job={})", job.name());
+                return processed;
+            }
+            timer.record(Duration.ofNanos(System.nanoTime() - batchStart));
+            rows.increment(batch.rows());
+            processed += batch.rows();
+            progress.put(job.name(), batch.progress());
+            if (batch.progress().finished()) {
+                log.info("Backfill finished (job={}, rows={}, tookMs={})",
+                        job.name(), processed, (System.nanoTime() - startNanos) / 1_000_000);
+                return processed;
+            }
+            if (++batches % 100 == 0) {
+                log.info("Backfill progress (job={}, nextKey={}, maxKey={}, rows={})",
+                        job.name(), batch.progress().next(), batch.progress().max(), processed);
+            }
+            sleep();
+        }
+    }
+
+    /**
+     * Records the key range of a job on its first run.
+     *
+     * @param job job to start
+     * @return {@code true} if the job has work left
+     */
+    private boolean start(BackfillJob job) {
+        List<Progress> existing = jdbcTemplate.query(
+                "SELECT min_key, next_key, max_key, finished_at IS NOT NULL AS finished FROM backfill_progress WHERE job = ?",
+                (rs, i) -> new Progress(rs.getLong("min_key"), rs.getLong("next_key"), rs.getLong("max_key"), rs.getBoolean("finished")),
+                job.name()
+        );
+        if (!existing.isEmpty()) {
+            progress.put(job.name(), existing.getFirst());
+            return !existing.getFirst().finished();
+        }
+        BackfillJob.KeyRange range = job.keyRange();
+        if (range == null) {
+            jdbcTemplate.update("""
+                    INSERT INTO backfill_progress (job, min_key, max_key, next_key, started_at, updated_at, finished_at)
+                    VALUES (?, 0, 0, 1, now(), now(), now())
+                    ON CONFLICT (job) DO NOTHING
+                    """, job.name());
+            log.info("Backfill has nothing to do (job={})", job.name());
+            progress.put(job.name(), new Progress(0, 1, 0, true));
+            return false;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO backfill_progress (job, min_key, max_key, next_key, started_at, updated_at)
+                VALUES (?, ?, ?, ?, now(), now())
+                ON CONFLICT (job) DO NOTHING
+                """, job.name(), range.from(), range.to(), range.from());
+        log.info("Backfill started (job={}, minKey={}, maxKey={}, batchSize={})",
+                job.name(), range.from(), range.to(), batchSize);
+        return true;
+    }
+
+    /**
+     * Processes the next batch of a job and records its progress.
+     *
+     * @param job job to advance
+     * @return processed batch, or {@code null} if another instance holds the job
+     */
+    private Batch step(BackfillJob job) {
+        List<Progress> locked = jdbcTemplate.query(
+                "SELECT min_key, next_key, max_key, finished_at IS NOT NULL AS finished FROM backfill_progress "
+                        + "WHERE job = ? FOR UPDATE SKIP LOCKED",
+                (rs, i) -> new Progress(rs.getLong("min_key"), rs.getLong("next_key"), rs.getLong("max_key"), rs.getBoolean("finished")),
+                job.name()
+        );
+        if (locked.isEmpty()) {
+            return null;
+        }
+        Progress current = locked.getFirst();
+        if (current.finished()) {
+            return new Batch(0, current);
+        }
+        long from = current.next();
+        long to = from > current.max() - batchSize ? current.max() : from + batchSize - 1;
+        int n = job.runBatch(from, to);
+        boolean finished = to >= current.max();
+        jdbcTemplate.update("""
+                UPDATE backfill_progress
+                SET next_key = ?, rows_done = rows_done + ?, updated_at = now(),
+                    finished_at = CASE WHEN ? THEN now() END
+                WHERE job = ?
+                """, to + 1, n, finished, job.name());
+        return new Batch(n, new Progress(current.min(), to + 1, current.max(), finished));
+    }
+
+    /**
+     * Computes the processed share of the key range of a job.
+     *
+     * @param p progress of the job; {@code null} if it has not started yet
+     * @return value between {@code 0} and {@code 1}
+     */
+    private static double ratio(Progress p) {
+        if (p == null) {
+            return 0;
+        }
+        if (p.finished()) {
+            return 1;
+        }
+        return (double) (p.next() - p.min()) / (p.max() - p.min() + 1);
+    }
+
+    /**
+     * Pauses between two batches so that a job does not saturate the database.
+     *
+     * @throws IllegalStateException if the runner thread is interrupted
+     */
+    private void sleep() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("Backfill interrupted");
+        }
+        if (pause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Backfill interrupted", ex);
+        }
+    }
+
+    private record Progress(long min, long next, long max, boolean finished) {
+    }
+
+    private record Batch(int rows, Progress progress) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.liquibase.autoconfigure.LiquibaseAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+
+/**
+ * Migration-only mode of the application, started with {@value #OPTION}.
+ * <p>
+ * Starts a minimal context with just the data source and Liquibase,
+ * applies the changelog with the regular {@code spring.liquibase.*}
+ * settings and exits. Intended for a pre-deploy job, so that application
+ * instances can start with {@code app.migrations.on-startup=verify}.
+ * The exit code is non-zero if the migration fails.
+ */
+@Log4j2
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, LiquibaseAutoConfiguration.class})
+public final class MigrateOnly {
+
+    /**
+     * Command-line option selecting this mode.
+     */
+    public static final String OPTION = "--migrate-only";
+
+    private MigrateOnly() {
+    }
+
+    /**
+     * Tells whether the migration-only mode was requested.
+     *
+     * @param args command-line arguments
+     * @return {@code true} if {@value #OPTION} is present
+     */
+    public static boolean requested(String[] args) {
+        return Arrays.asList(args).contains(OPTION);
+    }
+
+    /**
+     * Applies pending database migrations.
+     *
+     * @param args command-line arguments
+     * @return process exit code
+     */
+    public static int run(String[] args) {
+        long start = System.nanoTime();
+        SpringApplication app = new SpringApplication(MigrateOnly.class);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        try (ConfigurableApplicationContext context = app.run(args)) {
+            log.info("Database migration finished (tookMs={})", (System.nanoTime() - start) / 1_000_000);
+            return SpringApplication.exit(context);
+        }
+    }
+}
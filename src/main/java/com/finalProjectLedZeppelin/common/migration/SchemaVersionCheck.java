@@ -0,0 +1,144 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.change.CheckSum;
+import liquibase.changelog.ChangeSet;
+import liquibase.changelog.DatabaseChangeLog;
+import liquibase.changelog.filter.ChangeSetFilter;
+import liquibase.changelog.filter.ContextChangeSetFilter;
+import liquibase.changelog.filter.DbmsChangeSetFilter;
+import liquibase.changelog.filter.LabelChangeSetFilter;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import liquibase.integration.spring.SpringResourceAccessor;
+import lombok.extern.log4j.Log4j2;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Startup check that the database schema is up to date.
+ * <p>
+ * Used instead of running Liquibase on every boot when migrations are
+ * applied by a separate {@code --migrate-only} job. The check parses the
+ * changelog and compares it with {@code databasechangelog} in a single
+ * read, without taking the Liquibase lock or creating any table, so
+ * instances starting in parallel do not wait for each other and an
+ * unmigrated database is left untouched.
+ */
+@Log4j2
+public final class SchemaVersionCheck {
+
+    private static final String CHANGELOG_TABLE = "databasechangelog";
+
+    private SchemaVersionCheck() {
+    }
+
+    /**
+     * Fails if any change set of the given Liquibase configuration has not
+     * been applied or was modified after being applied.
+     *
+     * @param config Liquibase configuration of the application
+     * @throws IllegalStateException if the schema is not up to date or cannot be checked
+     */
+    public static void verify(SpringLiquibase config) {
+        long start = System.nanoTime();
+        List<ChangeSet> pending = new ArrayList<>();
+        List<ChangeSet> modified = new ArrayList<>();
+        try (Connection connection = config.getDataSource().getConnection()) {
+            Map<String, String> applied = applied(connection);
+            Database database = DatabaseFactory.getInstance()
+                    .findCorrectDatabaseImplementation(new JdbcConnection(connection));
+            Liquibase liquibase = new Liquibase(config.getChangeLog(), new SpringResourceAccessor(config.getResourceLoader()), database);
+            DatabaseChangeLog changeLog = liquibase.getDatabaseChangeLog();
+            List<ChangeSetFilter> filters = List.of(
+                    new ContextChangeSetFilter(new Contexts(config.getContexts())),
+                    new LabelChangeSetFilter(new LabelExpression(config.getLabelFilter())),
+                    new DbmsChangeSetFilter(database)
+            );
+            for (ChangeSet changeSet : changeLog.getChangeSets()) {
+                if (!filters.stream().allMatch(f -> f.accepts(changeSet).isAccepted())) {
+                    continue;
+                }
+                String key = key(changeSet.getId(), changeSet.getAuthor(), changeSet.getStoredFilePath());
+                if (!applied.containsKey(key)) {
+                    pending.add(changeSet);
+                    continue;
+                }
+                String checkSum = applied.get(key);
+                if (checkSum != null && !changeSet.isCheckSumValid(CheckSum.parse(checkSum))) {
+                    (changeSet.isRunOnChange() ? pending : modified).add(changeSet);
+                }
+            }
+        } catch (SQLException | LiquibaseException ex) {
+            throw new IllegalStateException("Database schema check failed: " + ex.getMessage(), ex);
+        }
+        if (!modified.isEmpty()) {
+            ChangeSet first = modified.getFirst();
+            log.error("Database schema differs from the changelog (modified={}, first={}::{})",
+                    modified.size(), first.getFilePath(), first.getId());
+            throw new IllegalStateException(modified.size() + " applied change set(s) were modified afterwards, starting with "
+                    + first.getId() + "; restore them and add a new change set instead");
+        }
+        if (!pending.isEmpty()) {
+            ChangeSet first = pending.getFirst();
+            log.error("Database schema is not up to date (pending={}, first={}::{})",
+                    pending.size(), first.getFilePath(), first.getId());
+            throw new IllegalStateException("Database schema is missing " + pending.size()
+                    + " change set(s), starting with " + first.getId() + "; run the application with "
+                    + MigrateOnly.OPTION + " first");
+        }
+        log.info("Database schema is up to date (tookMs={})", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reads the checksums of applied change sets.
+     *
+     * @param connection connection to the application database
+     * @return checksum by change set key; empty if no migration has run yet
+     * @throws SQLException if the change log table cannot be read
+     */
+    private static Map<String, String> applied(Connection connection) throws SQLException {
+        Map<String, String> applied = new HashMap<>();
+        try (Statement st = connection.createStatement()) {
+            try (ResultSet rs = st.executeQuery("SELECT to_regclass('" + CHANGELOG_TABLE + "') IS NOT NULL")) {
+                if (!rs.next() || !rs.getBoolean(1)) {
+                    return applied;
+                }
+            }
+            try (ResultSet rs = st.executeQuery("SELECT id, author, filename, md5sum FROM " + CHANGELOG_TABLE)) {
+                while (rs.next()) {
+                    applied.put(key(rs.getString("id"), rs.getString("author"), rs.getString("filename")), rs.getString("md5sum"));
+                }
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Builds the key identifying a change set, as Liquibase does.
+     * <p>
+     * The file path is normalized and compared case-insensitively, so a
+     * change set applied from a differently spelled path still matches.
+     *
+     * @param id       change set identifier
+     * @param author   change set author
+     * @param filePath path of the change log file that declares the change set
+     * @return change set key
+     */
+    private static String key(String id, String author, String filePath) {
+        return id + "::" + author + "::" + DatabaseChangeLog.normalizePath(filePath).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,88 @@
+package com.finalProjectLedZeppelin.common.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Guardrails for paginated listings.
+ * <p>
+ * Each listing endpoint declares its largest page size and the properties
+ * it may be sorted by, which are the ones backed by an index. Anything
+ * else is rejected before a query runs, so a single client cannot make
+ * the database sort a whole table or make the application hold a huge
+ * page in memory.
+ * <p>
+ * Rejections are logged and counted in {@code app.http.pageable.rejected},
+ * tagged by endpoint and reason. Sizes above
+ * {@code spring.data.web.pageable.max-page-size} are clamped by Spring
+ * before they get here, and are still rejected as long as the endpoint
+ * limit is lower.
+ */
+@Log4j2
+@Component
+public class PageGuard {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates a new {@code PageGuard} instance.
+     *
+     * @param meterRegistry registry the rejection counters are published to
+     */
+    public PageGuard(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Checks the page size and sort of a listing request.
+     *
+     * @param endpoint    name of the endpoint, used in logs and metrics
+     * @param pageable    requested page
+     * @param maxPageSize largest allowed page size
+     * @param sortable    properties the listing may be sorted by
+     * @throws IllegalArgumentException if the page is too large or sorted by another property
+     */
+    public void check(String endpoint, Pageable pageable, int maxPageSize, Set<String> sortable) {
+        if (pageable.isUnpaged() || pageable.getPageSize() > maxPageSize) {
+            reject(endpoint, "size", pageable);
+            throw new IllegalArgumentException("Page size must not exceed " + maxPageSize);
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!sortable.contains(order.getProperty())) {
+                reject(endpoint, "sort", pageable);
+                throw new IllegalArgumentException("Sorting by '" + order.getProperty()
+                        + "' is not supported; sortable properties: " + String.join(", ", new TreeSet<>(sortable)));
+            }
+        }
+    }
+
+    /**
+     * Logs and counts a rejected listing request.
+     * <p>
+     * The caller throws the error returned to the client.
+     *
+     * @param endpoint name of the endpoint
+     * @param reason   rejection reason, {@code size} or {@code sort}
+     * @param pageable requested page
+     */
+    private void reject(String endpoint, String reason, Pageable pageable) {
+        log.warn("Listing request rejected (endpoint={}, reason={}, page={}, size={}, sort={})",
+                endpoint, reason,
+                pageable.isPaged() ? pageable.getPageNumber() : null,
+                pageable.isPaged() ? pageable.getPageSize() : null,
+                pageable.getSort());
+        Counter.builder("app.http.pageable.rejected")
+                .description("Listing requests rejected for their page size or sort")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
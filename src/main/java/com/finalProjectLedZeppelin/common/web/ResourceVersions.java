@@ -0,0 +1,175 @@
+package com.finalProjectLedZeppelin.common.web;
+
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cluster-wide version stamps for cacheable collection resources.
+ * <p>
+ * Each scope is backed by a PostgreSQL sequence. Sequences are shared by all
+ * application instances and are not subject to row locking, so bumping a
+ * stamp never serializes concurrent writers, and reading one is a single
+ * lookup on a one-row relation.
+ * <p>
+ * Stamps are bumped only after the originating transaction commits. Callers
+ * building validators must read the stamp <em>before</em> loading the data
+ * they describe: a response may then carry an older stamp than its content,
+ * which costs at most one extra full response, but never a newer one, which
+ * would let a client keep stale data.
+ * <p>
+ * If a bump fails, the scope is marked unbumped: until a later bump
+ * succeeds, {@link #current} returns a fresh stamp on every call, so
+ * responses of the scope cannot be revalidated and clients always receive
+ * the full content instead of a stale {@code 304}.
+ */
+@Log4j2
+@Component
+public class ResourceVersions {
+
+    /**
+     * Versioned collection scopes.
+     */
+    public enum Scope {
+
+        /**
+         * Task listings ({@code /api/tasks}).
+         */
+        TASKS("task_list_version_seq"),
+
+        /**
+         * Administrative user listings ({@code /api/admin/users}).
+         */
+        USERS("user_list_version_seq");
+
+        private final String sequence;
+
+        Scope(String sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<Scope> unbumped = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new {@code ResourceVersions} instance.
+     *
+     * @param jdbcTemplate JDBC template used to access the version sequences
+     */
+    public ResourceVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Returns the current version of the given scope.
+     * <p>
+     * If the last bump of the scope failed, it is retried first; while it
+     * keeps failing, a random negative stamp is returned that matches no
+     * previously issued validator.
+     *
+     * @param scope collection scope
+     * @return current version stamp
+     */
+    public long current(Scope scope) {
+        if (unbumped.contains(scope) && !tryBump(scope)) {
+            return -1 - ThreadLocalRandom.current().nextLong(Long.MAX_VALUE);
+        }
+        Long v = jdbcTemplate.queryForObject(
+                "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM " + scope.sequence, Long.class
+        );
+        return v != null ? v : 0L;
+    }
+
+    /**
+     * Advances the version of the given scope.
+     * <p>
+     * The change being announced has already been committed, so a failure
+     * is not propagated; instead the scope is marked unbumped and cannot be
+     * revalidated until a later bump succeeds.
+     *
+     * @param scope collection scope
+     */
+    public void bump(Scope scope) {
+        tryBump(scope);
+    }
+
+    /**
+     * Advances the version of the given scope, recording whether it succeeded.
+     *
+     * @param scope collection scope
+     * @return {@code true} if the version was advanced
+     */
+    private boolean tryBump(Scope scope) {
+        try {
+            jdbcTemplate.queryForObject("SELECT nextval('" + scope.sequence + "')", Long.class);
+            unbumped.remove(scope);
+            return true;
+        } catch (RuntimeException ex) {
+            unbumped.add(scope);
+            log.warn("Resource version bump failed, validators disabled (scope={}, error={})",
+                    scope, ex.getClass().getSimpleName());
+            return false;
+        }
+    }
+
+    /**
+     * Builds a strong entity tag for a collection response.
+     *
+     * @param scope   collection scope
+     * @param version version stamp read before loading the response data
+     * @param variant everything else the response depends on, such as the
+     *                caller identity and the query string
+     * @return quoted entity tag
+     */
+    public static String listEtag(Scope scope, long version, String variant) {
+        return "\"" + scope.name().toLowerCase(Locale.ROOT) + "-" + version + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    /**
+     * Invalidates task listings after a committed task change.
+     *
+     * @param event task change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        log.trace("Resource version bump (scope=TASKS, taskId={})", event.taskId());
+        bump(Scope.TASKS);
+    }
+
+    /**
+     * Invalidates task listings once after a committed batch of task changes.
+     *
+     * @param event task batch change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksChanged(TaskBatchChangedEvent event) {
+        log.trace("Resource version bump (scope=TASKS, count={})", event.changes().size());
+        bump(Scope.TASKS);
+    }
+
+    /**
+     * Invalidates user listings after a committed user change.
+     * <p>
+     * Task listings embed assignee emails, so they are invalidated as well.
+     *
+     * @param event user change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.trace("Resource version bump (scope=USERS, userId={})", event.userId());
+        bump(Scope.USERS);
+        if (event.type() == UserChangedEvent.Type.DELETED) {
+            bump(Scope.TASKS);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.finalProjectLedZeppelin.config;
+
+import com.finalProjectLedZeppelin.common.jdbc.LazyConnectionDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the primary data source in a {@link LazyConnectionDataSource}.
+ * <p>
+ * Enabled by default; set {@code app.datasource.lazy-connections=false}
+ * to hand out pooled connections directly.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.lazy-connections", havingValue = "true", matchIfMissing = true)
+public class DataSourceConfig {
+
+    /**
+     * Wraps the auto-configured {@code dataSource} bean.
+     *
+     * @return bean post processor
+     */
+    @Bean
+    static BeanPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource ds && !(bean instanceof LazyConnectionDataSource)) {
+                    log.info("Lazy connection acquisition enabled for data source");
+                    return new LazyConnectionDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Publishes logical and physical connection counters.
+     *
+     * @param dataSource primary data source
+     * @return meter binder
+     */
+    @Bean
+    MeterBinder lazyConnectionMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> dataSource.ifAvailable(ds -> {
+            if (ds instanceof LazyConnectionDataSource lazy) {
+                lazy.bindTo(registry);
+            }
+        });
+    }
+}
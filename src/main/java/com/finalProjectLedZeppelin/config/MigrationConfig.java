@@ -0,0 +1,44 @@
+package com.finalProjectLedZeppelin.config;
+
+import com.finalProjectLedZeppelin.common.migration.SchemaVersionCheck;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces the startup migration with a schema version check.
+ * <p>
+ * Active with {@code app.migrations.on-startup=verify}, when migrations
+ * are applied by a separate run with {@code --migrate-only}. The
+ * auto-configured Liquibase bean is kept, so everything that depends on
+ * the schema is still initialized after it, but it only verifies that
+ * no change set is pending.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "app.migrations.on-startup", havingValue = "verify")
+public class MigrationConfig {
+
+    /**
+     * Switches the auto-configured Liquibase bean to verification.
+     *
+     * @return bean post processor
+     */
+    @Bean
+    static BeanPostProcessor schemaVersionCheckPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SpringLiquibase liquibase) {
+                    log.info("Startup migration disabled; verifying schema version");
+                    liquibase.setShouldRun(false);
+                    SchemaVersionCheck.verify(liquibase);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -4,6 +4,7 @@ import com.finalProjectLedZeppelin.auth.jwt.JwtService;
 import com.finalProjectLedZeppelin.common.error.ApiError;
 import com.finalProjectLedZeppelin.common.logging.RequestIdMdcFilter;
 import com.finalProjectLedZeppelin.common.logging.UserIdMdcFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Bean;
@@ -114,6 +115,8 @@ public class SecurityConfig {
      * <p>
      * Applies JWT-based authentication, disables sessions, and allows
      * unauthenticated access only to public authentication endpoints.
+     * Async dispatches (completion of streaming responses) are permitted,
+     * since the originating request has already been authorized.
      *
      * @param http               HTTP security configuration
      * @param jwtService         service used to validate JWT tokens
@@ -138,6 +141,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(reg -> reg
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .anyRequest().authenticated()
@@ -0,0 +1,58 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Map;
+
+/**
+ * Single operation of a task batch.
+ * <p>
+ * {@code op} selects the operation; the body field matching it carries the
+ * same request as the corresponding task endpoint and is validated the
+ * same way. Other body fields must be omitted.
+ *
+ * @param op      operation to perform
+ * @param taskId  identifier of the task; required for every operation except {@link Op#CREATE}
+ * @param version task version the change is based on, as with an {@code If-Match} header; may be null
+ * @param create  body of a {@link Op#CREATE} operation
+ * @param update  body of an {@link Op#UPDATE} operation
+ * @param patch   merge patch document of a {@link Op#PATCH} operation
+ * @param status  body of a {@link Op#STATUS} operation
+ */
+public record TaskBatchOperation(
+        @NotNull Op op,
+        Long taskId,
+        Long version,
+        @Valid TaskCreateRequest create,
+        @Valid TaskUpdateRequest update,
+        Map<String, Object> patch,
+        @Valid TaskStatusUpdateRequest status
+) {
+
+    /**
+     * Operation types, each mirroring a task endpoint.
+     */
+    public enum Op {
+        /**
+         * Creates a task, like {@code POST /api/tasks}.
+         */
+        CREATE,
+        /**
+         * Replaces task fields, like {@code PUT /api/tasks/{id}}.
+         */
+        UPDATE,
+        /**
+         * Partially updates a task, like {@code PATCH /api/tasks/{id}}.
+         */
+        PATCH,
+        /**
+         * Changes the task status, like {@code PATCH /api/tasks/{id}/status}.
+         */
+        STATUS,
+        /**
+         * Deletes a task, like {@code DELETE /api/tasks/{id}}.
+         */
+        DELETE
+    }
+}
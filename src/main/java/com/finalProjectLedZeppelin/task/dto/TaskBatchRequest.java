@@ -0,0 +1,33 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Request object of a task batch.
+ * <p>
+ * Operations are applied in order. An atomic batch runs in a single
+ * transaction and is rolled back as a whole if any operation fails;
+ * otherwise each operation commits on its own and failures do not affect
+ * the others.
+ *
+ * @param operations operations to apply, in order
+ * @param atomic     whether the batch is applied all or nothing; defaults to {@code true}
+ */
+public record TaskBatchRequest(
+        @NotEmpty List<@NotNull @Valid TaskBatchOperation> operations,
+        Boolean atomic
+) {
+
+    /**
+     * Applies defaults to omitted members.
+     */
+    public TaskBatchRequest {
+        if (atomic == null) {
+            atomic = true;
+        }
+    }
+}
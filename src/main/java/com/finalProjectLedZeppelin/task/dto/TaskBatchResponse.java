@@ -0,0 +1,15 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.util.List;
+
+/**
+ * Response object of a task batch.
+ *
+ * @param committed whether every operation succeeded and was committed
+ * @param results   outcome of each operation, in request order
+ */
+public record TaskBatchResponse(
+        boolean committed,
+        List<TaskBatchResult> results
+) {
+}
@@ -0,0 +1,22 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+/**
+ * Outcome of a single operation of a task batch.
+ * <p>
+ * {@code status} is the HTTP status the corresponding task endpoint would
+ * have answered with. Operations of an atomic batch that were rolled back
+ * or not attempted because another operation failed report
+ * {@code 424 Failed Dependency}.
+ *
+ * @param index  position of the operation in the request
+ * @param status HTTP status code of the operation
+ * @param task   resulting task; {@code null} for deletions and failures
+ * @param error  error message; {@code null} on success
+ */
+public record TaskBatchResult(
+        int index,
+        int status,
+        TaskResponse task,
+        String error
+) {
+}
@@ -0,0 +1,24 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.util.List;
+
+/**
+ * Response object of a delta sync request.
+ * <p>
+ * Clients apply {@code removedIds} before upserting {@code tasks}, then
+ * store {@code token} and pass it as {@code since} on the next request.
+ *
+ * @param tasks      tasks created or modified since the previous token
+ * @param removedIds identifiers of tasks deleted or reassigned away since the previous token
+ * @param token      opaque watermark to resume from
+ * @param hasMore    whether more changes are immediately available
+ * @param reset      whether the client must discard its local copy before applying this response
+ */
+public record TaskChangesResponse(
+        List<TaskResponse> tasks,
+        List<Long> removedIds,
+        String token,
+        boolean hasMore,
+        boolean reset
+) {
+}
@@ -0,0 +1,47 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Request to claim the next unassigned task.
+ * <p>
+ * All components are optional; an empty request claims the most urgent
+ * open task without a lease.
+ *
+ * @param status       optional status the task must have; must not be {@code DONE}
+ * @param deadlineFrom optional earliest deadline (inclusive)
+ * @param deadlineTo   optional latest deadline (inclusive)
+ * @param order        which task to claim first; {@link Order#URGENT} if {@code null}
+ * @param lease        optional lease duration; the task is handed back if it is
+ *                     still {@code TODO} when the lease expires
+ */
+public record TaskClaimRequest(
+        TaskStatus status,
+        LocalDate deadlineFrom,
+        LocalDate deadlineTo,
+        Order order,
+        Duration lease
+) {
+
+    /**
+     * Request claiming any open task without a lease.
+     */
+    public static final TaskClaimRequest ANY = new TaskClaimRequest(null, null, null, null, null);
+
+    /**
+     * Order in which unassigned tasks are claimed.
+     */
+    public enum Order {
+        /**
+         * Earliest deadline first; tasks without a deadline last.
+         */
+        URGENT,
+        /**
+         * Earliest created first.
+         */
+        OLDEST
+    }
+}
@@ -0,0 +1,15 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.time.Instant;
+
+/**
+ * Task claimed from the pool of unassigned tasks.
+ *
+ * @param task           claimed task, now assigned to the caller
+ * @param leaseExpiresAt end of the lease, or {@code null} if the claim does not expire
+ */
+public record TaskClaimResponse(
+        TaskResponse task,
+        Instant leaseExpiresAt
+) {
+}
@@ -0,0 +1,38 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Deadline window selected by the {@code overdue} and {@code dueWithin}
+ * listing filters.
+ * <p>
+ * Both filters select open tasks, that is tasks not in status
+ * {@code DONE}: {@code overdue} those with a deadline before today,
+ * {@code dueWithin} those due from today until today plus the period,
+ * inclusive. Together they select both.
+ *
+ * @param from   first deadline (inclusive), or {@code null} for no lower bound
+ * @param before end of the window (exclusive)
+ */
+public record TaskDueWindow(LocalDate from, LocalDate before) {
+
+    /**
+     * Builds the window of the given filters.
+     *
+     * @param overdue   whether overdue tasks are selected
+     * @param dueWithin optional period after today in which selected tasks are due
+     * @param today     current date
+     * @return deadline window, or {@code null} if neither filter is set
+     * @throws IllegalArgumentException if {@code dueWithin} is negative
+     */
+    public static TaskDueWindow of(boolean overdue, Period dueWithin, LocalDate today) {
+        if (dueWithin != null && dueWithin.isNegative()) {
+            throw new IllegalArgumentException("dueWithin must not be negative");
+        }
+        if (dueWithin == null) {
+            return overdue ? new TaskDueWindow(null, today) : null;
+        }
+        return new TaskDueWindow(overdue ? null : today, today.plus(dueWithin).plusDays(1));
+    }
+}
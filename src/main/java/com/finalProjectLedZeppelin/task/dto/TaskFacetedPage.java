@@ -0,0 +1,37 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Page of a task listing together with its facet counts.
+ * <p>
+ * Serialized like any other page, with an additional {@code facets}
+ * member, so clients that ignore facets read it unchanged.
+ *
+ * @param <T> type of the listed tasks
+ */
+public class TaskFacetedPage<T> extends PageImpl<T> {
+
+    private final TaskFacets facets;
+
+    /**
+     * Creates a new {@code TaskFacetedPage} instance.
+     *
+     * @param page   listed page
+     * @param facets facet counts under the listing filters
+     */
+    public TaskFacetedPage(Page<T> page, TaskFacets facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+    /**
+     * Returns the facet counts of the listing.
+     *
+     * @return facet counts
+     */
+    public TaskFacets getFacets() {
+        return facets;
+    }
+}
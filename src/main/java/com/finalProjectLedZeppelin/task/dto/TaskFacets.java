@@ -0,0 +1,92 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Facet counts of a task listing, requested with the {@code facets}
+ * query parameter.
+ * <p>
+ * Each facet counts the tasks matching every filter of the listing except
+ * its own, so the status facet shows how many tasks each status would
+ * list under the current deadline filter. Facets that were not requested
+ * are {@code null}.
+ * <p>
+ * Counting stops after a configured number of tasks; {@code capped} is
+ * then {@code true} and the counts cover only the tasks read so far.
+ *
+ * @param status   number of tasks per status, or {@code null} if not requested
+ * @param assignee number of tasks per assignee, largest first, or {@code null} if not requested
+ * @param capped   whether counting stopped before all matching tasks were read
+ */
+public record TaskFacets(
+        Map<TaskStatus, Long> status,
+        List<AssigneeCount> assignee,
+        boolean capped
+) {
+
+    /**
+     * Facets that can be requested.
+     */
+    public enum Facet {
+        STATUS("status"),
+        ASSIGNEE("assignee");
+
+        private final String param;
+
+        Facet(String param) {
+            this.param = param;
+        }
+
+        /**
+         * Resolves a facet by its parameter name.
+         *
+         * @param name parameter name
+         * @return matching facet
+         * @throws IllegalArgumentException if no facet has that name
+         */
+        public static Facet of(String name) {
+            for (Facet f : values()) {
+                if (f.param.equals(name)) {
+                    return f;
+                }
+            }
+            throw new IllegalArgumentException("Unknown task facet: " + name);
+        }
+    }
+
+    /**
+     * Number of tasks of one assignee.
+     *
+     * @param assigneeId    identifier of the assignee; {@code null} for unassigned tasks
+     * @param assigneeEmail email of the assignee; {@code null} for unassigned tasks
+     * @param count         number of tasks
+     */
+    public record AssigneeCount(Long assigneeId, String assigneeEmail, long count) {
+    }
+
+    /**
+     * Parses the {@code facets} query parameter.
+     *
+     * @param value comma-separated facet names
+     * @return requested facets
+     * @throws IllegalArgumentException if the value names an unknown facet or none at all
+     */
+    public static Set<Facet> parse(String value) {
+        Set<Facet> facets = Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Facet::of)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Facet.class)));
+        if (facets.isEmpty()) {
+            throw new IllegalArgumentException("facets must name at least one facet");
+        }
+        return facets;
+    }
+}
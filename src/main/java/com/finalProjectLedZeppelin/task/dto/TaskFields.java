@@ -0,0 +1,172 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldset of a task read, selected with the {@code fields} query
+ * parameter.
+ * <p>
+ * The parameter is a comma-separated list of {@link TaskResponse} member
+ * names, or one of the named views {@value #SUMMARY} (everything but the
+ * description) and {@value #FULL}. Only the selected fields are read from
+ * the database and written to the response.
+ *
+ * @param fields selected fields
+ */
+public record TaskFields(Set<Field> fields) {
+
+    /**
+     * Name of the view with every field except the description.
+     */
+    public static final String SUMMARY = "summary";
+
+    /**
+     * Name of the view with every field.
+     */
+    public static final String FULL = "full";
+
+    /**
+     * Every field except the description.
+     */
+    public static final TaskFields SUMMARY_FIELDS = new TaskFields(EnumSet.complementOf(EnumSet.of(Field.DESCRIPTION)));
+
+    /**
+     * Every field.
+     */
+    public static final TaskFields FULL_FIELDS = new TaskFields(EnumSet.allOf(Field.class));
+
+    /**
+     * Task fields, in response order.
+     */
+    public enum Field {
+        ID("id"),
+        ASSIGNEE_ID("assigneeId"),
+        ASSIGNEE_EMAIL("assigneeEmail"),
+        TITLE("title"),
+        DESCRIPTION("description"),
+        STATUS("status"),
+        DEADLINE("deadline"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt"),
+        VERSION("version");
+
+        private final String json;
+
+        Field(String json) {
+            this.json = json;
+        }
+
+        /**
+         * Returns the member name of the field in task responses.
+         *
+         * @return JSON member name
+         */
+        public String json() {
+            return json;
+        }
+
+        /**
+         * Resolves a field by its JSON member name.
+         *
+         * @param name JSON member name
+         * @return matching field
+         * @throws IllegalArgumentException if no field has that name
+         */
+        public static Field of(String name) {
+            for (Field f : values()) {
+                if (f.json.equals(name)) {
+                    return f;
+                }
+            }
+            throw new IllegalArgumentException("Unknown task field: " + name);
+        }
+    }
+
+    /**
+     * Creates a fieldset, keeping an unmodifiable ordered copy.
+     *
+     * @param fields selected fields; must not be empty
+     */
+    public TaskFields {
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields must select at least one field");
+        }
+        fields = Collections.unmodifiableSet(EnumSet.copyOf(fields));
+    }
+
+    /**
+     * Parses the {@code fields} query parameter.
+     *
+     * @param value raw parameter value
+     * @return parsed fieldset
+     * @throws IllegalArgumentException if the value names an unknown field or view
+     */
+    public static TaskFields parse(String value) {
+        String v = value == null ? "" : value.trim();
+        if (v.equals(SUMMARY)) {
+            return SUMMARY_FIELDS;
+        }
+        if (v.equals(FULL)) {
+            return FULL_FIELDS;
+        }
+        return new TaskFields(Arrays.stream(v.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Field::of)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(Field.class))));
+    }
+
+    /**
+     * Tells whether a field is selected.
+     *
+     * @param field field to check
+     * @return {@code true} if selected
+     */
+    public boolean has(Field field) {
+        return fields.contains(field);
+    }
+
+    /**
+     * Restricts a full task representation to the selected fields.
+     * <p>
+     * Used where the task is not read with a projection, such as archived
+     * or sharded tasks.
+     *
+     * @param t task representation
+     * @return selected members, in response order
+     */
+    public Map<String, Object> project(TaskResponse t) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        for (Field f : fields) {
+            out.put(f.json, switch (f) {
+                case ID -> t.id();
+                case ASSIGNEE_ID -> t.assigneeId();
+                case ASSIGNEE_EMAIL -> t.assigneeEmail();
+                case TITLE -> t.title();
+                case DESCRIPTION -> t.description();
+                case STATUS -> t.status();
+                case DEADLINE -> t.deadline();
+                case CREATED_AT -> t.createdAt();
+                case UPDATED_AT -> t.updatedAt();
+                case VERSION -> t.version();
+            });
+        }
+        return out;
+    }
+
+    /**
+     * Returns the canonical parameter value of this fieldset.
+     *
+     * @return comma-separated JSON member names
+     */
+    @Override
+    public String toString() {
+        return fields.stream().map(Field::json).collect(Collectors.joining(","));
+    }
+}
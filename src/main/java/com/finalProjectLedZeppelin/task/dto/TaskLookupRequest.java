@@ -0,0 +1,19 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request to resolve many tasks by identifier.
+ *
+ * @param ids identifiers of the tasks; duplicates are resolved once
+ */
+public record TaskLookupRequest(
+        @NotEmpty
+        @Size(max = 500)
+        List<@NotNull Long> ids
+) {
+}
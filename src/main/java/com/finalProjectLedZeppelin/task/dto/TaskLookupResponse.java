@@ -0,0 +1,13 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import java.util.List;
+
+/**
+ * Response of a task lookup.
+ *
+ * @param results outcome of each distinct requested identifier, in request order
+ */
+public record TaskLookupResponse(
+        List<TaskLookupResult> results
+) {
+}
@@ -0,0 +1,63 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+/**
+ * Outcome of resolving a single task identifier of a lookup.
+ *
+ * @param id      requested task identifier
+ * @param outcome whether the task was found and may be read
+ * @param task    task representation; {@code null} unless found
+ */
+public record TaskLookupResult(
+        Long id,
+        Outcome outcome,
+        TaskResponse task
+) {
+
+    /**
+     * Outcomes of resolving a task identifier.
+     */
+    public enum Outcome {
+        /**
+         * The task exists and the caller may read it.
+         */
+        FOUND,
+        /**
+         * The task exists but is not assigned to the caller.
+         */
+        FORBIDDEN,
+        /**
+         * No live task has this identifier, or it is not visible to the caller.
+         */
+        MISSING
+    }
+
+    /**
+     * Creates the result of a task that may be read.
+     *
+     * @param task task representation
+     * @return found result
+     */
+    public static TaskLookupResult found(TaskResponse task) {
+        return new TaskLookupResult(task.id(), Outcome.FOUND, task);
+    }
+
+    /**
+     * Creates the result of a task the caller may not read.
+     *
+     * @param id task identifier
+     * @return forbidden result
+     */
+    public static TaskLookupResult forbidden(Long id) {
+        return new TaskLookupResult(id, Outcome.FORBIDDEN, null);
+    }
+
+    /**
+     * Creates the result of an identifier without a task.
+     *
+     * @param id task identifier
+     * @return missing result
+     */
+    public static TaskLookupResult missing(Long id) {
+        return new TaskLookupResult(id, Outcome.MISSING, null);
+    }
+}
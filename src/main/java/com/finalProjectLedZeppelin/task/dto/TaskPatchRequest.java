@@ -0,0 +1,116 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Partial task update following JSON Merge Patch (RFC 7396) semantics.
+ * <p>
+ * Only members present in the patch document are applied. An explicit
+ * {@code null} clears nullable fields (description, deadline, assignee);
+ * absent members leave the stored value untouched.
+ *
+ * @param hasTitle       whether {@code title} is present
+ * @param title          new title; non-blank and no longer than 200 characters
+ * @param hasDescription whether {@code description} is present
+ * @param description    new description; may be null and must not exceed 5000 characters
+ * @param hasStatus      whether {@code status} is present
+ * @param status         new status; must not be null when present
+ * @param hasDeadline    whether {@code deadline} is present
+ * @param deadline       new deadline; may be null
+ * @param hasAssigneeId  whether {@code assigneeId} is present
+ * @param assigneeId     new assignee identifier; {@code null} unassigns the task
+ */
+public record TaskPatchRequest(
+        boolean hasTitle, String title,
+        boolean hasDescription, String description,
+        boolean hasStatus, TaskStatus status,
+        boolean hasDeadline, LocalDate deadline,
+        boolean hasAssigneeId, Long assigneeId
+) {
+
+    private static final Set<String> FIELDS = Set.of("title", "description", "status", "deadline", "assigneeId");
+
+    /**
+     * Parses and validates a merge patch document.
+     *
+     * @param patch deserialized JSON object
+     * @return validated patch request
+     * @throws IllegalArgumentException if the document contains unknown members or invalid values
+     */
+    public static TaskPatchRequest fromMergePatch(Map<String, Object> patch) {
+        if (patch == null) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        for (String key : patch.keySet()) {
+            if (!FIELDS.contains(key)) {
+                throw new IllegalArgumentException("Unknown field: " + key);
+            }
+        }
+        String title = null;
+        if (patch.containsKey("title")) {
+            title = string(patch, "title");
+            if (title == null || title.isBlank()) {
+                throw new IllegalArgumentException("title: must not be blank");
+            }
+            if (title.length() > 200) {
+                throw new IllegalArgumentException("title: size must be between 0 and 200");
+            }
+        }
+        String description = string(patch, "description");
+        if (description != null && description.length() > 5000) {
+            throw new IllegalArgumentException("description: size must be between 0 and 5000");
+        }
+        TaskStatus status = null;
+        if (patch.containsKey("status")) {
+            String raw = string(patch, "status");
+            if (raw == null) {
+                throw new IllegalArgumentException("status: must not be null");
+            }
+            try {
+                status = TaskStatus.valueOf(raw);
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("status: invalid value " + raw);
+            }
+        }
+        LocalDate deadline = null;
+        String rawDeadline = string(patch, "deadline");
+        if (rawDeadline != null) {
+            try {
+                deadline = LocalDate.parse(rawDeadline);
+            } catch (DateTimeParseException ex) {
+                throw new IllegalArgumentException("deadline: invalid date " + rawDeadline);
+            }
+        }
+        Long assigneeId = null;
+        Object rawAssignee = patch.get("assigneeId");
+        if (rawAssignee != null) {
+            if (!(rawAssignee instanceof Integer || rawAssignee instanceof Long)) {
+                throw new IllegalArgumentException("assigneeId: must be an integer");
+            }
+            assigneeId = ((Number) rawAssignee).longValue();
+        }
+        return new TaskPatchRequest(
+                patch.containsKey("title"), title,
+                patch.containsKey("description"), description,
+                patch.containsKey("status"), status,
+                patch.containsKey("deadline"), deadline,
+                patch.containsKey("assigneeId"), assigneeId
+        );
+    }
+
+    private static String string(Map<String, Object> patch, String key) {
+        Object v = patch.get(key);
+        if (v == null) {
+            return null;
+        }
+        if (!(v instanceof String s)) {
+            throw new IllegalArgumentException(key + ": must be a string");
+        }
+        return s;
+    }
+}
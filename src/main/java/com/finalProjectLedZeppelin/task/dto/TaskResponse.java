@@ -20,6 +20,7 @@ import java.time.LocalDate;
  * @param deadline      optional task deadline
  * @param createdAt     timestamp when the task was created
  * @param updatedAt     timestamp when the task was last updated
+ * @param version       optimistic locking version; also the task entity tag
  */
 public record TaskResponse(
         Long id,
@@ -30,6 +31,7 @@ public record TaskResponse(
         TaskStatus status,
         LocalDate deadline,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) {
 }
@@ -0,0 +1,17 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+/**
+ * Response object with dashboard task counts.
+ *
+ * @param todo       number of tasks in {@code TODO}
+ * @param inProgress number of tasks in {@code IN_PROGRESS}
+ * @param done       number of tasks in {@code DONE}
+ * @param overdue    number of tasks not {@code DONE} whose deadline has passed
+ */
+public record TaskSummaryResponse(
+        long todo,
+        long inProgress,
+        long done,
+        long overdue
+) {
+}
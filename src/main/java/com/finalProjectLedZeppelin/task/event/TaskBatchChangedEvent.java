@@ -0,0 +1,16 @@
+package com.finalProjectLedZeppelin.task.event;
+
+import java.util.List;
+
+/**
+ * Application event published by {@code TaskService} and
+ * {@code TaskClaimService} instead of one {@link TaskChangedEvent} per
+ * task when a single operation changes many tasks.
+ * <p>
+ * Listeners that write to the database apply the whole batch with a
+ * constant number of statements.
+ *
+ * @param changes individual task changes, in the order they happened
+ */
+public record TaskBatchChangedEvent(List<TaskChangedEvent> changes) {
+}
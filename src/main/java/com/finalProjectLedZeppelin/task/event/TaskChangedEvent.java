@@ -0,0 +1,44 @@
+package com.finalProjectLedZeppelin.task.event;
+
+/**
+ * Application event published by {@code TaskService} for every task mutation.
+ * <p>
+ * Operations changing many tasks at once publish a single
+ * {@link TaskBatchChangedEvent} instead.
+ * <p>
+ * Carries only identifiers so that it stays cheap to create; listeners that
+ * need the full task state load it themselves.
+ *
+ * @param type               kind of change that happened
+ * @param taskId             identifier of the affected task
+ * @param assigneeId         identifier of the assignee after the change, if any
+ * @param previousAssigneeId identifier of the assignee before the change, if any
+ */
+public record TaskChangedEvent(Type type, Long taskId, Long assigneeId, Long previousAssigneeId) {
+
+    /**
+     * Kind of task change.
+     */
+    public enum Type {
+
+        /**
+         * A task was created.
+         */
+        CREATED,
+
+        /**
+         * Task fields were updated by an administrator.
+         */
+        UPDATED,
+
+        /**
+         * Only the task status was changed.
+         */
+        STATUS_CHANGED,
+
+        /**
+         * A task was deleted.
+         */
+        DELETED
+    }
+}
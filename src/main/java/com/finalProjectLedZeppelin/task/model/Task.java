@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -14,13 +15,19 @@ import java.time.LocalDate;
  * <p>
  * Stores task details including assignment, status, deadline,
  * and lifecycle timestamps.
+ * <p>
+ * Updates are generated dynamically so that only modified columns are
+ * written; small edits do not rewrite the (potentially large) description.
  */
 @Entity
+@DynamicUpdate
 @Table(
         name = "tasks",
         indexes = {
                 @Index(name = "ix_tasks_assignee_status", columnList = "assignee_id,status"),
-                @Index(name = "ix_tasks_assignee_deadline", columnList = "assignee_id,deadline")
+                @Index(name = "ix_tasks_assignee_deadline", columnList = "assignee_id,deadline"),
+                @Index(name = "ix_tasks_updated_at_id", columnList = "updated_at,id"),
+                @Index(name = "ix_tasks_assignee_updated_at_id", columnList = "assignee_id,updated_at,id")
         }
 )
 @Getter
@@ -84,6 +91,25 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * End of the lease under which the assignee claimed the task.
+     * <p>
+     * {@code null} unless the task was claimed as a lease and has not
+     * changed status or assignee since; see {@code TaskClaimService}.
+     */
+    @Column(name = "claim_expires_at")
+    private Instant claimExpiresAt;
+
+    /**
+     * Optimistic locking version.
+     * <p>
+     * Incremented on every update; concurrent modifications based on
+     * a stale version are rejected.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Initializes default values before the entity is persisted.
      * <p>
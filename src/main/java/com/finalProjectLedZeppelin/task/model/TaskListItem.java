@@ -0,0 +1,75 @@
+package com.finalProjectLedZeppelin.task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Read-only entity over the {@code task_list_view} read model.
+ * <p>
+ * Holds exactly the columns shown in task listings, with the assignee
+ * email denormalized, so listing never reads task descriptions or joins
+ * {@code users}. Rows are maintained by {@code TaskListViewService}.
+ */
+@Entity
+@Immutable
+@Table(name = "task_list_view")
+@Getter
+@NoArgsConstructor
+public class TaskListItem {
+
+    /**
+     * Unique identifier of the task.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Identifier of the assigned user, if any.
+     */
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    /**
+     * Email address of the assigned user, if any.
+     */
+    @Column(name = "assignee_email")
+    private String assigneeEmail;
+
+    /**
+     * Task title.
+     */
+    private String title;
+
+    /**
+     * Status of the task.
+     */
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    /**
+     * Task deadline, if any.
+     */
+    private LocalDate deadline;
+
+    /**
+     * Timestamp when the task was created.
+     */
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    /**
+     * Timestamp when the task was last updated.
+     */
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    /**
+     * Optimistic locking version of the task.
+     */
+    private Long version;
+}
@@ -0,0 +1,77 @@
+package com.finalProjectLedZeppelin.task.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Entity recording that a task left the view of some clients.
+ * <p>
+ * A tombstone is written when a task is deleted, and when a task is
+ * reassigned away from a user. Delta sync uses tombstones to tell clients
+ * which locally mirrored tasks to drop. Tombstones are purged after the
+ * configured retention period.
+ */
+@Entity
+@Table(
+        name = "task_tombstones",
+        indexes = {
+                @Index(name = "ix_task_tombstones_removed_at", columnList = "removed_at"),
+                @Index(name = "ix_task_tombstones_assignee_removed_at", columnList = "assignee_id,removed_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskTombstone {
+
+    /**
+     * Unique identifier of the tombstone.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Identifier of the removed task.
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * Identifier of the user who lost access to the task.
+     * <p>
+     * {@code null} if the task was unassigned.
+     */
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    /**
+     * Whether the task was deleted, as opposed to reassigned.
+     */
+    @Column(nullable = false)
+    private boolean deleted;
+
+    /**
+     * Timestamp when the task was removed.
+     */
+    @Column(name = "removed_at", nullable = false)
+    private Instant removedAt;
+
+    /**
+     * Creates a tombstone stamped with the current time.
+     *
+     * @param taskId     identifier of the removed task
+     * @param assigneeId identifier of the user who lost access, if any
+     * @param deleted    whether the task was deleted
+     */
+    public TaskTombstone(Long taskId, Long assigneeId, boolean deleted) {
+        this.taskId = taskId;
+        this.assigneeId = assigneeId;
+        this.deleted = deleted;
+        this.removedAt = Instant.now();
+    }
+}
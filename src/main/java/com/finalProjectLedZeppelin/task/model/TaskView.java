@@ -0,0 +1,81 @@
+package com.finalProjectLedZeppelin.task.model;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Read-only entity over the {@code tasks_all} view.
+ * <p>
+ * The view is the union of live tasks and archived tasks, and is used
+ * only by requests that explicitly ask for archived tasks. Hot paths keep
+ * querying {@link Task} directly.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_all")
+@Getter
+@NoArgsConstructor
+public class TaskView {
+
+    /**
+     * Unique identifier of the task.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * User assigned to the task, if any.
+     */
+    @ManyToOne(optional = true, fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    /**
+     * Task title.
+     */
+    private String title;
+
+    /**
+     * Task description.
+     */
+    private String description;
+
+    /**
+     * Status of the task.
+     */
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    /**
+     * Task deadline, if any.
+     */
+    private LocalDate deadline;
+
+    /**
+     * Timestamp when the task was created.
+     */
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    /**
+     * Timestamp when the task was last updated.
+     */
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    /**
+     * Optimistic locking version of the task.
+     */
+    private Long version;
+
+    /**
+     * Whether the task has been moved to the archive.
+     */
+    private boolean archived;
+}
@@ -0,0 +1,42 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default {@link OutboxSink} writing each event as one line to the
+ * {@code outbox.tasks} logger.
+ * <p>
+ * The logger is routed to a dedicated rolling file by the logging
+ * configuration, which downstream shippers can tail.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.log.enabled", havingValue = "true", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger OUTBOX = LogManager.getLogger("outbox.tasks");
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    /**
+     * Writes each message as {@code <id> <payload>}.
+     *
+     * @param batch messages to deliver
+     */
+    @Override
+    public void deliver(List<OutboxMessage> batch) {
+        for (OutboxMessage m : batch) {
+            OUTBOX.info("{} {}", m.id(), m.payload());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import java.time.Instant;
+
+/**
+ * Task domain event claimed from the outbox for delivery.
+ *
+ * @param id        outbox identifier; unique, but taken before commit, so concurrent
+ *                  writers may commit identifiers out of order
+ * @param taskId    identifier of the affected task
+ * @param eventType kind of change, as in {@code TaskChangedEvent.Type}
+ * @param payload   JSON document describing the change
+ * @param createdAt timestamp when the change was recorded
+ */
+public record OutboxMessage(
+        long id,
+        long taskId,
+        String eventType,
+        String payload,
+        Instant createdAt
+) {
+}
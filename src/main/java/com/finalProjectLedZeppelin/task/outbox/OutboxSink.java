@@ -0,0 +1,33 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of task domain events relayed from the outbox.
+ * <p>
+ * Every bean implementing this interface receives each claimed batch.
+ * Delivery is at-least-once: if any sink throws, the whole batch is
+ * returned to the outbox and retried, so sinks must tolerate duplicates
+ * (for example by deduplicating on {@link OutboxMessage#id()}).
+ * Identifiers order messages within a batch but do not follow commit
+ * order across writers, so sinks must not use them as a resume position.
+ * A message a sink keeps rejecting is parked after a bounded number of
+ * attempts rather than retried forever.
+ */
+public interface OutboxSink {
+
+    /**
+     * Returns the sink name used in logs and metric tags.
+     *
+     * @return sink name
+     */
+    String name();
+
+    /**
+     * Delivers a batch of messages, ordered by outbox identifier.
+     *
+     * @param batch messages to deliver
+     * @throws Exception if the batch could not be delivered and must be retried
+     */
+    void deliver(List<OutboxMessage> batch) throws Exception;
+}
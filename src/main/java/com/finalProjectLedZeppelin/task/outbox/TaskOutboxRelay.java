@@ -0,0 +1,302 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Relays task domain events from the outbox to all {@link OutboxSink}s.
+ * <p>
+ * Each poll claims up to {@code batch-size} of the oldest rows with
+ * {@code FOR UPDATE SKIP LOCKED}, hands them to every sink and deletes
+ * them in the same transaction. Concurrent relays (one per application
+ * instance) therefore claim disjoint batches without blocking each other.
+ * A poll keeps claiming batches while they come back full, so a backlog
+ * drains at full speed rather than one batch per interval.
+ * <p>
+ * If a sink fails, the transaction rolls back and the relay delivers the
+ * head of the outbox one message at a time, each in its own transaction,
+ * until one fails. The failing message has its {@code attempts} counter
+ * incremented; after {@code max-attempts} failures it is parked and
+ * skipped by later polls, so a message that a sink can never accept does
+ * not block delivery of the messages behind it. Parked messages stay in
+ * the table for inspection and are requeued by clearing {@code parked_at}.
+ * <p>
+ * The bean drains the outbox of the primary database. Outboxes of other
+ * databases, such as task shards, are drained by relays created with
+ * {@link #of}.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskOutboxRelay {
+
+    private static final String CLAIM_SQL = """
+            DELETE FROM task_outbox
+            WHERE id IN (
+                SELECT id FROM task_outbox WHERE parked_at IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, task_id, event_type, payload, created_at
+            """;
+
+    private static final String FAILED_SQL = """
+            UPDATE task_outbox
+            SET attempts = attempts + 1,
+                parked_at = CASE WHEN attempts + 1 >= ? THEN now() END
+            WHERE id = ?
+            RETURNING parked_at IS NOT NULL
+            """;
+
+    private final String source;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Counter delivered;
+    private final Counter failures;
+    private final Counter parked;
+
+    /**
+     * Creates a new {@code TaskOutboxRelay} instance.
+     *
+     * @param jdbcTemplate       JDBC template used to claim outbox rows
+     * @param transactionManager transaction manager used for claim-and-deliver transactions
+     * @param sinks              destinations of relayed events
+     * @param batchSize          maximum number of rows claimed per transaction
+     * @param maxAttempts        number of failed deliveries after which a message is parked
+     * @param meterRegistry      registry used to publish relay metrics
+     */
+    public TaskOutboxRelay(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            List<OutboxSink> sinks,
+            @Value("${app.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        this("primary", jdbcTemplate, new TransactionTemplate(transactionManager), sinks, batchSize, maxAttempts, meterRegistry);
+    }
+
+    /**
+     * Creates a new {@code TaskOutboxRelay} instance for the outbox of a given database.
+     *
+     * @param source        database name used in logs
+     * @param jdbcTemplate  JDBC template used to claim outbox rows
+     * @param tx            transaction template used for claim-and-deliver transactions
+     * @param sinks         destinations of relayed events
+     * @param batchSize     maximum number of rows claimed per transaction
+     * @param maxAttempts   number of failed deliveries after which a message is parked
+     * @param meterRegistry registry used to publish relay metrics
+     */
+    private TaskOutboxRelay(
+            String source,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate tx,
+            List<OutboxSink> sinks,
+            int batchSize,
+            int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.outbox.relay.batch-size must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("app.outbox.relay.max-attempts must be positive");
+        }
+        this.source = source;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = tx;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.batchSizes = DistributionSummary.builder("app.outbox.batch.size")
+                .description("Number of outbox events claimed per relay transaction")
+                .register(meterRegistry);
+        this.lag = Timer.builder("app.outbox.lag")
+                .description("Time from recording an outbox event to its delivery")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = Counter.builder("app.outbox.delivered")
+                .description("Outbox events delivered to all sinks")
+                .register(meterRegistry);
+        this.failures = Counter.builder("app.outbox.failures")
+                .description("Outbox batches that failed delivery and were retried")
+                .register(meterRegistry);
+        this.parked = Counter.builder("app.outbox.parked")
+                .description("Outbox events parked after repeated delivery failures")
+                .register(meterRegistry);
+        log.info("Task outbox relay initialized (source={}, batchSize={}, maxAttempts={}, sinks={})",
+                source, batchSize, maxAttempts, sinks.stream().map(OutboxSink::name).toList()
+        );
+    }
+
+    /**
+     * Creates a relay for the outbox of a database other than the primary one.
+     * <p>
+     * The relay is not a bean; its owner calls {@link #poll()} on its own
+     * schedule. Metrics are shared with the primary relay.
+     *
+     * @param source        database name used in logs
+     * @param jdbcTemplate  JDBC template bound to the database
+     * @param tx            transaction template bound to the database
+     * @param sinks         destinations of relayed events
+     * @param batchSize     maximum number of rows claimed per transaction
+     * @param maxAttempts   number of failed deliveries after which a message is parked
+     * @param meterRegistry registry used to publish relay metrics
+     * @return relay draining that outbox
+     * @throws IllegalArgumentException if {@code batchSize} or {@code maxAttempts} is not positive
+     */
+    public static TaskOutboxRelay of(
+            String source,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate tx,
+            List<OutboxSink> sinks,
+            int batchSize,
+            int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        return new TaskOutboxRelay(source, jdbcTemplate, tx, sinks, batchSize, maxAttempts, meterRegistry);
+    }
+
+    /**
+     * Drains the outbox.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT1S}")
+    public void poll() {
+        int claimed;
+        do {
+            try {
+                Integer n = tx.execute(status -> relayBatch());
+                claimed = n != null ? n : 0;
+            } catch (RuntimeException ex) {
+                failures.increment();
+                log.warn("Task outbox relay failed, delivering one message at a time (source={})", source, ex);
+                relayOneByOne();
+                return;
+            }
+        } while (claimed == batchSize);
+    }
+
+    /**
+     * Claims, delivers and deletes one batch within the current transaction.
+     *
+     * @return number of claimed events
+     */
+    int relayBatch() {
+        return relay(claim(batchSize));
+    }
+
+    /**
+     * Delivers up to one batch of messages from the head of the outbox, one
+     * message per transaction, after a batch failed.
+     * <p>
+     * Stops at the first message that fails without being parked, so that
+     * messages are not delivered ahead of one that may still succeed.
+     */
+    private void relayOneByOne() {
+        for (int i = 0; i < batchSize; i++) {
+            List<OutboxMessage> head = new ArrayList<>(1);
+            try {
+                Integer n = tx.execute(status -> {
+                    head.addAll(claim(1));
+                    return relay(head);
+                });
+                if (n == null || n == 0) {
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                if (head.isEmpty() || !recordFailure(head.getFirst(), ex)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts a failed delivery of a message and parks it once it has failed
+     * {@code max-attempts} times.
+     *
+     * @param message message that could not be delivered
+     * @param ex      delivery failure
+     * @return {@code true} if the message was parked
+     */
+    private boolean recordFailure(OutboxMessage message, RuntimeException ex) {
+        List<Boolean> isParked = jdbcTemplate.queryForList(FAILED_SQL, Boolean.class, maxAttempts, message.id());
+        if (isParked.contains(Boolean.TRUE)) {
+            parked.increment();
+            log.error("Task outbox message parked after {} failed attempts (source={}, id={}, taskId={})",
+                    maxAttempts, source, message.id(), message.taskId(), ex);
+            return true;
+        }
+        log.warn("Task outbox message delivery failed, will be retried (source={}, id={}, taskId={})",
+                source, message.id(), message.taskId());
+        return false;
+    }
+
+    /**
+     * Claims up to {@code limit} of the oldest deliverable messages within the
+     * current transaction, removing them from the outbox.
+     *
+     * @param limit maximum number of messages to claim
+     * @return claimed messages, in no particular order
+     */
+    private List<OutboxMessage> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, i) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getLong("task_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant()
+        ), limit);
+    }
+
+    /**
+     * Delivers claimed messages to every sink and records relay metrics.
+     *
+     * @param claimed claimed messages
+     * @return number of delivered messages
+     * @throws IllegalStateException if a sink fails
+     */
+    private int relay(List<OutboxMessage> claimed) {
+        List<OutboxMessage> batch = new ArrayList<>(claimed);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        batch.sort(Comparator.comparingLong(OutboxMessage::id));
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.deliver(batch);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Outbox sink '" + sink.name() + "' failed", ex);
+            }
+        }
+        Instant now = Instant.now();
+        for (OutboxMessage m : batch) {
+            lag.record(Duration.between(m.createdAt(), now));
+        }
+        batchSizes.record(batch.size());
+        delivered.increment(batch.size());
+        log.debug("Task outbox batch relayed (size={}, firstId={}, lastId={})",
+                batch.size(), batch.getFirst().id(), batch.getLast().id()
+        );
+        return batch.size();
+    }
+}
@@ -0,0 +1,116 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records task domain events in the {@code task_outbox} table.
+ * <p>
+ * The listener runs synchronously inside the transaction that performed
+ * the task mutation, so the event row commits or rolls back together with
+ * the change itself. Delivery to downstream systems is left to
+ * {@link TaskOutboxRelay} and never adds latency or failure modes to the
+ * write path.
+ * <p>
+ * Not registered in sharded mode, where each shard records the events of
+ * its tasks in its own outbox through {@link #append}.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class TaskOutboxWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_outbox (task_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new {@code TaskOutboxWriter} instance.
+     *
+     * @param jdbcTemplate JDBC template used to insert outbox rows
+     * @param objectMapper mapper used to serialize event payloads
+     */
+    public TaskOutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Appends a task change to the outbox.
+     *
+     * @param event task change event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(jdbcTemplate, objectMapper, event);
+    }
+
+    /**
+     * Appends a batch of task changes to the outbox in one JDBC batch.
+     *
+     * @param event task batch change event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksChanged(TaskBatchChangedEvent event) {
+        if (event.changes().isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.changes(), event.changes().size(), (ps, e) -> {
+            ps.setLong(1, e.taskId());
+            ps.setString(2, e.type().name());
+            ps.setString(3, payload(objectMapper, e, now));
+            ps.setTimestamp(4, Timestamp.from(now));
+        });
+        log.debug("Task outbox append (count={})", event.changes().size());
+    }
+
+    /**
+     * Appends a task change to the outbox of the database behind the given
+     * template, within that database's current transaction.
+     *
+     * @param jdbc         JDBC template of the database holding the changed task
+     * @param objectMapper mapper used to serialize the payload
+     * @param event        task change event
+     */
+    public static void append(JdbcTemplate jdbc, ObjectMapper objectMapper, TaskChangedEvent event) {
+        Instant now = Instant.now();
+        jdbc.update(INSERT_SQL, event.taskId(), event.type().name(), payload(objectMapper, event, now), Timestamp.from(now));
+        log.debug("Task outbox append (type={}, taskId={})", event.type(), event.taskId());
+    }
+
+    /**
+     * Serializes the payload of an outbox row.
+     *
+     * @param objectMapper mapper used to serialize the payload
+     * @param event        task change event
+     * @param now          time the change is recorded
+     * @return JSON payload
+     */
+    private static String payload(ObjectMapper objectMapper, TaskChangedEvent event, Instant now) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("type", event.type().name());
+        payload.put("taskId", event.taskId());
+        payload.put("assigneeId", event.assigneeId());
+        payload.put("previousAssigneeId", event.previousAssigneeId());
+        payload.put("occurredAt", now.toString());
+        return objectMapper.writeValueAsString(payload);
+    }
+}
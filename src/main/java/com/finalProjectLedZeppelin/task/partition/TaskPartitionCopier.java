@@ -0,0 +1,111 @@
+package com.finalProjectLedZeppelin.task.partition;
+
+import com.finalProjectLedZeppelin.common.migration.BackfillJob;
+import com.finalProjectLedZeppelin.common.migration.BackfillRunner;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Online backfill of {@code tasks_partitioned} from {@code tasks}.
+ * <p>
+ * Part of the opt-in partitioning migration (see changelog
+ * {@code 008_tasks_partitioning.yaml}), executed by the
+ * {@link BackfillRunner} when {@code app.tasks.partitioning.copy.enabled}
+ * is set. While the copy runs, a trigger mirrors every write on
+ * {@code tasks}, so the application keeps serving traffic. Rows are copied
+ * in identifier ranges; each range is copied in its own short transaction
+ * that:
+ * <ol>
+ *     <li>share-locks the source rows, waiting for in-flight writers and
+ *     blocking new ones for the duration of the batch;</li>
+ *     <li>deletes whatever the trigger already mirrored for the range;</li>
+ *     <li>inserts the current version of every source row.</li>
+ * </ol>
+ * Each statement takes a fresh snapshot, so the result reflects all
+ * writes committed before the lock, and later writes are mirrored by the
+ * trigger. The copy is idempotent and resumes where it stopped.
+ */
+@Log4j2
+@Component
+public class TaskPartitionCopier implements BackfillJob {
+
+    private static final String COLUMNS = "id, assignee_id, title, description, status, deadline, created_at, updated_at, version, claim_expires_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    /**
+     * Creates a new {@code TaskPartitionCopier} instance.
+     *
+     * @param jdbcTemplate JDBC template used to copy rows
+     * @param enabled      whether the scheduled backfill runner executes the copy
+     */
+    public TaskPartitionCopier(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.tasks.partitioning.copy.enabled:false}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns the backfill job name.
+     *
+     * @return job name
+     */
+    @Override
+    public String name() {
+        return "tasks-partitioned-copy";
+    }
+
+    /**
+     * Tells whether the scheduled backfill runner executes the copy.
+     *
+     * @return {@code true} if {@code app.tasks.partitioning.copy.enabled} is set
+     */
+    @Override
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the identifier range of {@code tasks}.
+     *
+     * @return identifier range, or {@code null} if there is nothing to copy
+     * @throws IllegalStateException if the partitioned table has not been created
+     */
+    @Override
+    public KeyRange keyRange() {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass('tasks_partitioned') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new IllegalStateException("tasks_partitioned does not exist; run Liquibase with the 'partitioning' context first");
+        }
+        Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT min(id) AS lo, max(id) AS hi FROM tasks");
+        if (bounds.get("lo") == null) {
+            log.info("Task partition copy: nothing to copy");
+            return null;
+        }
+        return new KeyRange(((Number) bounds.get("lo")).longValue(), ((Number) bounds.get("hi")).longValue());
+    }
+
+    /**
+     * Copies one identifier range.
+     *
+     * @param from first identifier (inclusive)
+     * @param to   last identifier (inclusive)
+     * @return number of copied rows
+     */
+    @Override
+    public int runBatch(long from, long to) {
+        jdbcTemplate.queryForList("SELECT id FROM tasks WHERE id BETWEEN ? AND ? FOR SHARE", Long.class, from, to);
+        jdbcTemplate.update("DELETE FROM tasks_partitioned WHERE id BETWEEN ? AND ?", from, to);
+        return jdbcTemplate.update(
+                "INSERT INTO tasks_partitioned (" + COLUMNS + ") SELECT " + COLUMNS + " FROM tasks WHERE id BETWEEN ? AND ?",
+                from, to
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import java.util.Map;
+
+/**
+ * Task read with a sparse fieldset.
+ *
+ * @param assigneeId identifier of the assigned user, if any; always read for access checks
+ * @param fields     selected members, in response order
+ */
+public record ProjectedTask(Long assigneeId, Map<String, Object> fields) {
+}
@@ -0,0 +1,90 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository inserting many tasks with JDBC batching.
+ * <p>
+ * {@link com.finalProjectLedZeppelin.task.model.Task} uses identity
+ * generation, which makes Hibernate insert rows one statement at a time.
+ * Here identifiers are drawn from {@code tasks_id_seq} in one query and
+ * the rows are sent as a single batch.
+ */
+@Repository
+public class TaskBulkRepository {
+
+    private static final String IDS_SQL = "SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tasks (id, assignee_id, title, description, status, deadline, created_at, updated_at, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a new {@code TaskBulkRepository} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the statements
+     */
+    public TaskBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts new tasks in status {@link TaskStatus#TODO}.
+     * <p>
+     * Assignees are not checked here; the caller resolves them first.
+     *
+     * @param reqs           task creation requests
+     * @param assigneeEmails emails of the assignees, by user identifier
+     * @return created tasks, in request order
+     */
+    public List<TaskResponse> insertAll(List<TaskCreateRequest> reqs, Map<Long, String> assigneeEmails) {
+        if (reqs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.queryForList(IDS_SQL, Long.class, reqs.size());
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<TaskResponse> created = new ArrayList<>(reqs.size());
+        for (int i = 0; i < reqs.size(); i++) {
+            TaskCreateRequest req = reqs.get(i);
+            created.add(new TaskResponse(
+                    ids.get(i),
+                    req.assigneeId(),
+                    req.assigneeId() != null ? assigneeEmails.get(req.assigneeId()) : null,
+                    req.title(),
+                    req.description(),
+                    TaskStatus.TODO,
+                    req.deadline(),
+                    now,
+                    now,
+                    0L
+            ));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, created, created.size(), (ps, t) -> {
+            ps.setLong(1, t.id());
+            ps.setObject(2, t.assigneeId(), Types.BIGINT);
+            ps.setString(3, t.title());
+            ps.setString(4, t.description());
+            ps.setString(5, t.status().name());
+            ps.setDate(6, t.deadline() != null ? Date.valueOf(t.deadline()) : null);
+            ps.setTimestamp(7, Timestamp.from(t.createdAt()));
+            ps.setTimestamp(8, Timestamp.from(t.updatedAt()));
+        });
+        return created;
+    }
+}
@@ -0,0 +1,13 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import java.time.LocalDate;
+
+/**
+ * Task handed back to the pool of unassigned tasks after its claim lease expired.
+ *
+ * @param taskId             identifier of the task
+ * @param previousAssigneeId identifier of the user whose lease expired
+ * @param deadline           task deadline, if any
+ */
+public record TaskClaimRelease(Long taskId, Long previousAssigneeId, LocalDate deadline) {
+}
@@ -0,0 +1,155 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository claiming unassigned tasks as a work queue.
+ * <p>
+ * The next task is picked and assigned in a single statement. The pick
+ * locks its row with {@code FOR UPDATE SKIP LOCKED}, so concurrent
+ * claimers never wait for each other: each one skips the rows already
+ * being claimed and takes the next one. The picks are served by the
+ * partial indexes {@code ix_tasks_claimable_deadline} and
+ * {@code ix_tasks_claimable_id}, which only hold unassigned open tasks.
+ */
+@Repository
+public class TaskClaimRepository {
+
+    private static final String CLAIM_SQL = """
+            WITH next AS (
+                SELECT id FROM tasks
+                WHERE assignee_id IS NULL AND status <> 'DONE'%s
+                ORDER BY %s
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            ), claimed AS (
+                UPDATE tasks t
+                SET assignee_id = ?,
+                    claim_expires_at = CASE WHEN t.status = 'TODO' THEN CAST(? AS TIMESTAMPTZ) END,
+                    version = t.version + 1,
+                    updated_at = clock_timestamp()
+                FROM next
+                WHERE t.id = next.id
+                RETURNING t.id, t.assignee_id, t.title, t.description, t.status, t.deadline,
+                          t.created_at, t.updated_at, t.version, t.claim_expires_at
+            )
+            SELECT c.*, a.email AS assignee_email
+            FROM claimed c
+            LEFT JOIN users a ON a.id = c.assignee_id
+            """;
+
+    private static final String RELEASE_SQL = """
+            WITH expired AS (
+                SELECT id, assignee_id FROM tasks
+                WHERE claim_expires_at < ? AND status = 'TODO'
+                ORDER BY claim_expires_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE tasks t
+            SET assignee_id = NULL, claim_expires_at = NULL, version = t.version + 1, updated_at = clock_timestamp()
+            FROM expired
+            WHERE t.id = expired.id
+            RETURNING t.id, expired.assignee_id AS previous_assignee_id, t.deadline
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a new {@code TaskClaimRepository} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the statements
+     */
+    public TaskClaimRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Assigns the next matching unassigned open task to a user.
+     *
+     * @param assigneeId     identifier of the claiming user
+     * @param status         optional status the task must have
+     * @param deadlineFrom   optional earliest deadline (inclusive)
+     * @param deadlineTo     optional latest deadline (inclusive)
+     * @param order          which task to claim first
+     * @param leaseExpiresAt end of the lease, or {@code null} for a claim that does not expire;
+     *                       only applied to {@code TODO} tasks
+     * @return claimed task, or empty if no unlocked task matches
+     */
+    public Optional<TaskClaimResponse> claimNext(
+            Long assigneeId,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            TaskClaimRequest.Order order,
+            Instant leaseExpiresAt
+    ) {
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            where.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (deadlineFrom != null) {
+            where.append(" AND deadline >= ?");
+            args.add(Date.valueOf(deadlineFrom));
+        }
+        if (deadlineTo != null) {
+            where.append(" AND deadline <= ?");
+            args.add(Date.valueOf(deadlineTo));
+        }
+        args.add(assigneeId);
+        args.add(leaseExpiresAt != null ? Timestamp.from(leaseExpiresAt) : null);
+        String orderBy = order == TaskClaimRequest.Order.OLDEST ? "id" : "deadline, id";
+        List<TaskClaimResponse> rows = jdbcTemplate.query(CLAIM_SQL.formatted(where, orderBy), (rs, i) -> {
+            Timestamp expires = rs.getTimestamp("claim_expires_at");
+            return new TaskClaimResponse(
+                    new TaskResponse(
+                            rs.getLong("id"),
+                            rs.getObject("assignee_id", Long.class),
+                            rs.getString("assignee_email"),
+                            rs.getString("title"),
+                            rs.getString("description"),
+                            TaskStatus.valueOf(rs.getString("status")),
+                            rs.getObject("deadline", LocalDate.class),
+                            rs.getTimestamp("created_at").toInstant(),
+                            rs.getTimestamp("updated_at").toInstant(),
+                            rs.getLong("version")
+                    ),
+                    expires != null ? expires.toInstant() : null
+            );
+        }, args.toArray());
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Unassigns {@code TODO} tasks whose claim lease has expired.
+     * <p>
+     * Tasks locked by concurrent writers are skipped and released by a
+     * later call.
+     *
+     * @param now       current time
+     * @param batchSize maximum number of tasks to release
+     * @return released tasks
+     */
+    public List<TaskClaimRelease> releaseExpired(Instant now, int batchSize) {
+        return jdbcTemplate.query(RELEASE_SQL, (rs, i) -> new TaskClaimRelease(
+                rs.getLong("id"),
+                rs.getLong("previous_assignee_id"),
+                rs.getObject("deadline", LocalDate.class)
+        ), Timestamp.from(now), batchSize);
+    }
+}
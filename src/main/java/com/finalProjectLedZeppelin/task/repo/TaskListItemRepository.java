@@ -0,0 +1,206 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.model.TaskListItem;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Read-only repository over the {@code task_list_view} read model.
+ * <p>
+ * Mirrors the listing query methods of {@link TaskRepository}.
+ * <p>
+ * Open task queries spell out {@code status <> 'DONE'} as a literal, so
+ * that the planner matches them to the partial indexes
+ * {@code ix_tlv_open_deadline} and {@code ix_tlv_open_assignee_deadline}
+ * even with generic plans. Statuses are passed by name.
+ */
+public interface TaskListItemRepository extends Repository<TaskListItem, Long> {
+
+    /**
+     * Selects open tasks in a status set with a deadline before a date.
+     */
+    String OPEN_DUE_BEFORE = " FROM task_list_view v"
+            + " WHERE v.status <> 'DONE' AND v.status IN (:statuses) AND v.deadline < :before";
+
+    /**
+     * Selects open tasks in a status set with a deadline in a date range.
+     */
+    String OPEN_DUE_BETWEEN = OPEN_DUE_BEFORE + " AND v.deadline >= :from";
+
+    /**
+     * Selects open tasks of an assignee in a status set with a deadline before a date.
+     */
+    String OPEN_ASSIGNEE_DUE_BEFORE = OPEN_DUE_BEFORE + " AND v.assignee_id = :assigneeId";
+
+    /**
+     * Selects open tasks of an assignee in a status set with a deadline in a date range.
+     */
+    String OPEN_ASSIGNEE_DUE_BETWEEN = OPEN_DUE_BETWEEN + " AND v.assignee_id = :assigneeId";
+
+    /**
+     * Finds all tasks.
+     *
+     * @param pageable pagination information
+     * @return page of tasks
+     */
+    Page<TaskListItem> findAll(Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param pageable   pagination information
+     * @return page of tasks assigned to the user
+     */
+    Page<TaskListItem> findAllByAssigneeId(Long assigneeId, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with the given status.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param status     task status
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByAssigneeIdAndStatus(Long assigneeId, TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with deadlines within the given date range.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param from       start date (inclusive)
+     * @param to         end date (inclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByAssigneeIdAndDeadlineBetween(Long assigneeId, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with the given status and deadlines within the given date range.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param status     task status
+     * @param from       start date (inclusive)
+     * @param to         end date (inclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByAssigneeIdAndStatusAndDeadlineBetween(Long assigneeId, TaskStatus status, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks with the given status.
+     *
+     * @param status   task status
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByStatus(TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds all tasks with deadlines within the given date range.
+     *
+     * @param from     start date (inclusive)
+     * @param to       end date (inclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByDeadlineBetween(LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks with the given status
+     * and deadlines within the given date range.
+     *
+     * @param status   task status
+     * @param from     start date (inclusive)
+     * @param to       end date (inclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskListItem> findAllByStatusAndDeadlineBetween(TaskStatus status, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds open tasks with a deadline before the given date.
+     *
+     * @param statuses names of the statuses to include; must not contain {@code DONE}
+     * @param before   end date (exclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    @Query(value = "SELECT v.*" + OPEN_DUE_BEFORE,
+            countQuery = "SELECT count(*)" + OPEN_DUE_BEFORE,
+            nativeQuery = true)
+    Page<TaskListItem> findOpenByDeadlineBefore(
+            @Param("statuses") Collection<String> statuses,
+            @Param("before") LocalDate before,
+            Pageable pageable
+    );
+
+    /**
+     * Finds open tasks with a deadline within the given date range.
+     *
+     * @param statuses names of the statuses to include; must not contain {@code DONE}
+     * @param from     start date (inclusive)
+     * @param before   end date (exclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    @Query(value = "SELECT v.*" + OPEN_DUE_BETWEEN,
+            countQuery = "SELECT count(*)" + OPEN_DUE_BETWEEN,
+            nativeQuery = true)
+    Page<TaskListItem> findOpenByDeadlineBetween(
+            @Param("statuses") Collection<String> statuses,
+            @Param("from") LocalDate from,
+            @Param("before") LocalDate before,
+            Pageable pageable
+    );
+
+    /**
+     * Finds open tasks of the specified user with a deadline before the given date.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param statuses   names of the statuses to include; must not contain {@code DONE}
+     * @param before     end date (exclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    @Query(value = "SELECT v.*" + OPEN_ASSIGNEE_DUE_BEFORE,
+            countQuery = "SELECT count(*)" + OPEN_ASSIGNEE_DUE_BEFORE,
+            nativeQuery = true)
+    Page<TaskListItem> findOpenByAssigneeIdAndDeadlineBefore(
+            @Param("assigneeId") Long assigneeId,
+            @Param("statuses") Collection<String> statuses,
+            @Param("before") LocalDate before,
+            Pageable pageable
+    );
+
+    /**
+     * Finds open tasks of the specified user with a deadline within the given date range.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param statuses   names of the statuses to include; must not contain {@code DONE}
+     * @param from       start date (inclusive)
+     * @param before     end date (exclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    @Query(value = "SELECT v.*" + OPEN_ASSIGNEE_DUE_BETWEEN,
+            countQuery = "SELECT count(*)" + OPEN_ASSIGNEE_DUE_BETWEEN,
+            nativeQuery = true)
+    Page<TaskListItem> findOpenByAssigneeIdAndDeadlineBetween(
+            @Param("assigneeId") Long assigneeId,
+            @Param("statuses") Collection<String> statuses,
+            @Param("from") LocalDate from,
+            @Param("before") LocalDate before,
+            Pageable pageable
+    );
+}
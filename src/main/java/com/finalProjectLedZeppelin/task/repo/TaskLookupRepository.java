@@ -0,0 +1,84 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository resolving many tasks by identifier in one query.
+ * <p>
+ * The assignee check is evaluated in SQL: rows of tasks the caller may
+ * not read come back flagged, without their description or assignee
+ * email, so that a lookup tells forbidden tasks from missing ones
+ * without loading them.
+ */
+@Repository
+public class TaskLookupRepository {
+
+    private static final String LOOKUP_SQL = """
+            SELECT t.id, a.allowed, t.assignee_id, u.email, t.title,
+                   CASE WHEN a.allowed THEN t.description END,
+                   t.status, t.deadline, t.created_at, t.updated_at, t.version
+            FROM tasks t
+            CROSS JOIN LATERAL (SELECT COALESCE(? OR t.assignee_id = ?, FALSE) AS allowed) a
+            LEFT JOIN users u ON a.allowed AND u.id = t.assignee_id
+            WHERE t.id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a new {@code TaskLookupRepository} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the query
+     */
+    public TaskLookupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Resolves the live tasks with the given identifiers.
+     * <p>
+     * Identifiers without a live task are left out of the result.
+     *
+     * @param ids     task identifiers
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @return found or forbidden result of each existing task, in no particular order
+     */
+    public List<TaskLookupResult> findAll(Collection<Long> ids, Long userId, boolean isAdmin) {
+        return jdbcTemplate.query(LOOKUP_SQL, ps -> {
+            Array array = ps.getConnection().createArrayOf("bigint", ids.toArray());
+            ps.setBoolean(1, isAdmin);
+            ps.setLong(2, userId);
+            ps.setArray(3, array);
+        }, (rs, n) -> {
+            Long id = rs.getLong(1);
+            if (!rs.getBoolean(2)) {
+                return TaskLookupResult.forbidden(id);
+            }
+            Timestamp createdAt = rs.getTimestamp(9);
+            Timestamp updatedAt = rs.getTimestamp(10);
+            return TaskLookupResult.found(new TaskResponse(
+                    id,
+                    rs.getObject(3, Long.class),
+                    rs.getString(4),
+                    rs.getString(5),
+                    rs.getString(6),
+                    TaskStatus.valueOf(rs.getString(7)),
+                    rs.getObject(8, LocalDate.class),
+                    createdAt != null ? createdAt.toInstant() : null,
+                    updatedAt != null ? updatedAt.toInstant() : null,
+                    rs.getObject(11, Long.class)
+            ));
+        });
+    }
+}
@@ -0,0 +1,251 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Repository reading tasks with sparse fieldsets.
+ * <p>
+ * The {@code SELECT} list is built from the requested fields, so columns
+ * that are not requested are never read. In particular the description,
+ * which may be stored out of line in TOAST, is only fetched when asked
+ * for; listings read {@code task_list_view} and join {@code tasks} just
+ * for that column. The assignee email is joined only when requested.
+ * <p>
+ * The open task filter is written as the literal {@code status <> 'DONE'}
+ * so that it matches the partial indexes on open tasks.
+ */
+@Repository
+public class TaskProjectionRepository {
+
+    /**
+     * Sortable properties of listings and their columns.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "v.id",
+            "assigneeId", "v.assignee_id",
+            "assigneeEmail", "v.assignee_email",
+            "title", "v.title",
+            "status", "v.status",
+            "deadline", "v.deadline",
+            "createdAt", "v.created_at",
+            "updatedAt", "v.updated_at",
+            "version", "v.version"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a new {@code TaskProjectionRepository} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the queries
+     */
+    public TaskProjectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the selected fields of a live task.
+     *
+     * @param taskId identifier of the task
+     * @param fields fields to read
+     * @return projected task, or empty if it does not exist or is not visible
+     */
+    public Optional<ProjectedTask> findById(Long taskId, TaskFields fields) {
+        String sql = "SELECT t.assignee_id AS access_assignee_id, "
+                + fields.fields().stream().map(TaskProjectionRepository::taskColumn).collect(Collectors.joining(", "))
+                + " FROM tasks t"
+                + (fields.has(TaskFields.Field.ASSIGNEE_EMAIL) ? " LEFT JOIN users u ON u.id = t.assignee_id" : "")
+                + " WHERE t.id = ?";
+        List<ProjectedTask> rows = jdbcTemplate.query(sql, (rs, n) -> new ProjectedTask(
+                rs.getObject(1, Long.class),
+                read(rs, fields, 2)
+        ), taskId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Returns a page of listed tasks with the selected fields.
+     * <p>
+     * Applies the same filters as the listing methods of
+     * {@link TaskListItemRepository}.
+     *
+     * @param assigneeId   optional assignee filter
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive); applied together with {@code deadlineTo}
+     * @param deadlineTo   optional deadline range end (inclusive); applied together with {@code deadlineFrom}
+     * @param due          optional deadline window of open tasks
+     * @param pageable     pagination and sorting information
+     * @param fields       fields to read
+     * @return page of projected tasks
+     * @throws IllegalArgumentException if sorting by an unsupported property is requested
+     */
+    public Page<Map<String, Object>> findAll(
+            Long assigneeId,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            TaskDueWindow due,
+            Pageable pageable,
+            TaskFields fields
+    ) {
+        StringBuilder where = new StringBuilder(" WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (assigneeId != null) {
+            where.append(" AND v.assignee_id = ?");
+            args.add(assigneeId);
+        }
+        if (status != null) {
+            where.append(" AND v.status = ?");
+            args.add(status.name());
+        }
+        if (deadlineFrom != null && deadlineTo != null) {
+            where.append(" AND v.deadline BETWEEN ? AND ?");
+            args.add(Date.valueOf(deadlineFrom));
+            args.add(Date.valueOf(deadlineTo));
+        }
+        if (due != null) {
+            where.append(" AND v.status <> 'DONE' AND v.deadline < ?");
+            args.add(Date.valueOf(due.before()));
+            if (due.from() != null) {
+                where.append(" AND v.deadline >= ?");
+                args.add(Date.valueOf(due.from()));
+            }
+        }
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(fields.fields().stream().map(TaskProjectionRepository::listColumn).collect(Collectors.joining(", ")))
+                .append(" FROM task_list_view v");
+        if (fields.has(TaskFields.Field.DESCRIPTION)) {
+            sql.append(" JOIN tasks d ON d.id = v.id");
+        }
+        sql.append(where).append(orderBy(pageable.getSort()));
+        List<Object> pageArgs = new ArrayList<>(args);
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ? OFFSET ?");
+            pageArgs.add(pageable.getPageSize());
+            pageArgs.add(pageable.getOffset());
+        }
+        List<Map<String, Object>> content = jdbcTemplate.query(sql.toString(), (rs, n) -> read(rs, fields, 1), pageArgs.toArray());
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM task_list_view v" + where, Long.class, args.toArray());
+            return total != null ? total : 0L;
+        });
+    }
+
+    /**
+     * Builds the {@code ORDER BY} clause of a listing.
+     * <p>
+     * The identifier breaks ties, so that pages do not overlap.
+     *
+     * @param sort requested sort
+     * @return SQL clause, empty if unsorted
+     */
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(" ORDER BY ");
+        for (Sort.Order o : sort) {
+            String column = SORT_COLUMNS.get(o.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Unsupported sort property: " + o.getProperty());
+            }
+            sb.append(column).append(o.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return sb.append("v.id ASC").toString();
+    }
+
+    /**
+     * Resolves the select expression of a field in a single-task query.
+     * <p>
+     * The assignee email is read from the joined {@code users} row.
+     *
+     * @param f requested field
+     * @return qualified column
+     */
+    private static String taskColumn(TaskFields.Field f) {
+        return f == TaskFields.Field.ASSIGNEE_EMAIL ? "u.email" : "t." + column(f);
+    }
+
+    /**
+     * Resolves the select expression of a field in a listing.
+     * <p>
+     * The description is not part of the read model and is read from the
+     * joined {@code tasks} row.
+     *
+     * @param f requested field
+     * @return qualified column
+     */
+    private static String listColumn(TaskFields.Field f) {
+        return f == TaskFields.Field.DESCRIPTION ? "d.description" : "v." + column(f);
+    }
+
+    /**
+     * Maps a field to its column name.
+     *
+     * @param f requested field
+     * @return unqualified column name
+     */
+    private static String column(TaskFields.Field f) {
+        return switch (f) {
+            case ID -> "id";
+            case ASSIGNEE_ID -> "assignee_id";
+            case ASSIGNEE_EMAIL -> "assignee_email";
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case STATUS -> "status";
+            case DEADLINE -> "deadline";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case VERSION -> "version";
+        };
+    }
+
+    /**
+     * Reads the selected fields from the current row.
+     *
+     * @param rs     result set positioned on a row
+     * @param fields selected fields, in column order
+     * @param first  index of the first selected column
+     * @return selected members, in response order
+     * @throws SQLException if a column cannot be read
+     */
+    private static Map<String, Object> read(ResultSet rs, TaskFields fields, int first) throws SQLException {
+        Map<String, Object> out = new LinkedHashMap<>();
+        int i = first;
+        for (TaskFields.Field f : fields.fields()) {
+            Object value = switch (f) {
+                case ID, ASSIGNEE_ID, VERSION -> rs.getObject(i, Long.class);
+                case STATUS -> TaskStatus.valueOf(rs.getString(i));
+                case DEADLINE -> rs.getObject(i, LocalDate.class);
+                case CREATED_AT, UPDATED_AT -> {
+                    Timestamp ts = rs.getTimestamp(i);
+                    yield ts != null ? ts.toInstant() : null;
+                }
+                case ASSIGNEE_EMAIL, TITLE, DESCRIPTION -> rs.getString(i);
+            };
+            out.put(f.json(), value);
+            i++;
+        }
+        return out;
+    }
+}
@@ -2,11 +2,16 @@ package com.finalProjectLedZeppelin.task.repo;
 
 import com.finalProjectLedZeppelin.task.model.Task;
 import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +30,75 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     Optional<Task> findById(Long id);
 
+    /**
+     * Retrieves a task by its identifier together with its assignee.
+     *
+     * @param id task identifier
+     * @return optional containing the task if found
+     */
+    @Query("select t from Task t left join fetch t.assignee where t.id = :id")
+    Optional<Task> findWithAssigneeById(@Param("id") Long id);
+
+    /**
+     * Retrieves the identifier, assignee, modification timestamp and version of a task.
+     * <p>
+     * Reads only the columns needed for conditional requests and access checks.
+     *
+     * @param id task identifier
+     * @return optional containing the task stamp if found
+     */
+    @Query("select new com.finalProjectLedZeppelin.task.repo.TaskStamp(t.id, t.assignee.id, t.updatedAt, t.version) from Task t where t.id = :id")
+    Optional<TaskStamp> findStampById(@Param("id") Long id);
+
+    /**
+     * Finds tasks modified after the given position, ordered by
+     * modification timestamp and identifier.
+     * <p>
+     * The position is a keyset over {@code (updated_at, id)}; the redundant
+     * lower bound on {@code updated_at} lets the database use a range scan
+     * of {@code ix_tasks_updated_at_id}. Assignees are fetched eagerly.
+     *
+     * @param after   modification timestamp of the last seen task
+     * @param afterId identifier of the last seen task
+     * @param upTo    upper bound of the modification timestamp (inclusive)
+     * @param limit   maximum number of tasks to return
+     * @return changed tasks
+     */
+    @Query("select t from Task t left join fetch t.assignee"
+            + " where t.updatedAt >= :after and t.updatedAt <= :upTo"
+            + " and (t.updatedAt > :after or t.id > :afterId)"
+            + " order by t.updatedAt, t.id")
+    List<Task> findChangedAfter(
+            @Param("after") Instant after,
+            @Param("afterId") long afterId,
+            @Param("upTo") Instant upTo,
+            Limit limit
+    );
+
+    /**
+     * Finds tasks assigned to the specified user modified after the given
+     * position, ordered by modification timestamp and identifier.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param after      modification timestamp of the last seen task
+     * @param afterId    identifier of the last seen task
+     * @param upTo       upper bound of the modification timestamp (inclusive)
+     * @param limit      maximum number of tasks to return
+     * @return changed tasks
+     * @see #findChangedAfter(Instant, long, Instant, Limit)
+     */
+    @Query("select t from Task t join fetch t.assignee a"
+            + " where a.id = :assigneeId and t.updatedAt >= :after and t.updatedAt <= :upTo"
+            + " and (t.updatedAt > :after or t.id > :afterId)"
+            + " order by t.updatedAt, t.id")
+    List<Task> findChangedAfterByAssigneeId(
+            @Param("assigneeId") Long assigneeId,
+            @Param("after") Instant after,
+            @Param("afterId") long afterId,
+            @Param("upTo") Instant upTo,
+            Limit limit
+    );
+
     /**
      * Finds all tasks assigned to the specified user.
      *
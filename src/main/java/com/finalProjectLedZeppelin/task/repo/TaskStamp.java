@@ -0,0 +1,15 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import java.time.Instant;
+
+/**
+ * Minimal projection of a task used to build HTTP validators
+ * and to authorize access without loading the full entity.
+ *
+ * @param id         task identifier
+ * @param assigneeId identifier of the assigned user, if any
+ * @param updatedAt  timestamp of the last modification
+ * @param version    optimistic locking version
+ */
+public record TaskStamp(Long id, Long assigneeId, Instant updatedAt, Long version) {
+}
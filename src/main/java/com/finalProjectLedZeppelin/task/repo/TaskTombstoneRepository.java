@@ -0,0 +1,48 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.model.TaskTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link TaskTombstone} entities.
+ */
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Finds identifiers of tasks deleted within the given time range.
+     *
+     * @param from start of the range (exclusive)
+     * @param to   end of the range (inclusive)
+     * @return identifiers of deleted tasks
+     */
+    @Query("select distinct tt.taskId from TaskTombstone tt where tt.deleted = true and tt.removedAt > :from and tt.removedAt <= :to")
+    List<Long> findDeletedTaskIds(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Finds identifiers of tasks the given user lost access to, by deletion
+     * or reassignment, within the given time range.
+     *
+     * @param assigneeId identifier of the user
+     * @param from       start of the range (exclusive)
+     * @param to         end of the range (inclusive)
+     * @return identifiers of removed tasks
+     */
+    @Query("select distinct tt.taskId from TaskTombstone tt where tt.assigneeId = :assigneeId and tt.removedAt > :from and tt.removedAt <= :to")
+    List<Long> findRemovedTaskIds(@Param("assigneeId") Long assigneeId, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Deletes tombstones older than the given instant.
+     *
+     * @param cutoff tombstones removed before this instant are deleted
+     * @return number of deleted tombstones
+     */
+    @Modifying
+    @Query("delete from TaskTombstone tt where tt.removedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,27 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+/**
+ * Outcome of a conditional status change.
+ * <p>
+ * The first three components describe the task as it was before the
+ * statement and are used to explain why nothing was updated.
+ *
+ * @param assigneeId      identifier of the assigned user, if any
+ * @param previousStatus  status before the change
+ * @param previousVersion version before the change
+ * @param updated         task after the change, or {@code null} if the conditions did not match
+ */
+public record TaskTransition(Long assigneeId, TaskStatus previousStatus, long previousVersion, TaskResponse updated) {
+
+    /**
+     * Tells whether the task was updated.
+     *
+     * @return {@code true} if the status was changed
+     */
+    public boolean applied() {
+        return updated != null;
+    }
+}
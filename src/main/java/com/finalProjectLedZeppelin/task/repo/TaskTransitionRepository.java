@@ -0,0 +1,111 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Repository executing task status changes as a single conditional
+ * {@code UPDATE}.
+ * <p>
+ * Ownership, the allowed predecessor statuses and the expected version
+ * are part of the {@code WHERE} clause, so a concurrent change cannot be
+ * overwritten: under read committed, PostgreSQL re-checks the conditions
+ * against the latest row version before updating it. The statement also
+ * returns the row as it was before, so the caller can tell why nothing
+ * was updated without another round trip.
+ * <p>
+ * A status change ends the lease of a claimed task.
+ */
+@Repository
+public class TaskTransitionRepository {
+
+    private static final String SQL = """
+            WITH target AS (
+                SELECT id, assignee_id, status, version FROM tasks WHERE id = ?
+            ), updated AS (
+                UPDATE tasks t
+                SET status = ?, claim_expires_at = NULL, version = t.version + 1, updated_at = clock_timestamp()
+                WHERE t.id = ?
+                  AND (? OR t.assignee_id = ?)
+                  AND %s
+                  AND (CAST(? AS BIGINT) IS NULL OR t.version = ?)
+                RETURNING t.id, t.assignee_id, t.title, t.description, t.status, t.deadline,
+                          t.created_at, t.updated_at, t.version
+            )
+            SELECT target.assignee_id, target.status AS previous_status, target.version AS previous_version,
+                   u.id, u.title, u.description, u.status, u.deadline, u.created_at, u.updated_at, u.version,
+                   a.email AS assignee_email
+            FROM target
+            LEFT JOIN updated u ON u.id = target.id
+            LEFT JOIN users a ON a.id = u.assignee_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a new {@code TaskTransitionRepository} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the statement
+     */
+    public TaskTransitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Changes the status of a task if all conditions hold.
+     *
+     * @param taskId          identifier of the task
+     * @param assigneeId      identifier the assignee must have; {@code null} to skip the ownership check
+     * @param allowedFrom     statuses the task may currently have
+     * @param newStatus       status to set
+     * @param expectedVersion version the task must have; {@code null} to skip the check
+     * @return outcome of the change, or empty if the task does not exist or is not visible
+     */
+    public Optional<TaskTransition> transition(
+            Long taskId,
+            Long assigneeId,
+            Set<TaskStatus> allowedFrom,
+            TaskStatus newStatus,
+            Long expectedVersion
+    ) {
+        List<Object> args = new ArrayList<>(List.of(taskId, newStatus.name(), taskId, assigneeId == null));
+        args.add(assigneeId);
+        args.addAll(allowedFrom.stream().map(Enum::name).toList());
+        args.add(expectedVersion);
+        args.add(expectedVersion);
+        String statusCondition = allowedFrom.isEmpty()
+                ? "FALSE"
+                : "t.status IN (" + String.join(", ", Collections.nCopies(allowedFrom.size(), "?")) + ")";
+        List<TaskTransition> rows = jdbcTemplate.query(SQL.formatted(statusCondition), (rs, i) -> {
+            Long currentAssigneeId = rs.getObject("assignee_id", Long.class);
+            TaskResponse updated = rs.getObject("id") == null ? null : new TaskResponse(
+                    rs.getLong("id"),
+                    currentAssigneeId,
+                    rs.getString("assignee_email"),
+                    rs.getString("title"),
+                    rs.getString("description"),
+                    TaskStatus.valueOf(rs.getString("status")),
+                    rs.getObject("deadline", LocalDate.class),
+                    rs.getTimestamp("created_at").toInstant(),
+                    rs.getTimestamp("updated_at").toInstant(),
+                    rs.getLong("version")
+            );
+            return new TaskTransition(
+                    currentAssigneeId,
+                    TaskStatus.valueOf(rs.getString("previous_status")),
+                    rs.getLong("previous_version"),
+                    updated
+            );
+        }, args.toArray());
+        return rows.stream().findFirst();
+    }
+}
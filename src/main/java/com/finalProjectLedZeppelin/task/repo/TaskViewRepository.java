@@ -0,0 +1,123 @@
+package com.finalProjectLedZeppelin.task.repo;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.model.TaskView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Read-only repository over live and archived tasks.
+ * <p>
+ * Mirrors the query methods of {@link TaskRepository} for requests that
+ * include archived tasks.
+ */
+public interface TaskViewRepository extends Repository<TaskView, Long> {
+
+    /**
+     * Retrieves a live or archived task by its identifier.
+     *
+     * @param id task identifier
+     * @return optional containing the task if found
+     */
+    Optional<TaskView> findById(Long id);
+
+    /**
+     * Retrieves the stamp of a live or archived task.
+     *
+     * @param id task identifier
+     * @return optional containing the task stamp if found
+     * @see TaskRepository#findStampById(Long)
+     */
+    @Query("select new com.finalProjectLedZeppelin.task.repo.TaskStamp(t.id, t.assignee.id, t.updatedAt, t.version) from TaskView t where t.id = :id")
+    Optional<TaskStamp> findStampById(@Param("id") Long id);
+
+    /**
+     * Finds all live and archived tasks.
+     *
+     * @param pageable pagination information
+     * @return page of tasks
+     */
+    Page<TaskView> findAll(Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param pageable   pagination information
+     * @return page of tasks assigned to the user
+     */
+    Page<TaskView> findAllByAssigneeId(Long assigneeId, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with the given status.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param status     task status
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByAssigneeIdAndStatus(Long assigneeId, TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with deadlines within the given range.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param from       start date of the deadline range (inclusive)
+     * @param to         end date of the deadline range (inclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByAssigneeIdAndDeadlineBetween(Long assigneeId, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks assigned to the specified user
+     * with the given status and deadline range.
+     *
+     * @param assigneeId identifier of the assignee
+     * @param status     task status
+     * @param from       start date of the deadline range (inclusive)
+     * @param to         end date of the deadline range (inclusive)
+     * @param pageable   pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByAssigneeIdAndStatusAndDeadlineBetween(Long assigneeId, TaskStatus status, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks with the given status.
+     *
+     * @param status   task status
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByStatus(TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds all tasks with deadlines within the given range.
+     *
+     * @param from     start date of the deadline range (inclusive)
+     * @param to       end date of the deadline range (inclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByDeadlineBetween(LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Finds all tasks with the given status
+     * and deadline range.
+     *
+     * @param status   task status
+     * @param from     start date of the deadline range (inclusive)
+     * @param to       end date of the deadline range (inclusive)
+     * @param pageable pagination information
+     * @return page of matching tasks
+     */
+    Page<TaskView> findAllByStatusAndDeadlineBetween(TaskStatus status, LocalDate from, LocalDate to, Pageable pageable);
+}
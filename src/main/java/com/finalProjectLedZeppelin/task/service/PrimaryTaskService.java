@@ -0,0 +1,899 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.model.TaskListItem;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.model.TaskTombstone;
+import com.finalProjectLedZeppelin.task.repo.ProjectedTask;
+import com.finalProjectLedZeppelin.task.repo.TaskBulkRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskListItemRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskLookupRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskProjectionRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskStamp;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTransition;
+import com.finalProjectLedZeppelin.task.repo.TaskTransitionRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Task service storing tasks in the primary database.
+ * <p>
+ * Registered unless {@code app.sharding.enabled=true}. Every change is made
+ * in one transaction together with its summary counters, delta sync
+ * tombstones and the {@link TaskChangedEvent}s that feed the outbox and
+ * the list read model.
+ */
+@Log4j2
+@Service
+@Transactional
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class PrimaryTaskService implements TaskService {
+
+    private final TaskRepository taskRepository;
+    private final TaskTransitionRepository transitionRepository;
+    private final TaskBulkRepository bulkRepository;
+    private final TaskProjectionRepository projectionRepository;
+    private final TaskLookupRepository lookupRepository;
+    private final TaskListItemRepository listItemRepository;
+    private final UserRepository userRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskSummaryService summaryService;
+    private final TaskRowSecurity rowSecurity;
+    private final TaskWorkflow workflow;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a new {@code PrimaryTaskService} instance.
+     *
+     * @param taskRepository       repository used to manage tasks
+     * @param transitionRepository repository executing conditional status changes
+     * @param bulkRepository       repository inserting tasks in JDBC batches
+     * @param projectionRepository repository reading tasks with sparse fieldsets
+     * @param lookupRepository     repository resolving many tasks by identifier
+     * @param listItemRepository   repository over the task list read model
+     * @param userRepository       repository used to resolve assignees
+     * @param tombstoneRepository  repository used to record removed tasks for delta sync
+     * @param summaryService       service maintaining dashboard task counts
+     * @param rowSecurity          binds callers for database-enforced access checks
+     * @param workflow             allowed status transitions
+     * @param eventPublisher       publisher used to announce task changes
+     */
+    public PrimaryTaskService(
+            TaskRepository taskRepository,
+            TaskTransitionRepository transitionRepository,
+            TaskBulkRepository bulkRepository,
+            TaskProjectionRepository projectionRepository,
+            TaskLookupRepository lookupRepository,
+            TaskListItemRepository listItemRepository,
+            UserRepository userRepository,
+            TaskTombstoneRepository tombstoneRepository,
+            TaskSummaryService summaryService,
+            TaskRowSecurity rowSecurity,
+            TaskWorkflow workflow,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.taskRepository = taskRepository;
+        this.transitionRepository = transitionRepository;
+        this.bulkRepository = bulkRepository;
+        this.projectionRepository = projectionRepository;
+        this.lookupRepository = lookupRepository;
+        this.listItemRepository = listItemRepository;
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.summaryService = summaryService;
+        this.rowSecurity = rowSecurity;
+        this.workflow = workflow;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates a new task.
+     * <p>
+     * If {@code assigneeId} is provided, the assignee must exist; otherwise
+     * the task is created as unassigned.
+     *
+     * @param req task creation request
+     * @return created task representation
+     * @throws IllegalArgumentException if the assignee does not exist
+     */
+    @Override
+    public TaskResponse create(TaskCreateRequest req) {
+        log.info("Task create requested (assigneeId={}, deadline={})", req.assigneeId(), req.deadline());
+        Task t = new Task();
+        t.setTitle(req.title());
+        t.setDescription(req.description());
+        t.setDeadline(req.deadline());
+        if (req.assigneeId() == null) {
+            t.setAssignee(null);
+            log.debug("Task create: assignee is null");
+        } else {
+            User assignee = userRepository.findById(req.assigneeId())
+                    .orElseThrow(() -> {
+                        log.warn("Task create failed: assignee not found (assigneeId={})", req.assigneeId());
+                        return new IllegalArgumentException("User not found: " + req.assigneeId());
+                    });
+            t.setAssignee(assignee);
+        }
+        Task saved = taskRepository.save(t);
+        summaryService.move(null, TaskSummaryKey.of(saved));
+        log.info("Task created (taskId={}, assigneeId={}, status={})",
+                saved.getId(),
+                saved.getAssignee() != null ? saved.getAssignee().getId() : null,
+                saved.getStatus()
+        );
+        publish(TaskChangedEvent.Type.CREATED, saved, null);
+        return toResponse(saved);
+    }
+
+    /**
+     * Creates several tasks at once.
+     * <p>
+     * Behaves like {@link #create} for each request, but assignees are
+     * resolved in one query, the rows are inserted in a single JDBC batch,
+     * summary counts are adjusted once per bucket and the changes are
+     * announced as one {@link TaskBatchChangedEvent}. The requests are
+     * created together or not at all.
+     *
+     * @param reqs task creation requests
+     * @return created task representations, in request order
+     * @throws IllegalArgumentException if any assignee does not exist
+     */
+    @Override
+    public List<TaskResponse> createAll(List<TaskCreateRequest> reqs) {
+        log.info("Task bulk create requested (count={})", reqs.size());
+        Set<Long> assigneeIds = reqs.stream()
+                .map(TaskCreateRequest::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> emails = new HashMap<>();
+        userRepository.findAllById(assigneeIds).forEach(u -> emails.put(u.getId(), u.getEmail()));
+        for (Long assigneeId : assigneeIds) {
+            if (!emails.containsKey(assigneeId)) {
+                log.warn("Task bulk create failed: assignee not found (assigneeId={})", assigneeId);
+                throw new IllegalArgumentException("User not found: " + assigneeId);
+            }
+        }
+        List<TaskResponse> created = bulkRepository.insertAll(reqs, emails);
+        summaryService.addAll(created.stream()
+                .map(r -> TaskSummaryKey.of(r.assigneeId(), r.status(), r.deadline()))
+                .toList());
+        eventPublisher.publishEvent(new TaskBatchChangedEvent(created.stream()
+                .map(r -> new TaskChangedEvent(TaskChangedEvent.Type.CREATED, r.id(), r.assigneeId(), null))
+                .toList()));
+        log.info("Tasks created (count={})", created.size());
+        return created;
+    }
+
+    /**
+     * Retrieves a task by its identifier.
+     * <p>
+     * Admins can access any task. Non-admin users can access only tasks
+     * assigned to them. In row-level security mode the task and its
+     * assignee are read in one statement that returns nothing for tasks
+     * the caller may not see.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task representation
+     * @throws NotFoundException     if the task does not exist, or is not visible in row-level security mode
+     * @throws AccessDeniedException if the current user is not allowed to access the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponse get(Long userId, boolean isAdmin, Long taskId) {
+        log.debug("Task get requested (taskId={}, userId={}, isAdmin={})", taskId, userId, isAdmin);
+        if (rowSecurity.enabled()) {
+            rowSecurity.bind(userId, isAdmin);
+            return toResponse(findVisible(taskId, "get"));
+        }
+        Task t = taskRepository.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task get failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        if (!isAdmin) {
+            try {
+                requireAssignee(userId, t);
+            } catch (AccessDeniedException ex) {
+                log.warn("Task get denied (taskId={}, userId={})", taskId, userId);
+                throw ex;
+            }
+        }
+        return toResponse(t);
+    }
+
+    /**
+     * Retrieves selected fields of a task.
+     * <p>
+     * Applies the same access rules as {@link #get(Long, boolean, Long)},
+     * but reads only the requested columns in a single statement.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @param fields  fields to return
+     * @return selected task members, in response order
+     * @throws NotFoundException     if the task does not exist, or is not visible in row-level security mode
+     * @throws AccessDeniedException if the current user is not allowed to access the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> get(Long userId, boolean isAdmin, Long taskId, TaskFields fields) {
+        log.debug("Task get requested (taskId={}, userId={}, isAdmin={}, fields={})", taskId, userId, isAdmin, fields);
+        if (rowSecurity.enabled()) {
+            rowSecurity.bind(userId, isAdmin);
+        }
+        ProjectedTask t = projectionRepository.findById(taskId, fields)
+                .orElseThrow(() -> {
+                    log.warn("Task get failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        if (!isAdmin) {
+            requireAssignee(userId, taskId, t.assigneeId());
+        }
+        return t.fields();
+    }
+
+    /**
+     * Resolves many tasks by identifier.
+     * <p>
+     * All tasks are read in one query that also evaluates the assignee
+     * check, so each identifier is reported as found, forbidden or missing
+     * instead of failing the request. Duplicate identifiers are resolved
+     * once. In row-level security mode tasks the caller may not see are
+     * reported as missing, as {@link #get(Long, boolean, Long)} does.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param ids     task identifiers
+     * @return result of each distinct identifier, in request order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskLookupResult> lookup(Long userId, boolean isAdmin, List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        log.debug("Task lookup requested (userId={}, isAdmin={}, count={})", userId, isAdmin, distinct.size());
+        if (rowSecurity.enabled()) {
+            rowSecurity.bind(userId, isAdmin);
+        }
+        Map<Long, TaskLookupResult> byId = new HashMap<>();
+        for (TaskLookupResult r : lookupRepository.findAll(distinct, userId, isAdmin)) {
+            byId.put(r.id(), r);
+        }
+        List<TaskLookupResult> results = distinct.stream()
+                .map(id -> byId.getOrDefault(id, TaskLookupResult.missing(id)))
+                .toList();
+        log.debug("Task lookup returned (userId={}, requested={}, found={})",
+                userId, distinct.size(), results.stream().filter(r -> r.outcome() == TaskLookupResult.Outcome.FOUND).count());
+        return results;
+    }
+
+    /**
+     * Retrieves the modification stamp of a task without loading the entity.
+     * <p>
+     * Applies the same access rules as {@link #get(Long, boolean, Long)}, so
+     * the stamp can be used to answer conditional requests before the task
+     * itself is read.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task stamp
+     * @throws NotFoundException     if the task does not exist, or is not visible in row-level security mode
+     * @throws AccessDeniedException if the current user is not allowed to access the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStamp stamp(Long userId, boolean isAdmin, Long taskId) {
+        if (rowSecurity.enabled()) {
+            rowSecurity.bind(userId, isAdmin);
+        }
+        TaskStamp stamp = taskRepository.findStampById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task stamp failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        if (!isAdmin && !userId.equals(stamp.assigneeId())) {
+            log.warn("Task stamp denied (taskId={}, userId={}, assigneeId={})", taskId, userId, stamp.assigneeId());
+            throw new AccessDeniedException(stamp.assigneeId() == null ? "Task is not assigned" : "Not your task");
+        }
+        return stamp;
+    }
+
+    /**
+     * Updates task fields as an administrator.
+     * <p>
+     * Allows changing title/description/deadline, optional status update,
+     * and (re)assignment/unassignment.
+     *
+     * @param taskId          identifier of the task to update
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param req             update request containing new task values
+     * @return updated task representation
+     * @throws NotFoundException           if the task does not exist
+     * @throws IllegalArgumentException    if the assignee does not exist
+     * @throws PreconditionFailedException if the task version does not match {@code expectedVersion}
+     * @throws ConflictException           if admin overrides are disabled and the workflow does not allow the status change
+     */
+    @Override
+    public TaskResponse adminUpdate(Long taskId, Long expectedVersion, TaskUpdateRequest req) {
+        log.info("Task adminUpdate requested (taskId={}, assigneeId={}, status={}, deadline={})",
+                taskId, req.assigneeId(), req.status(), req.deadline()
+        );
+        Task t = taskRepository.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task adminUpdate failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        requireVersion(t, expectedVersion);
+        Long previousAssigneeId = assigneeId(t);
+        TaskSummaryKey before = TaskSummaryKey.of(t);
+        t.setTitle(req.title());
+        t.setDescription(req.description());
+        if (req.status() != null) {
+            workflow.require(taskId, t.getStatus(), req.status(), true);
+            t.setStatus(req.status());
+        }
+        t.setDeadline(req.deadline());
+        if (req.assigneeId() == null) {
+            t.setAssignee(null);
+        } else {
+            User assignee = userRepository.findById(req.assigneeId())
+                    .orElseThrow(() -> {
+                        log.warn("Task adminUpdate failed: assignee not found (taskId={}, assigneeId={})",
+                                taskId, req.assigneeId()
+                        );
+                        return new IllegalArgumentException("User not found: " + req.assigneeId());
+                    });
+            t.setAssignee(assignee);
+        }
+        recordReassignment(t, previousAssigneeId);
+        endClaim(t, before, previousAssigneeId);
+        summaryService.move(before, TaskSummaryKey.of(t));
+        taskRepository.flush();
+        log.info("Task adminUpdate success (taskId={}, assigneeId={}, status={})",
+                t.getId(),
+                t.getAssignee() != null ? t.getAssignee().getId() : null,
+                t.getStatus()
+        );
+        publish(TaskChangedEvent.Type.UPDATED, t, previousAssigneeId);
+        return toResponse(t);
+    }
+
+    /**
+     * Applies a JSON Merge Patch to a task as an administrator.
+     * <p>
+     * Only fields present in the patch are modified. Combined with dynamic
+     * updates on {@link Task}, the resulting {@code UPDATE} sets just the
+     * columns whose values actually changed.
+     *
+     * @param taskId          identifier of the task to patch
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param req             parsed merge patch
+     * @return updated task representation
+     * @throws NotFoundException           if the task does not exist
+     * @throws IllegalArgumentException    if the assignee does not exist
+     * @throws PreconditionFailedException if the task version does not match {@code expectedVersion}
+     * @throws ConflictException           if admin overrides are disabled and the workflow does not allow the status change
+     */
+    @Override
+    public TaskResponse patch(Long taskId, Long expectedVersion, TaskPatchRequest req) {
+        log.info("Task patch requested (taskId={}, fields=[title={}, description={}, status={}, deadline={}, assigneeId={}])",
+                taskId, req.hasTitle(), req.hasDescription(), req.hasStatus(), req.hasDeadline(), req.hasAssigneeId()
+        );
+        Task t = taskRepository.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task patch failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        requireVersion(t, expectedVersion);
+        Long previousAssigneeId = assigneeId(t);
+        TaskSummaryKey before = TaskSummaryKey.of(t);
+        if (req.hasTitle()) {
+            t.setTitle(req.title());
+        }
+        if (req.hasDescription()) {
+            t.setDescription(req.description());
+        }
+        if (req.hasStatus()) {
+            workflow.require(taskId, t.getStatus(), req.status(), true);
+            t.setStatus(req.status());
+        }
+        if (req.hasDeadline()) {
+            t.setDeadline(req.deadline());
+        }
+        if (req.hasAssigneeId() && !Objects.equals(req.assigneeId(), previousAssigneeId)) {
+            if (req.assigneeId() == null) {
+                t.setAssignee(null);
+            } else {
+                User assignee = userRepository.findById(req.assigneeId())
+                        .orElseThrow(() -> {
+                            log.warn("Task patch failed: assignee not found (taskId={}, assigneeId={})",
+                                    taskId, req.assigneeId()
+                            );
+                            return new IllegalArgumentException("User not found: " + req.assigneeId());
+                        });
+                t.setAssignee(assignee);
+            }
+        }
+        recordReassignment(t, previousAssigneeId);
+        endClaim(t, before, previousAssigneeId);
+        summaryService.move(before, TaskSummaryKey.of(t));
+        taskRepository.flush();
+        log.info("Task patch success (taskId={}, version={})", t.getId(), t.getVersion());
+        publish(TaskChangedEvent.Type.UPDATED, t, previousAssigneeId);
+        return toResponse(t);
+    }
+
+    /**
+     * Updates the status of a task.
+     * <p>
+     * Admins can update any task. Non-admin users can update only tasks
+     * assigned to them, and only along the transitions allowed by the
+     * {@link TaskWorkflow}. The change is a single conditional
+     * {@code UPDATE}, so it cannot overwrite a concurrent change; when no
+     * row is updated, the previous state returned by the same statement
+     * tells which condition failed. In row-level security mode the
+     * database additionally hides tasks the caller may not see.
+     *
+     * @param userId          identifier of the current user
+     * @param isAdmin         whether the current user has admin privileges
+     * @param taskId          identifier of the task to update
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param newStatus       new status to set
+     * @return updated task representation
+     * @throws NotFoundException           if the task does not exist, or is not visible in row-level security mode
+     * @throws AccessDeniedException       if the current user is not allowed to update the task
+     * @throws PreconditionFailedException if the task version does not match {@code expectedVersion},
+     *                                     or the task changed while the statement ran
+     * @throws ConflictException           if the workflow does not allow the transition
+     */
+    @Override
+    public TaskResponse updateStatus(Long userId, boolean isAdmin, Long taskId, Long expectedVersion, TaskStatus newStatus) {
+        log.info("Task status update requested (taskId={}, userId={}, isAdmin={}, newStatus={})",
+                taskId, userId, isAdmin, newStatus
+        );
+        if (rowSecurity.enabled()) {
+            rowSecurity.bind(userId, isAdmin);
+        }
+        TaskTransition result = transitionRepository.transition(
+                        taskId,
+                        isAdmin ? null : userId,
+                        workflow.predecessorsOf(newStatus, isAdmin),
+                        newStatus,
+                        expectedVersion
+                )
+                .orElseThrow(() -> {
+                    log.warn("Task status update failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        if (!result.applied()) {
+            throw rejection(userId, isAdmin, taskId, expectedVersion, newStatus, result);
+        }
+        TaskResponse updated = result.updated();
+        summaryService.move(
+                TaskSummaryKey.of(result.assigneeId(), result.previousStatus(), updated.deadline()),
+                TaskSummaryKey.of(result.assigneeId(), updated.status(), updated.deadline())
+        );
+        log.info("Task status updated (taskId={}, from={}, to={}, version={})",
+                taskId, result.previousStatus(), newStatus, updated.version());
+        eventPublisher.publishEvent(new TaskChangedEvent(
+                TaskChangedEvent.Type.STATUS_CHANGED, taskId, result.assigneeId(), result.assigneeId()));
+        return updated;
+    }
+
+    /**
+     * Deletes a task.
+     * <p>
+     * A tombstone is recorded so that clients using delta sync learn
+     * about the deletion.
+     *
+     * @param taskId identifier of the task to delete
+     * @throws NotFoundException if the task does not exist
+     */
+    @Override
+    public void delete(Long taskId) {
+        log.info("Task delete requested (taskId={})", taskId);
+        Task t = taskRepository.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task delete failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+        Long assigneeId = assigneeId(t);
+        taskRepository.delete(t);
+        summaryService.move(TaskSummaryKey.of(t), null);
+        tombstoneRepository.save(new TaskTombstone(taskId, assigneeId, true));
+        log.info("Task deleted (taskId={})", taskId);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, taskId, null, assigneeId));
+    }
+
+    /**
+     * Returns a paginated list of tasks.
+     * <p>
+     * Supports optional filtering by status and/or deadline range.
+     * Admins receive tasks across the system; non-admin users receive
+     * only tasks assigned to them.
+     * <p>
+     * Listings read the {@code task_list_view} read model only, so
+     * responses carry no description; clients load a single task for it.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive); must be provided together with {@code deadlineTo}
+     * @param deadlineTo   optional deadline range end (inclusive); must be provided together with {@code deadlineFrom}
+     * @param pageable     pagination and sorting information
+     * @return page of matching tasks represented as {@link TaskResponse}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            Pageable pageable
+    ) {
+        log.debug("Task list requested (userId={}, isAdmin={}, status={}, deadlineFrom={}, deadlineTo={}, page={}, size={}, sort={})",
+                userId, isAdmin, status, deadlineFrom, deadlineTo,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()
+        );
+        boolean hasStatus = status != null;
+        boolean hasRange = deadlineFrom != null && deadlineTo != null;
+        Page<TaskListItem> page;
+        if (isAdmin) {
+            if (hasStatus && hasRange) {
+                page = listItemRepository.findAllByStatusAndDeadlineBetween(status, deadlineFrom, deadlineTo, pageable);
+            } else if (hasStatus) {
+                page = listItemRepository.findAllByStatus(status, pageable);
+            } else if (hasRange) {
+                page = listItemRepository.findAllByDeadlineBetween(deadlineFrom, deadlineTo, pageable);
+            } else {
+                page = listItemRepository.findAll(pageable);
+            }
+        } else {
+            if (hasStatus && hasRange) {
+                page = listItemRepository.findAllByAssigneeIdAndStatusAndDeadlineBetween(userId, status, deadlineFrom, deadlineTo, pageable);
+            } else if (hasStatus) {
+                page = listItemRepository.findAllByAssigneeIdAndStatus(userId, status, pageable);
+            } else if (hasRange) {
+                page = listItemRepository.findAllByAssigneeIdAndDeadlineBetween(userId, deadlineFrom, deadlineTo, pageable);
+            } else {
+                page = listItemRepository.findAllByAssigneeId(userId, pageable);
+            }
+        }
+        log.debug("Task list returned (userId={}, isAdmin={}, totalElements={})",
+                userId, isAdmin, page.getTotalElements()
+        );
+        return page.map(PrimaryTaskService::toResponse);
+    }
+
+    /**
+     * Returns a paginated list of open tasks due within a deadline window.
+     * <p>
+     * Applies the same access rules as
+     * {@link #list(Long, boolean, TaskStatus, LocalDate, LocalDate, Pageable)}.
+     * Only tasks not in status {@code DONE} are listed, with queries that
+     * are served by the partial indexes on open tasks.
+     *
+     * @param userId   identifier of the current user
+     * @param isAdmin  whether the current user has admin privileges
+     * @param status   optional status filter; {@code DONE} matches nothing
+     * @param due      deadline window
+     * @param pageable pagination and sorting information
+     * @return page of matching tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            TaskDueWindow due,
+            Pageable pageable
+    ) {
+        log.debug("Task due list requested (userId={}, isAdmin={}, status={}, dueFrom={}, dueBefore={}, page={}, size={}, sort={})",
+                userId, isAdmin, status, due.from(), due.before(),
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort()
+        );
+        if (status == TaskStatus.DONE) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        List<String> statuses = status != null ? List.of(status.name()) : openStatuses();
+        Page<TaskListItem> page;
+        if (isAdmin) {
+            page = due.from() != null
+                    ? listItemRepository.findOpenByDeadlineBetween(statuses, due.from(), due.before(), pageable)
+                    : listItemRepository.findOpenByDeadlineBefore(statuses, due.before(), pageable);
+        } else {
+            page = due.from() != null
+                    ? listItemRepository.findOpenByAssigneeIdAndDeadlineBetween(userId, statuses, due.from(), due.before(), pageable)
+                    : listItemRepository.findOpenByAssigneeIdAndDeadlineBefore(userId, statuses, due.before(), pageable);
+        }
+        log.debug("Task due list returned (userId={}, isAdmin={}, totalElements={})",
+                userId, isAdmin, page.getTotalElements()
+        );
+        return page.map(PrimaryTaskService::toResponse);
+    }
+
+    /**
+     * Returns a paginated list of tasks with selected fields.
+     * <p>
+     * Applies the same filters and access rules as
+     * {@link #list(Long, boolean, TaskStatus, LocalDate, LocalDate, Pageable)},
+     * but reads only the requested columns. The description is read from
+     * {@code tasks} only when requested.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive); must be provided together with {@code deadlineTo}
+     * @param deadlineTo   optional deadline range end (inclusive); must be provided together with {@code deadlineFrom}
+     * @param due          optional deadline window of open tasks
+     * @param pageable     pagination and sorting information
+     * @param fields       fields to return
+     * @return page of selected task members
+     * @throws IllegalArgumentException if sorting by an unsupported property is requested
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            TaskDueWindow due,
+            Pageable pageable,
+            TaskFields fields
+    ) {
+        log.debug("Task list requested (userId={}, isAdmin={}, status={}, deadlineFrom={}, deadlineTo={}, due={}, page={}, size={}, sort={}, fields={})",
+                userId, isAdmin, status, deadlineFrom, deadlineTo, due,
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), fields
+        );
+        return projectionRepository.findAll(isAdmin ? null : userId, status, deadlineFrom, deadlineTo, due, pageable, fields);
+    }
+
+    /**
+     * Explains why a conditional status change did not update the task.
+     *
+     * @param userId          identifier of the current user
+     * @param isAdmin         whether the current user has admin privileges
+     * @param taskId          identifier of the task
+     * @param expectedVersion version the client based its change on, if any
+     * @param newStatus       requested status
+     * @param result          state of the task before the statement
+     * @return exception to throw
+     */
+    private RuntimeException rejection(
+            Long userId,
+            boolean isAdmin,
+            Long taskId,
+            Long expectedVersion,
+            TaskStatus newStatus,
+            TaskTransition result
+    ) {
+        if (!isAdmin && !Objects.equals(userId, result.assigneeId())) {
+            log.warn("Task status update denied (taskId={}, userId={}, assigneeId={}, newStatus={})",
+                    taskId, userId, result.assigneeId(), newStatus
+            );
+            return new AccessDeniedException(result.assigneeId() == null ? "Task is not assigned" : "Not your task");
+        }
+        if (expectedVersion != null && expectedVersion != result.previousVersion()) {
+            log.warn("Task version mismatch (taskId={}, expected={}, actual={})",
+                    taskId, expectedVersion, result.previousVersion()
+            );
+            return new PreconditionFailedException("Task has been modified");
+        }
+        if (!workflow.allows(result.previousStatus(), newStatus, isAdmin)) {
+            log.warn("Task status transition rejected (taskId={}, from={}, to={}, isAdmin={})",
+                    taskId, result.previousStatus(), newStatus, isAdmin
+            );
+            return new ConflictException("Status transition not allowed: " + result.previousStatus() + " -> " + newStatus);
+        }
+        log.warn("Task status update lost a race (taskId={}, newStatus={})", taskId, newStatus);
+        return new PreconditionFailedException("Task has been modified");
+    }
+
+    /**
+     * Loads a task with its assignee under row-level security.
+     *
+     * @param taskId    identifier of the task
+     * @param operation operation name used in logs
+     * @return task entity
+     * @throws NotFoundException if the task does not exist or is not visible to the bound caller
+     */
+    private Task findVisible(Long taskId, String operation) {
+        return taskRepository.findWithAssigneeById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Task {} failed: task not found or not visible (taskId={})", operation, taskId);
+                    return new NotFoundException("Task not found");
+                });
+    }
+
+    /**
+     * Ensures the task is assigned to the specified user.
+     *
+     * @param userId current user identifier
+     * @param t      task entity
+     * @throws AccessDeniedException if the task is unassigned or assigned to a different user
+     */
+    private void requireAssignee(Long userId, Task t) {
+        requireAssignee(userId, t.getId(), assigneeId(t));
+    }
+
+    /**
+     * Ensures that the given user is the assignee of the task.
+     *
+     * @param userId     identifier of the user
+     * @param taskId     identifier of the task, used in logs
+     * @param assigneeId identifier of the task assignee, if any
+     * @throws AccessDeniedException if the task is unassigned or assigned to another user
+     */
+    private void requireAssignee(Long userId, Long taskId, Long assigneeId) {
+        if (assigneeId == null) {
+            log.warn("Task access denied: task is not assigned (taskId={}, userId={})", taskId, userId);
+            throw new AccessDeniedException("Task is not assigned");
+        }
+        if (!assigneeId.equals(userId)) {
+            log.warn("Task access denied: not your task (taskId={}, userId={}, assigneeId={})",
+                    taskId, userId, assigneeId
+            );
+            throw new AccessDeniedException("Not your task");
+        }
+    }
+
+    /**
+     * Ensures the task has the version the client based its change on.
+     *
+     * @param t               task entity
+     * @param expectedVersion expected version, or {@code null} to skip the check
+     * @throws PreconditionFailedException if the versions differ
+     */
+    private static void requireVersion(Task t, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(t.getVersion())) {
+            log.warn("Task version mismatch (taskId={}, expected={}, actual={})",
+                    t.getId(), expectedVersion, t.getVersion()
+            );
+            throw new PreconditionFailedException("Task has been modified");
+        }
+    }
+
+    /**
+     * Records a tombstone for the previous assignee if the task was
+     * reassigned away from them.
+     *
+     * @param t                  task after the change
+     * @param previousAssigneeId assignee identifier before the change, if any
+     */
+    private void recordReassignment(Task t, Long previousAssigneeId) {
+        if (previousAssigneeId != null && !previousAssigneeId.equals(assigneeId(t))) {
+            tombstoneRepository.save(new TaskTombstone(t.getId(), previousAssigneeId, false));
+        }
+    }
+
+    /**
+     * Ends the claim lease of a task whose status or assignee changed.
+     *
+     * @param t                  task after the change
+     * @param before             summary key of the task before the change
+     * @param previousAssigneeId assignee identifier before the change, if any
+     */
+    private static void endClaim(Task t, TaskSummaryKey before, Long previousAssigneeId) {
+        if (t.getClaimExpiresAt() != null
+                && (t.getStatus() != before.status() || !Objects.equals(assigneeId(t), previousAssigneeId))) {
+            t.setClaimExpiresAt(null);
+        }
+    }
+
+    /**
+     * Publishes a {@link TaskChangedEvent} for the given task.
+     *
+     * @param type               kind of change
+     * @param t                  task after the change
+     * @param previousAssigneeId assignee identifier before the change, if any
+     */
+    private void publish(TaskChangedEvent.Type type, Task t, Long previousAssigneeId) {
+        eventPublisher.publishEvent(new TaskChangedEvent(type, t.getId(), assigneeId(t), previousAssigneeId));
+    }
+
+    /**
+     * Returns the identifier of the task assignee without initializing it.
+     *
+     * @param t task entity
+     * @return assignee identifier, or {@code null} if unassigned
+     */
+    private static Long assigneeId(Task t) {
+        return t.getAssignee() != null ? t.getAssignee().getId() : null;
+    }
+
+    /**
+     * Returns the names of all statuses except {@code DONE}.
+     *
+     * @return open status names
+     */
+    private static List<String> openStatuses() {
+        return Arrays.stream(TaskStatus.values())
+                .filter(s -> s != TaskStatus.DONE)
+                .map(TaskStatus::name)
+                .toList();
+    }
+
+    /**
+     * Maps a {@link TaskListItem} to a {@link TaskResponse} without description.
+     *
+     * @param t list read model row
+     * @return task response DTO
+     */
+    static TaskResponse toResponse(TaskListItem t) {
+        return new TaskResponse(
+                t.getId(),
+                t.getAssigneeId(),
+                t.getAssigneeEmail(),
+                t.getTitle(),
+                null,
+                t.getStatus(),
+                t.getDeadline(),
+                t.getCreatedAt(),
+                t.getUpdatedAt(),
+                t.getVersion()
+        );
+    }
+
+    /**
+     * Maps a {@link Task} entity to a {@link TaskResponse}.
+     *
+     * @param t task entity
+     * @return task response DTO
+     */
+    static TaskResponse toResponse(Task t) {
+        User a = t.getAssignee();
+        return new TaskResponse(
+                t.getId(),
+                a != null ? a.getId() : null,
+                a != null ? a.getEmail() : null,
+                t.getTitle(),
+                t.getDescription(),
+                t.getStatus(),
+                t.getDeadline(),
+                t.getCreatedAt(),
+                t.getUpdatedAt(),
+                t.getVersion()
+        );
+    }
+}
\ No newline at end of file
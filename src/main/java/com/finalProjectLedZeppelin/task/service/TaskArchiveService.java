@@ -0,0 +1,294 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.web.ResourceVersions;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.model.TaskView;
+import com.finalProjectLedZeppelin.task.repo.TaskStamp;
+import com.finalProjectLedZeppelin.task.repo.TaskViewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Service responsible for archived tasks.
+ * <p>
+ * A background job moves {@code DONE} tasks that have not changed for
+ * {@code min-age} from {@code tasks} into {@code tasks_archive}, in small
+ * batches separated by a pause, so that the hot table and its indexes
+ * only grow with open work. The same statement drops archived tasks from
+ * the {@code task_list_view} read model. Archived tasks are read-only and are returned
+ * only when a request explicitly includes them; such requests read the
+ * {@code tasks_all} view. Neither is available in sharded mode.
+ */
+@Log4j2
+@Service
+@Transactional(readOnly = true)
+public class TaskArchiveService {
+
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH moved AS (
+                DELETE FROM tasks
+                WHERE id IN (
+                    SELECT id FROM tasks
+                    WHERE status = 'DONE' AND updated_at < ?
+                    ORDER BY updated_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, assignee_id, title, description, status, deadline, created_at, updated_at, version
+            ),
+            unlisted AS (
+                DELETE FROM task_list_view WHERE id IN (SELECT id FROM moved)
+            )
+            INSERT INTO tasks_archive
+                (id, assignee_id, title, description, status, deadline, created_at, updated_at, version, archived_at)
+            SELECT id, assignee_id, title, description, status, deadline, created_at, updated_at, version, now()
+            FROM moved
+            """;
+
+    private final TaskViewRepository taskViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceVersions resourceVersions;
+    private final boolean sharded;
+    private final Duration minAge;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final Counter archived;
+
+    /**
+     * Creates a new {@code TaskArchiveService} instance.
+     *
+     * @param taskViewRepository repository over live and archived tasks
+     * @param jdbcTemplate       JDBC template used to move tasks to the archive
+     * @param resourceVersions   version stamps invalidated when tasks are archived
+     * @param sharded            whether tasks are stored in shards
+     * @param minAge             how long a task must have been {@code DONE} and unchanged before it is archived
+     * @param batchSize          number of tasks moved per statement
+     * @param maxBatches         maximum number of batches per run
+     * @param pause              pause between batches
+     * @param meterRegistry      registry used to publish archival metrics
+     */
+    public TaskArchiveService(
+            TaskViewRepository taskViewRepository,
+            JdbcTemplate jdbcTemplate,
+            ResourceVersions resourceVersions,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.archive.min-age:P90D}") Duration minAge,
+            @Value("${app.tasks.archive.batch-size:500}") int batchSize,
+            @Value("${app.tasks.archive.max-batches:200}") int maxBatches,
+            @Value("${app.tasks.archive.pause:PT0.2S}") Duration pause,
+            MeterRegistry meterRegistry
+    ) {
+        this.taskViewRepository = taskViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.resourceVersions = resourceVersions;
+        this.sharded = sharded;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.archived = Counter.builder("app.tasks.archived")
+                .description("Tasks moved to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves eligible {@code DONE} tasks to the archive.
+     * <p>
+     * Each batch is a single statement, so a task is always either live
+     * or archived. Rows locked by concurrent writers are skipped and
+     * picked up by a later run. The run stops when a batch comes back
+     * short or {@code max-batches} is reached. Scheduled by
+     * {@link TaskMaintenanceJobs}.
+     *
+     * @return number of archived tasks
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int archive() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(minAge));
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int moved = jdbcTemplate.update(ARCHIVE_BATCH_SQL, cutoff, batchSize);
+            if (moved > 0) {
+                total += moved;
+                archived.increment(moved);
+                resourceVersions.bump(ResourceVersions.Scope.TASKS);
+            }
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        log.info("Task archive run finished (archived={}, cutoff={})", total, cutoff.toInstant());
+        return total;
+    }
+
+    /**
+     * Retrieves a live or archived task by its identifier.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task representation
+     * @throws NotFoundException     if the task does not exist
+     * @throws AccessDeniedException    if the current user is not allowed to access the task
+     * @throws IllegalArgumentException in sharded mode
+     * @see TaskService#get(Long, boolean, Long)
+     */
+    public TaskResponse get(Long userId, boolean isAdmin, Long taskId) {
+        requireUnsharded(userId);
+        log.debug("Task get (including archived) requested (taskId={}, userId={}, isAdmin={})", taskId, userId, isAdmin);
+        TaskView t = taskViewRepository.findById(taskId)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+        if (!isAdmin) {
+            requireAssignee(userId, t.getId(), t.getAssignee() != null ? t.getAssignee().getId() : null);
+        }
+        return toResponse(t);
+    }
+
+    /**
+     * Retrieves the stamp of a live or archived task.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task stamp
+     * @throws NotFoundException     if the task does not exist
+     * @throws AccessDeniedException    if the current user is not allowed to access the task
+     * @throws IllegalArgumentException in sharded mode
+     * @see TaskService#stamp(Long, boolean, Long)
+     */
+    public TaskStamp stamp(Long userId, boolean isAdmin, Long taskId) {
+        requireUnsharded(userId);
+        TaskStamp stamp = taskViewRepository.findStampById(taskId)
+                .orElseThrow(() -> new NotFoundException("Task not found"));
+        if (!isAdmin) {
+            requireAssignee(userId, taskId, stamp.assigneeId());
+        }
+        return stamp;
+    }
+
+    /**
+     * Returns a paginated list of live and archived tasks.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive)
+     * @param deadlineTo   optional deadline range end (inclusive)
+     * @param pageable     pagination and sorting information
+     * @return page of matching tasks
+     * @throws IllegalArgumentException in sharded mode
+     * @see TaskService#list(Long, boolean, TaskStatus, LocalDate, LocalDate, Pageable)
+     */
+    public Page<TaskResponse> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            Pageable pageable
+    ) {
+        log.debug("Task list (including archived) requested (userId={}, isAdmin={}, status={}, deadlineFrom={}, deadlineTo={})",
+                userId, isAdmin, status, deadlineFrom, deadlineTo
+        );
+        requireUnsharded(userId);
+        boolean hasStatus = status != null;
+        boolean hasRange = deadlineFrom != null && deadlineTo != null;
+        Page<TaskView> page;
+        if (isAdmin) {
+            if (hasStatus && hasRange) {
+                page = taskViewRepository.findAllByStatusAndDeadlineBetween(status, deadlineFrom, deadlineTo, pageable);
+            } else if (hasStatus) {
+                page = taskViewRepository.findAllByStatus(status, pageable);
+            } else if (hasRange) {
+                page = taskViewRepository.findAllByDeadlineBetween(deadlineFrom, deadlineTo, pageable);
+            } else {
+                page = taskViewRepository.findAll(pageable);
+            }
+        } else {
+            if (hasStatus && hasRange) {
+                page = taskViewRepository.findAllByAssigneeIdAndStatusAndDeadlineBetween(userId, status, deadlineFrom, deadlineTo, pageable);
+            } else if (hasStatus) {
+                page = taskViewRepository.findAllByAssigneeIdAndStatus(userId, status, pageable);
+            } else if (hasRange) {
+                page = taskViewRepository.findAllByAssigneeIdAndDeadlineBetween(userId, deadlineFrom, deadlineTo, pageable);
+            } else {
+                page = taskViewRepository.findAllByAssigneeId(userId, pageable);
+            }
+        }
+        return page.map(TaskArchiveService::toResponse);
+    }
+
+    /**
+     * Rejects archive reads in sharded mode, where archived tasks are not kept.
+     *
+     * @param userId current user identifier
+     * @throws IllegalArgumentException in sharded mode
+     */
+    private void requireUnsharded(Long userId) {
+        if (sharded) {
+            log.warn("Task archive read rejected: not supported in sharded mode (userId={})", userId);
+            throw new IllegalArgumentException("includeArchived is not supported in sharded mode");
+        }
+    }
+
+    /**
+     * Ensures the task is assigned to the specified user.
+     *
+     * @param userId     current user identifier
+     * @param taskId     task identifier
+     * @param assigneeId task assignee identifier, if any
+     * @throws AccessDeniedException if the task is unassigned or assigned to a different user
+     */
+    private static void requireAssignee(Long userId, Long taskId, Long assigneeId) {
+        if (!userId.equals(assigneeId)) {
+            log.warn("Task access denied (taskId={}, userId={}, assigneeId={})", taskId, userId, assigneeId);
+            throw new AccessDeniedException(assigneeId == null ? "Task is not assigned" : "Not your task");
+        }
+    }
+
+    /**
+     * Maps a {@link TaskView} to a {@link TaskResponse}.
+     *
+     * @param t task view entity
+     * @return task response DTO
+     */
+    private static TaskResponse toResponse(TaskView t) {
+        User a = t.getAssignee();
+        return new TaskResponse(
+                t.getId(),
+                a != null ? a.getId() : null,
+                a != null ? a.getEmail() : null,
+                t.getTitle(),
+                t.getDescription(),
+                t.getStatus(),
+                t.getDeadline(),
+                t.getCreatedAt(),
+                t.getUpdatedAt(),
+                t.getVersion()
+        );
+    }
+}
@@ -0,0 +1,301 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchOperation;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchResult;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service applying batches of task operations.
+ * <p>
+ * Every operation goes through {@link TaskService} with the same access
+ * rules and side effects as the corresponding endpoint, so a batch saves
+ * the per-request HTTP, authentication and transaction overhead without
+ * a second code path for the business rules. In an atomic batch,
+ * consecutive creations are inserted together with
+ * {@link TaskService#createAll}, which uses JDBC batching.
+ * <p>
+ * In sharded mode every shard write commits on its own, so atomic batches
+ * are rejected there.
+ */
+@Log4j2
+@Service
+public class TaskBatchService {
+
+    private final TaskService taskService;
+    private final TransactionTemplate tx;
+    private final boolean sharded;
+    private final int maxOperations;
+
+    /**
+     * Creates a new {@code TaskBatchService} instance.
+     *
+     * @param taskService        service applying the individual operations
+     * @param transactionManager transaction manager of the primary database
+     * @param sharded            whether tasks are stored in shards
+     * @param maxOperations      maximum number of operations per batch
+     */
+    public TaskBatchService(
+            TaskService taskService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.batch.max-operations:500}") int maxOperations
+    ) {
+        this.taskService = taskService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.sharded = sharded;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Applies a batch of task operations.
+     * <p>
+     * Regular users may only change the status of tasks assigned to them;
+     * other operations are rejected with {@code 403} for them. Operations
+     * that fail with an error the task endpoints report as a client error
+     * are reported in their result; any other error fails the whole request.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param req     batch request
+     * @return outcome of each operation
+     * @throws IllegalArgumentException if the batch has more operations than allowed,
+     *                                  or is atomic in sharded mode
+     */
+    public TaskBatchResponse execute(Long userId, boolean isAdmin, TaskBatchRequest req) {
+        List<TaskBatchOperation> ops = req.operations();
+        if (ops.size() > maxOperations) {
+            log.warn("Task batch rejected: too many operations (count={}, max={})", ops.size(), maxOperations);
+            throw new IllegalArgumentException("Batch must not contain more than " + maxOperations + " operations");
+        }
+        if (req.atomic() && sharded) {
+            log.warn("Task batch rejected: atomic batches are not supported in sharded mode (userId={})", userId);
+            throw new IllegalArgumentException("Atomic batches are not supported in sharded mode");
+        }
+        log.info("Task batch requested (userId={}, isAdmin={}, count={}, atomic={})", userId, isAdmin, ops.size(), req.atomic());
+        long start = System.nanoTime();
+        TaskBatchResult[] results = new TaskBatchResult[ops.size()];
+        for (int i = 0; i < ops.size(); i++) {
+            RuntimeException invalid = check(isAdmin, ops.get(i));
+            if (invalid != null) {
+                results[i] = failure(i, invalid);
+            }
+        }
+        if (req.atomic()) {
+            if (Arrays.stream(results).allMatch(Objects::isNull)) {
+                tx.executeWithoutResult(status -> {
+                    if (!applyAll(userId, isAdmin, ops, results)) {
+                        status.setRollbackOnly();
+                    }
+                });
+            }
+            boolean failed = Arrays.stream(results).anyMatch(r -> r == null || r.error() != null);
+            if (failed) {
+                rolledBack(results);
+            }
+        } else {
+            for (int i = 0; i < ops.size(); i++) {
+                if (results[i] == null) {
+                    results[i] = applyOne(userId, isAdmin, i, ops.get(i));
+                }
+            }
+        }
+        List<TaskBatchResult> list = Arrays.asList(results);
+        boolean committed = list.stream().allMatch(r -> r.error() == null);
+        log.info("Task batch finished (count={}, committed={}, failed={}, tookMs={})",
+                ops.size(), committed, list.stream().filter(r -> r.error() != null).count(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new TaskBatchResponse(committed, list);
+    }
+
+    /**
+     * Applies all operations in the current transaction, stopping at the
+     * first failure.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param ops     operations to apply
+     * @param results result slots to fill
+     * @return {@code true} if every operation succeeded
+     */
+    private boolean applyAll(Long userId, boolean isAdmin, List<TaskBatchOperation> ops, TaskBatchResult[] results) {
+        int i = 0;
+        while (i < ops.size()) {
+            int end = i + 1;
+            if (ops.get(i).op() == TaskBatchOperation.Op.CREATE) {
+                while (end < ops.size() && ops.get(end).op() == TaskBatchOperation.Op.CREATE) {
+                    end++;
+                }
+                if (!createRun(i, ops.subList(i, end), results)) {
+                    return false;
+                }
+            } else {
+                results[i] = applyOne(userId, isAdmin, i, ops.get(i));
+                if (results[i].error() != null) {
+                    return false;
+                }
+            }
+            i = end;
+        }
+        return true;
+    }
+
+    /**
+     * Creates a run of consecutive tasks with one bulk insert.
+     * <p>
+     * The run succeeds or fails as a unit, so a failure is reported on
+     * each of its operations.
+     *
+     * @param from    index of the first operation of the run
+     * @param run     creation operations
+     * @param results result slots to fill
+     * @return {@code true} if the tasks were created
+     */
+    private boolean createRun(int from, List<TaskBatchOperation> run, TaskBatchResult[] results) {
+        List<TaskCreateRequest> reqs = run.stream().map(TaskBatchOperation::create).toList();
+        try {
+            List<TaskResponse> created = taskService.createAll(reqs);
+            for (int k = 0; k < created.size(); k++) {
+                results[from + k] = new TaskBatchResult(from + k, HttpStatus.CREATED.value(), created.get(k), null);
+            }
+            return true;
+        } catch (RuntimeException ex) {
+            for (int k = 0; k < run.size(); k++) {
+                results[from + k] = failure(from + k, ex);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Applies a single operation.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param index   position of the operation in the request
+     * @param op      operation to apply
+     * @return outcome of the operation
+     */
+    private TaskBatchResult applyOne(Long userId, boolean isAdmin, int index, TaskBatchOperation op) {
+        try {
+            return switch (op.op()) {
+                case CREATE -> new TaskBatchResult(index, HttpStatus.CREATED.value(), taskService.create(op.create()), null);
+                case UPDATE -> ok(index, taskService.adminUpdate(op.taskId(), op.version(), op.update()));
+                case PATCH -> ok(index, taskService.patch(op.taskId(), op.version(), TaskPatchRequest.fromMergePatch(op.patch())));
+                case STATUS -> ok(index, taskService.updateStatus(userId, isAdmin, op.taskId(), op.version(), op.status().status()));
+                case DELETE -> {
+                    taskService.delete(op.taskId());
+                    yield new TaskBatchResult(index, HttpStatus.NO_CONTENT.value(), null, null);
+                }
+            };
+        } catch (RuntimeException ex) {
+            return failure(index, ex);
+        }
+    }
+
+    /**
+     * Checks the shape and permission of an operation before anything is
+     * applied.
+     *
+     * @param isAdmin whether the current user has admin privileges
+     * @param op      operation to check
+     * @return the error to report, or {@code null} if the operation may be applied
+     */
+    private static RuntimeException check(boolean isAdmin, TaskBatchOperation op) {
+        TaskBatchOperation.Op type = op.op();
+        if (!isAdmin && type != TaskBatchOperation.Op.STATUS) {
+            return new AccessDeniedException("Operation " + type + " requires admin privileges");
+        }
+        if ((type == TaskBatchOperation.Op.CREATE) == (op.taskId() != null)) {
+            return new IllegalArgumentException(type == TaskBatchOperation.Op.CREATE
+                    ? "taskId must be omitted for " + type
+                    : "taskId is required for " + type);
+        }
+        int bodies = (op.create() != null ? 1 : 0) + (op.update() != null ? 1 : 0)
+                + (op.patch() != null ? 1 : 0) + (op.status() != null ? 1 : 0);
+        boolean bodyPresent = switch (type) {
+            case CREATE -> op.create() != null;
+            case UPDATE -> op.update() != null;
+            case PATCH -> op.patch() != null;
+            case STATUS -> op.status() != null;
+            case DELETE -> true;
+        };
+        if (!bodyPresent || bodies != (type == TaskBatchOperation.Op.DELETE ? 0 : 1)) {
+            return new IllegalArgumentException(type == TaskBatchOperation.Op.DELETE
+                    ? "DELETE takes no body"
+                    : type + " requires exactly the " + type.name().toLowerCase() + " body");
+        }
+        return null;
+    }
+
+    /**
+     * Marks every result of a rolled back atomic batch that does not carry
+     * its own error.
+     *
+     * @param results result slots
+     */
+    private static void rolledBack(TaskBatchResult[] results) {
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null || results[i].error() == null) {
+                results[i] = new TaskBatchResult(i, HttpStatus.FAILED_DEPENDENCY.value(), null,
+                        "Not applied: the batch was rolled back");
+            }
+        }
+    }
+
+    /**
+     * Builds the result of a successful update.
+     *
+     * @param index position of the operation in the request
+     * @param task  task updated by the operation
+     * @return successful result
+     */
+    private static TaskBatchResult ok(int index, TaskResponse task) {
+        return new TaskBatchResult(index, HttpStatus.OK.value(), task, null);
+    }
+
+    /**
+     * Converts an operation error into its result.
+     * <p>
+     * Uses the status codes of the task endpoints; errors those map to a
+     * server error are rethrown.
+     *
+     * @param index position of the operation in the request
+     * @param ex    error raised by the operation
+     * @return failed result
+     */
+    private static TaskBatchResult failure(int index, RuntimeException ex) {
+        HttpStatus status = switch (ex) {
+            case IllegalArgumentException e -> HttpStatus.BAD_REQUEST;
+            case AccessDeniedException e -> HttpStatus.FORBIDDEN;
+            case NotFoundException e -> HttpStatus.NOT_FOUND;
+            case ConflictException e -> HttpStatus.CONFLICT;
+            case DataIntegrityViolationException e -> HttpStatus.CONFLICT;
+            case PreconditionFailedException e -> HttpStatus.PRECONDITION_FAILED;
+            case OptimisticLockingFailureException e -> HttpStatus.PRECONDITION_FAILED;
+            default -> throw ex;
+        };
+        String message = ex instanceof DataIntegrityViolationException ? "Data integrity violation" : ex.getMessage();
+        log.warn("Task batch operation failed (index={}, status={}, message={})", index, status.value(), message);
+        return new TaskBatchResult(index, status.value(), null, message);
+    }
+}
@@ -0,0 +1,192 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.model.TaskTombstone;
+import com.finalProjectLedZeppelin.task.repo.TaskClaimRelease;
+import com.finalProjectLedZeppelin.task.repo.TaskClaimRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service handing out unassigned tasks as a shared work queue.
+ * <p>
+ * A claim assigns the next unassigned open task to the caller in one
+ * statement; concurrent claimers skip each other's rows instead of
+ * queueing on them, so every claimer gets a different task. A claim may
+ * be taken as a lease: if the task is still {@code TODO} when the lease
+ * expires, a background job unassigns it again. Any status change or
+ * reassignment ends the lease.
+ * <p>
+ * Claims only touch unassigned tasks and assign them to the caller, so
+ * they run without row-level security binding. Unassigned tasks have no
+ * summary counters, so a claim writes only the caller's own counter and
+ * concurrent claimers never wait on a shared row. Claims are not
+ * available in sharded mode.
+ */
+@Log4j2
+@Service
+@Transactional
+public class TaskClaimService {
+
+    private final TaskClaimRepository claimRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final TaskSummaryService summaryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean sharded;
+    private final Duration maxLease;
+    private final int releaseBatchSize;
+    private final Counter claimed;
+    private final Counter empty;
+    private final Counter released;
+
+    /**
+     * Creates a new {@code TaskClaimService} instance.
+     *
+     * @param claimRepository     repository claiming and releasing tasks
+     * @param tombstoneRepository repository recording that a released task left its assignee
+     * @param summaryService      service maintaining per-assignee task counters
+     * @param eventPublisher      publisher of task change events
+     * @param sharded             whether tasks are stored in shards
+     * @param maxLease            longest allowed lease
+     * @param releaseBatchSize    maximum number of expired leases released per run
+     * @param meterRegistry       registry used to publish claim metrics
+     */
+    public TaskClaimService(
+            TaskClaimRepository claimRepository,
+            TaskTombstoneRepository tombstoneRepository,
+            TaskSummaryService summaryService,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.claim.max-lease:PT8H}") Duration maxLease,
+            @Value("${app.tasks.claim.release-batch-size:500}") int releaseBatchSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.claimRepository = claimRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.summaryService = summaryService;
+        this.eventPublisher = eventPublisher;
+        this.sharded = sharded;
+        this.maxLease = maxLease;
+        this.releaseBatchSize = releaseBatchSize;
+        this.claimed = Counter.builder("app.tasks.claims")
+                .description("Claim requests by outcome")
+                .tag("outcome", "claimed")
+                .register(meterRegistry);
+        this.empty = Counter.builder("app.tasks.claims")
+                .description("Claim requests by outcome")
+                .tag("outcome", "empty")
+                .register(meterRegistry);
+        this.released = Counter.builder("app.tasks.claims.released")
+                .description("Claimed tasks handed back after their lease expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Assigns the next matching unassigned task to the current user.
+     *
+     * @param userId identifier of the current user
+     * @param req    claim filters, order and optional lease
+     * @return claimed task, or empty if no unassigned task matches
+     * @throws IllegalArgumentException if the request is invalid, or in sharded mode
+     */
+    public Optional<TaskClaimResponse> claim(Long userId, TaskClaimRequest req) {
+        log.info("Task claim requested (userId={}, status={}, deadlineFrom={}, deadlineTo={}, order={}, lease={})",
+                userId, req.status(), req.deadlineFrom(), req.deadlineTo(), req.order(), req.lease());
+        validate(userId, req);
+        Instant leaseExpiresAt = req.lease() != null ? Instant.now().plus(req.lease()) : null;
+        Optional<TaskClaimResponse> result = claimRepository.claimNext(
+                userId, req.status(), req.deadlineFrom(), req.deadlineTo(), req.order(), leaseExpiresAt);
+        if (result.isEmpty()) {
+            empty.increment();
+            log.info("Task claim found no unassigned task (userId={})", userId);
+            return result;
+        }
+        TaskResponse task = result.get().task();
+        summaryService.move(
+                TaskSummaryKey.of(null, task.status(), task.deadline()),
+                TaskSummaryKey.of(userId, task.status(), task.deadline())
+        );
+        claimed.increment();
+        log.info("Task claimed (taskId={}, userId={}, leaseExpiresAt={})",
+                task.id(), userId, result.get().leaseExpiresAt());
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, task.id(), userId, null));
+        return result;
+    }
+
+    /**
+     * Unassigns {@code TODO} tasks whose claim lease has expired.
+     * <p>
+     * Releases at most {@code app.tasks.claim.release-batch-size} tasks per
+     * run; leases locked by concurrent writers are left for the next run.
+     * The counters, tombstones and change events of a run are written as
+     * one batch each.
+     *
+     * @return number of released tasks
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.claim.release-interval:PT30S}")
+    public int releaseExpired() {
+        if (sharded) {
+            return 0;
+        }
+        List<TaskClaimRelease> expired = claimRepository.releaseExpired(Instant.now(), releaseBatchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        summaryService.removeAll(expired.stream()
+                .map(r -> TaskSummaryKey.of(r.previousAssigneeId(), TaskStatus.TODO, r.deadline()))
+                .toList());
+        tombstoneRepository.saveAll(expired.stream()
+                .map(r -> new TaskTombstone(r.taskId(), r.previousAssigneeId(), false))
+                .toList());
+        eventPublisher.publishEvent(new TaskBatchChangedEvent(expired.stream()
+                .map(r -> new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, r.taskId(), null, r.previousAssigneeId()))
+                .toList()));
+        released.increment(expired.size());
+        log.info("Expired task claims released (count={})", expired.size());
+        return expired.size();
+    }
+
+    /**
+     * Checks that a claim request can be served.
+     *
+     * @param userId identifier of the claiming user
+     * @param req    claim request
+     * @throws IllegalArgumentException if claims are not supported in sharded mode, the request asks
+     *                                  for done tasks, or its deadline range or lease is invalid
+     */
+    private void validate(Long userId, TaskClaimRequest req) {
+        if (sharded) {
+            log.warn("Task claim rejected: not supported in sharded mode (userId={})", userId);
+            throw new IllegalArgumentException("Claims are not supported in sharded mode");
+        }
+        if (req.status() == TaskStatus.DONE) {
+            throw new IllegalArgumentException("Done tasks cannot be claimed");
+        }
+        if (req.deadlineFrom() != null && req.deadlineTo() != null && req.deadlineFrom().isAfter(req.deadlineTo())) {
+            throw new IllegalArgumentException("deadlineFrom must not be after deadlineTo");
+        }
+        if (req.lease() != null && (req.lease().isNegative() || req.lease().isZero())) {
+            throw new IllegalArgumentException("Lease must be positive");
+        }
+        if (req.lease() != null && req.lease().compareTo(maxLease) > 0) {
+            throw new IllegalArgumentException("Lease must not exceed " + maxLease);
+        }
+    }
+}
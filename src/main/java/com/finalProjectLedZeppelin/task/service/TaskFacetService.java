@@ -0,0 +1,183 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFacets;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service computing facet counts of task listings.
+ * <p>
+ * All requested facets are counted in one {@code GROUPING SETS} query over
+ * the {@code task_list_view} read model. Each facet ignores its own filter:
+ * the status filter is applied to the assignee counts with an aggregate
+ * {@code FILTER} instead of the {@code WHERE} clause, so the same scan also
+ * yields the count of every status. An empty grouping set counts the
+ * scanned rows, which tells whether the scan was capped.
+ * <p>
+ * Facets are not available in sharded mode, where the read model is not
+ * maintained.
+ */
+@Log4j2
+@Service
+public class TaskFacetService {
+
+    /**
+     * {@code GROUPING(v.status, v.assignee_id)} of rows of the status set.
+     */
+    private static final int STATUS_ROW = 1;
+
+    /**
+     * {@code GROUPING(v.status, v.assignee_id)} of rows of the assignee set.
+     */
+    private static final int ASSIGNEE_ROW = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean sharded;
+    private final int maxRows;
+    private final int maxValues;
+
+    /**
+     * Creates a new {@code TaskFacetService} instance.
+     *
+     * @param jdbcTemplate JDBC template used to run the facet query
+     * @param sharded      whether tasks are stored in shards
+     * @param maxRows      maximum number of tasks counted per request
+     * @param maxValues    maximum number of assignees returned
+     */
+    public TaskFacetService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.facets.max-rows:10000}") int maxRows,
+            @Value("${app.tasks.facets.max-values:100}") int maxValues
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sharded = sharded;
+        this.maxRows = maxRows;
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * Counts the tasks of a listing per requested facet.
+     * <p>
+     * Applies the filters and access rules of
+     * {@link TaskService#list(Long, boolean, TaskStatus, LocalDate, LocalDate, org.springframework.data.domain.Pageable)}.
+     * At most {@code app.tasks.facets.max-rows} tasks are counted.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter; not applied to the status facet
+     * @param deadlineFrom optional deadline range start (inclusive); applied together with {@code deadlineTo}
+     * @param deadlineTo   optional deadline range end (inclusive); applied together with {@code deadlineFrom}
+     * @param due          optional deadline window of open tasks
+     * @param facets       facets to count
+     * @return facet counts
+     * @throws IllegalArgumentException if facets are requested in sharded mode
+     */
+    @Transactional(readOnly = true)
+    public TaskFacets facets(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            TaskDueWindow due,
+            Set<TaskFacets.Facet> facets
+    ) {
+        if (sharded) {
+            log.warn("Task facets rejected: not supported in sharded mode (userId={})", userId);
+            throw new IllegalArgumentException("Facets are not supported in sharded mode");
+        }
+        long start = System.nanoTime();
+        boolean byStatus = facets.contains(TaskFacets.Facet.STATUS);
+        boolean byAssignee = facets.contains(TaskFacets.Facet.ASSIGNEE);
+        List<Object> args = new ArrayList<>();
+        String assigneeCount = "count(*)";
+        if (status != null) {
+            if (byStatus) {
+                assigneeCount = "count(*) FILTER (WHERE v.status = ?)";
+            }
+            args.add(status.name());
+        }
+        StringBuilder where = new StringBuilder(" WHERE TRUE");
+        if (status != null && !byStatus) {
+            where.append(" AND v.status = ?");
+        }
+        if (!isAdmin) {
+            where.append(" AND v.assignee_id = ?");
+            args.add(userId);
+        }
+        if (deadlineFrom != null && deadlineTo != null) {
+            where.append(" AND v.deadline BETWEEN ? AND ?");
+            args.add(Date.valueOf(deadlineFrom));
+            args.add(Date.valueOf(deadlineTo));
+        }
+        if (due != null) {
+            where.append(" AND v.status <> 'DONE' AND v.deadline < ?");
+            args.add(Date.valueOf(due.before()));
+            if (due.from() != null) {
+                where.append(" AND v.deadline >= ?");
+                args.add(Date.valueOf(due.from()));
+            }
+        }
+        args.add(maxRows);
+        List<String> sets = new ArrayList<>();
+        if (byStatus) {
+            sets.add("(v.status)");
+        }
+        if (byAssignee) {
+            sets.add("(v.assignee_id)");
+        }
+        sets.add("()");
+        String sql = "SELECT GROUPING(v.status, v.assignee_id), v.status, v.assignee_id, max(v.assignee_email), "
+                + "CASE WHEN GROUPING(v.status, v.assignee_id) = " + ASSIGNEE_ROW + " THEN " + assigneeCount
+                + " ELSE count(*) END"
+                + " FROM (SELECT v.status, v.assignee_id, v.assignee_email FROM task_list_view v" + where + " LIMIT ?) v"
+                + " GROUP BY GROUPING SETS (" + String.join(", ", sets) + ")";
+
+        Map<TaskStatus, Long> statusCounts = byStatus ? new EnumMap<>(TaskStatus.class) : null;
+        if (byStatus) {
+            for (TaskStatus s : TaskStatus.values()) {
+                statusCounts.put(s, 0L);
+            }
+        }
+        List<TaskFacets.AssigneeCount> assigneeCounts = byAssignee ? new ArrayList<>() : null;
+        long[] scanned = new long[1];
+        jdbcTemplate.query(sql, rs -> {
+            long count = rs.getLong(5);
+            switch (rs.getInt(1)) {
+                case STATUS_ROW -> statusCounts.put(TaskStatus.valueOf(rs.getString(2)), count);
+                case ASSIGNEE_ROW -> {
+                    if (count > 0) {
+                        assigneeCounts.add(new TaskFacets.AssigneeCount(rs.getObject(3, Long.class), rs.getString(4), count));
+                    }
+                }
+                default -> scanned[0] = count;
+            }
+        }, args.toArray());
+        if (assigneeCounts != null) {
+            assigneeCounts.sort(Comparator.comparingLong(TaskFacets.AssigneeCount::count).reversed()
+                    .thenComparing(TaskFacets.AssigneeCount::assigneeId, Comparator.nullsLast(Comparator.naturalOrder())));
+            if (assigneeCounts.size() > maxValues) {
+                assigneeCounts.subList(maxValues, assigneeCounts.size()).clear();
+            }
+        }
+        boolean capped = scanned[0] >= maxRows;
+        log.debug("Task facets computed (userId={}, isAdmin={}, facets={}, scanned={}, capped={}, tookMs={})",
+                userId, isAdmin, facets, scanned[0], capped, (System.nanoTime() - start) / 1_000_000);
+        return new TaskFacets(statusCounts, assigneeCounts, capped);
+    }
+}
@@ -0,0 +1,48 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the task list read model at startup when the application is
+ * started with {@code --rebuild-task-list-view}.
+ * <p>
+ * Not registered in sharded mode, where the read model is not maintained.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class TaskListViewRebuildRunner implements ApplicationRunner {
+
+    /**
+     * Command line option requesting a rebuild.
+     */
+    public static final String OPTION = "rebuild-task-list-view";
+
+    private final TaskListViewService listViewService;
+
+    /**
+     * Creates a new {@code TaskListViewRebuildRunner} instance.
+     *
+     * @param listViewService service maintaining the read model
+     */
+    public TaskListViewRebuildRunner(TaskListViewService listViewService) {
+        this.listViewService = listViewService;
+    }
+
+    /**
+     * Rebuilds the read model if requested.
+     *
+     * @param args application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            log.info("Task list view rebuild requested");
+            listViewService.rebuild();
+        }
+    }
+}
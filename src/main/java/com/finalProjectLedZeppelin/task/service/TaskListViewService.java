@@ -0,0 +1,227 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining the {@code task_list_view} read model.
+ * <p>
+ * The projection is driven by {@link TaskChangedEvent}s in the transaction
+ * that changed the task, so listings stay read-your-writes consistent and
+ * the write path does not know about the read model. User changes refresh
+ * the denormalized assignee email after they commit.
+ * <p>
+ * A periodic reconciliation compares the read model with {@code tasks},
+ * publishes how far behind it is as {@code app.tasks.list_view.lag} and
+ * repairs stale rows, for example after rows were changed outside the
+ * application. {@link #rebuild()} recreates the whole read model.
+ * <p>
+ * Not registered in sharded mode, where tasks are not stored in the
+ * primary database.
+ */
+@Log4j2
+@Service
+@Transactional
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class TaskListViewService {
+
+    private static final String COLUMNS =
+            "id, assignee_id, assignee_email, title, status, deadline, created_at, updated_at, version";
+
+    private static final String SOURCE_SQL = """
+            SELECT t.id, t.assignee_id, u.email, t.title, t.status, t.deadline, t.created_at, t.updated_at, t.version
+            FROM tasks t
+            LEFT JOIN users u ON u.id = t.assignee_id
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO task_list_view (%s)
+            %s
+            ON CONFLICT (id) DO UPDATE SET
+                assignee_id = EXCLUDED.assignee_id,
+                assignee_email = EXCLUDED.assignee_email,
+                title = EXCLUDED.title,
+                status = EXCLUDED.status,
+                deadline = EXCLUDED.deadline,
+                updated_at = EXCLUDED.updated_at,
+                version = EXCLUDED.version
+            WHERE task_list_view.version <= EXCLUDED.version
+            """;
+
+    private static final String STALE_SQL = """
+            SELECT t.id, t.updated_at
+            FROM tasks t
+            LEFT JOIN users u ON u.id = t.assignee_id
+            LEFT JOIN task_list_view v ON v.id = t.id
+            WHERE v.id IS NULL
+               OR v.version <> t.version
+               OR v.assignee_id IS DISTINCT FROM t.assignee_id
+               OR v.assignee_email IS DISTINCT FROM u.email
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter repaired;
+
+    /**
+     * Creates a new {@code TaskListViewService} instance.
+     *
+     * @param jdbcTemplate  JDBC template used to maintain the read model
+     * @param meterRegistry registry used to publish read model metrics
+     */
+    public TaskListViewService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new {@code TaskListViewService} instance with an explicit clock.
+     *
+     * @param jdbcTemplate  JDBC template used to maintain the read model
+     * @param meterRegistry registry used to publish read model metrics
+     * @param clock         clock used to measure lag
+     */
+    TaskListViewService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        Gauge.builder("app.tasks.list_view.lag", lagMillis, v -> v.get() / 1000.0)
+                .description("Age of the oldest task change missing from the list read model at the last reconciliation")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.repaired = Counter.builder("app.tasks.list_view.repaired")
+                .description("List read model rows repaired by reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies a task change to the read model.
+     * <p>
+     * Runs in the transaction that changed the task; the change must
+     * already be flushed.
+     *
+     * @param event task change event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            jdbcTemplate.update("DELETE FROM task_list_view WHERE id = ?", event.taskId());
+        } else {
+            jdbcTemplate.update(UPSERT_SQL.formatted(COLUMNS, SOURCE_SQL + " WHERE t.id = ?"), event.taskId());
+        }
+    }
+
+    /**
+     * Applies a batch of task changes to the read model with one statement per change type.
+     * <p>
+     * Runs in the transaction that changed the tasks; the changes must
+     * already be flushed.
+     *
+     * @param event task batch change event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTasksChanged(TaskBatchChangedEvent event) {
+        Map<Boolean, List<Long>> ids = event.changes().stream().collect(Collectors.partitioningBy(
+                c -> c.type() == TaskChangedEvent.Type.DELETED,
+                Collectors.mapping(TaskChangedEvent::taskId, Collectors.toList())
+        ));
+        if (!ids.get(true).isEmpty()) {
+            jdbcTemplate.update("DELETE FROM task_list_view WHERE id = ANY(?)", ps -> setIds(ps, ids.get(true)));
+        }
+        if (!ids.get(false).isEmpty()) {
+            jdbcTemplate.update(UPSERT_SQL.formatted(COLUMNS, SOURCE_SQL + " WHERE t.id = ANY(?)"), ps -> setIds(ps, ids.get(false)));
+        }
+    }
+
+    /**
+     * Refreshes the assignee email of a user's tasks after a committed user change.
+     *
+     * @param event user change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        int n = jdbcTemplate.update("""
+                UPDATE task_list_view v
+                SET assignee_email = (SELECT u.email FROM users u WHERE u.id = v.assignee_id)
+                WHERE v.assignee_id = ?
+                """, event.userId());
+        log.debug("Task list view assignee refreshed (userId={}, rows={})", event.userId(), n);
+    }
+
+    /**
+     * Recreates the read model from {@code tasks}.
+     * <p>
+     * Writers are blocked for the duration of the rebuild; readers keep
+     * seeing the previous content until it commits.
+     *
+     * @return number of rows in the rebuilt read model
+     */
+    public int rebuild() {
+        long start = System.nanoTime();
+        jdbcTemplate.execute("LOCK TABLE task_list_view IN EXCLUSIVE MODE");
+        jdbcTemplate.update("DELETE FROM task_list_view");
+        int rows = jdbcTemplate.update("INSERT INTO task_list_view (" + COLUMNS + ") " + SOURCE_SQL);
+        lagMillis.set(0);
+        log.info("Task list view rebuilt (rows={}, tookMs={})", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Measures and repairs rows of the read model that differ from {@code tasks}.
+     * <p>
+     * The lag is the age of the oldest task change that is missing from the
+     * read model, or zero if it is up to date. Scheduled by
+     * {@link TaskMaintenanceJobs}.
+     *
+     * @return number of repaired rows
+     */
+    public int reconcile() {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT min(updated_at) FROM (" + STALE_SQL + ") s", Timestamp.class);
+        int upserted = jdbcTemplate.update(UPSERT_SQL.formatted(COLUMNS, SOURCE_SQL + " WHERE t.id IN (SELECT id FROM (" + STALE_SQL + ") s)"));
+        int deleted = jdbcTemplate.update("DELETE FROM task_list_view v WHERE NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = v.id)");
+        lagMillis.set(oldest != null ? Math.max(0, Duration.between(oldest.toInstant(), clock.instant()).toMillis()) : 0);
+        int total = upserted + deleted;
+        if (total > 0) {
+            repaired.increment(total);
+            log.warn("Task list view repaired (upserted={}, deleted={}, lagMs={})", upserted, deleted, lagMillis.get());
+        } else {
+            log.debug("Task list view reconciled, no stale rows");
+        }
+        return total;
+    }
+
+    /**
+     * Binds task identifiers as the {@code bigint[]} parameter of a statement.
+     *
+     * @param ps  statement whose first parameter is the identifier array
+     * @param ids task identifiers
+     * @throws SQLException if the array cannot be created or bound
+     */
+    private static void setIds(PreparedStatement ps, List<Long> ids) throws SQLException {
+        ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+    }
+}
@@ -0,0 +1,69 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schedules the background jobs that maintain data derived from the
+ * primary {@code tasks} table: summary reconciliation, list read model
+ * reconciliation and archival.
+ * <p>
+ * In sharded mode tasks are not stored in the primary database, so the
+ * jobs would only reconcile an empty table; they are not registered there.
+ */
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class TaskMaintenanceJobs {
+
+    private final TaskSummaryService summaryService;
+    private final TaskListViewService listViewService;
+    private final TaskArchiveService archiveService;
+
+    /**
+     * Creates a new {@code TaskMaintenanceJobs} instance.
+     *
+     * @param summaryService  service maintaining dashboard counters
+     * @param listViewService service maintaining the list read model
+     * @param archiveService  service archiving done tasks
+     */
+    public TaskMaintenanceJobs(
+            TaskSummaryService summaryService,
+            TaskListViewService listViewService,
+            TaskArchiveService archiveService
+    ) {
+        this.summaryService = summaryService;
+        this.listViewService = listViewService;
+        this.archiveService = archiveService;
+    }
+
+    /**
+     * Reconciles the dashboard counters.
+     *
+     * @see TaskSummaryService#reconcile()
+     */
+    @Scheduled(cron = "${app.tasks.summary.reconcile-cron:0 */15 * * * *}")
+    public void reconcileSummaries() {
+        summaryService.reconcile();
+    }
+
+    /**
+     * Reconciles the list read model.
+     *
+     * @see TaskListViewService#reconcile()
+     */
+    @Scheduled(cron = "${app.tasks.list-view.reconcile-cron:0 */15 * * * *}")
+    public void reconcileListView() {
+        listViewService.reconcile();
+    }
+
+    /**
+     * Moves eligible done tasks to the archive.
+     *
+     * @see TaskArchiveService#archive()
+     */
+    @Scheduled(cron = "${app.tasks.archive.cron:0 30 2 * * *}")
+    public void archive() {
+        archiveService.archive();
+    }
+}
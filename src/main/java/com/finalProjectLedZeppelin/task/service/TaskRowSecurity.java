@@ -0,0 +1,101 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Binds the caller to the current transaction for PostgreSQL row-level
+ * security on {@code tasks}.
+ * <p>
+ * When enabled ({@code app.tasks.rls.enabled=true}, together with the
+ * {@code rls} Liquibase context), per-user reads and status updates run as
+ * the {@code task_rls} role with {@code app.user_id} and
+ * {@code app.is_admin} set as transaction-local settings. The policy then
+ * hides other users' tasks from every statement, so access checks need no
+ * extra query and a task the caller may not see is reported as not found.
+ * <p>
+ * Startup fails if the mode is enabled but {@code tasks} does not enforce
+ * the policy, for example because the table was replaced after the policy
+ * was created.
+ */
+@Log4j2
+@Component
+public class TaskRowSecurity implements ApplicationRunner {
+
+    /**
+     * Database role subject to the task policy.
+     */
+    public static final String ROLE = "task_rls";
+
+    private static final String BIND_SQL =
+            "SELECT set_config('role', ?, true), set_config('app.user_id', ?, true), set_config('app.is_admin', ?, true)";
+
+    private static final String POLICY = "tasks_visible_to_assignee";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    /**
+     * Creates a new {@code TaskRowSecurity} instance.
+     *
+     * @param jdbcTemplate JDBC template bound to the primary data source
+     * @param enabled      whether row-level security mode is enabled
+     */
+    public TaskRowSecurity(JdbcTemplate jdbcTemplate, @Value("${app.tasks.rls.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether row-level security mode is enabled.
+     *
+     * @return {@code true} if task access is enforced by the database
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Verifies that {@code tasks} enforces the row-level security policy.
+     *
+     * @param args application arguments
+     * @throws IllegalStateException if the mode is enabled and the policy is not in effect
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Boolean enforced = jdbcTemplate.queryForObject("""
+                SELECT c.relrowsecurity AND EXISTS (SELECT 1 FROM pg_policy p WHERE p.polrelid = c.oid AND p.polname = ?)
+                FROM pg_class c
+                WHERE c.oid = 'tasks'::regclass
+                """, Boolean.class, POLICY);
+        if (!Boolean.TRUE.equals(enforced)) {
+            log.error("Row-level security is enabled but not enforced on tasks (policy={})", POLICY);
+            throw new IllegalStateException("app.tasks.rls.enabled is set, but table tasks has no active policy "
+                    + POLICY + "; apply the rls Liquibase context");
+        }
+        log.info("Row-level security enforced on tasks (policy={})", POLICY);
+    }
+
+    /**
+     * Switches the current transaction to the row-level security role and
+     * sets the caller identity. All settings end with the transaction.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @throws IllegalStateException if no transaction is active
+     */
+    public void bind(Long userId, boolean isAdmin) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Row-level security requires an active transaction");
+        }
+        jdbcTemplate.queryForRowSet(BIND_SQL, ROLE, userId != null ? userId.toString() : "", Boolean.toString(isAdmin));
+    }
+}
@@ -0,0 +1,54 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Aggregate bucket a task is counted in by {@link TaskSummaryService}.
+ * <p>
+ * Unassigned tasks use assignee key {@link #UNASSIGNED}; their buckets
+ * are not stored but counted at read time. Tasks without a deadline,
+ * and all {@code DONE} tasks (which can never be overdue), share the
+ * {@link #NO_DEADLINE} bucket, which keeps the number of rows small.
+ *
+ * @param assigneeKey assignee identifier, or {@code 0} if unassigned
+ * @param status      task status
+ * @param deadline    deadline bucket
+ */
+record TaskSummaryKey(long assigneeKey, TaskStatus status, LocalDate deadline) {
+
+    /**
+     * Assignee key of unassigned tasks.
+     */
+    static final long UNASSIGNED = 0L;
+
+    /**
+     * Deadline bucket of tasks that cannot become overdue.
+     */
+    static final LocalDate NO_DEADLINE = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Returns the bucket of the given task in its current state.
+     *
+     * @param t task entity
+     * @return summary bucket
+     */
+    static TaskSummaryKey of(Task t) {
+        return of(t.getAssignee() != null ? t.getAssignee().getId() : null, t.getStatus(), t.getDeadline());
+    }
+
+    /**
+     * Returns the bucket of a task with the given attributes.
+     *
+     * @param assigneeId assignee identifier, or {@code null} if unassigned
+     * @param status     task status
+     * @param deadline   task deadline, if any
+     * @return summary bucket
+     */
+    static TaskSummaryKey of(Long assigneeId, TaskStatus status, LocalDate deadline) {
+        LocalDate bucket = status == TaskStatus.DONE || deadline == null ? NO_DEADLINE : deadline;
+        return new TaskSummaryKey(assigneeId != null ? assigneeId : UNASSIGNED, status, bucket);
+    }
+}
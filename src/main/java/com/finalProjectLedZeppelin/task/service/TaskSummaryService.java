@@ -0,0 +1,408 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskSummaryResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Service maintaining per-assignee task counts for the dashboard.
+ * <p>
+ * The {@code task_summary} table holds one counter per
+ * {@link TaskSummaryKey} bucket of an assignee. {@link PrimaryTaskService} moves
+ * a task between buckets in the same transaction as the task change, so
+ * reading a summary is a single indexed lookup instead of several
+ * filtered {@code count(*)} scans. Overdue counts are derived at read
+ * time from the deadline buckets, so they stay correct as days pass
+ * without any write.
+ * <p>
+ * Unassigned tasks have no counters: every claim would otherwise update
+ * the same few unassigned rows and serialize concurrent claimers on them.
+ * {@link #global()} counts unassigned tasks at read time from the
+ * assignee indexes instead.
+ * <p>
+ * A periodic reconciliation recomputes the counters from {@code tasks}
+ * and {@code tasks_archive} and corrects any drift (for example from rows
+ * changed outside the application) with compensating deltas. Archiving
+ * moves a task between tables but not between buckets, so it needs no
+ * counter update.
+ * <p>
+ * Summaries are not available in sharded mode, where the counters are not
+ * maintained.
+ */
+@Log4j2
+@Service
+@Transactional
+public class TaskSummaryService {
+
+    private static final String RECONCILE_JOB = "task-summary-reconcile";
+
+    /**
+     * Differences between stored and actual counts of one assignee key range.
+     * <p>
+     * Being a single statement, it reads {@code tasks}, {@code tasks_archive}
+     * and {@code task_summary} in one snapshot, in which every committed
+     * task write has already applied its delta.
+     */
+    private static final String DRIFT_SQL = """
+            SELECT assignee_key, status, deadline,
+                   COALESCE(a.task_count, 0) - COALESCE(s.task_count, 0) AS delta
+            FROM (
+                SELECT assignee_key, status, deadline, task_count
+                FROM task_summary
+                WHERE assignee_key BETWEEN ? AND ?
+            ) s
+            FULL JOIN (
+                SELECT assignee_key, status, deadline, sum(task_count) AS task_count
+                FROM (
+                    SELECT assignee_id AS assignee_key,
+                           status::varchar AS status,
+                           CASE WHEN status = 'DONE' OR deadline IS NULL THEN DATE '9999-12-31' ELSE deadline END AS deadline,
+                           count(*) AS task_count
+                    FROM tasks
+                    WHERE assignee_id BETWEEN ? AND ?
+                    GROUP BY 1, 2, 3
+                    UNION ALL
+                    SELECT assignee_id, status::varchar, DATE '9999-12-31', count(*)
+                    FROM tasks_archive
+                    WHERE assignee_id BETWEEN ? AND ?
+                    GROUP BY 1, 2
+                ) counts
+                GROUP BY 1, 2, 3
+            ) a USING (assignee_key, status, deadline)
+            WHERE COALESCE(a.task_count, 0) <> COALESCE(s.task_count, 0)
+            """;
+
+    /**
+     * Counts of unassigned tasks by status.
+     * <p>
+     * Open tasks are counted from the claimable partial index, whose
+     * predicate is repeated literally so the planner can use it; done and
+     * archived tasks from the assignee indexes.
+     */
+    private static final String UNASSIGNED_SQL = """
+            SELECT status::varchar AS status, count(*) AS total,
+                   count(*) FILTER (WHERE deadline < ?) AS overdue
+            FROM tasks
+            WHERE assignee_id IS NULL AND status <> 'DONE'
+            GROUP BY 1
+            UNION ALL
+            SELECT 'DONE', count(*), 0
+            FROM tasks
+            WHERE assignee_id IS NULL AND status = 'DONE'
+            UNION ALL
+            SELECT status::varchar, count(*), 0
+            FROM tasks_archive
+            WHERE assignee_id IS NULL
+            GROUP BY 1
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO task_summary (assignee_key, status, deadline, task_count) VALUES (?, ?, ?, ?)
+            ON CONFLICT (assignee_key, status, deadline)
+            DO UPDATE SET task_count = task_summary.task_count + EXCLUDED.task_count
+            """;
+
+    /**
+     * Order in which buckets are written by {@link #move}, {@link #addAll} and {@link #removeAll}.
+     */
+    private static final Comparator<TaskSummaryKey> BUCKET_ORDER = Comparator
+            .comparingLong(TaskSummaryKey::assigneeKey)
+            .thenComparing(TaskSummaryKey::status)
+            .thenComparing(TaskSummaryKey::deadline);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rangeTx;
+    private final boolean sharded;
+    private final int reconcileRangeSize;
+    private final Clock clock;
+    private final Counter drift;
+
+    /**
+     * Creates a new {@code TaskSummaryService} instance.
+     *
+     * @param jdbcTemplate       JDBC template used to access the summary table
+     * @param transactionManager transaction manager used for per-range reconciliation transactions
+     * @param sharded            whether tasks are stored in shards
+     * @param reconcileRangeSize number of assignee keys reconciled per transaction
+     * @param meterRegistry      registry used to publish reconciliation metrics
+     */
+    public TaskSummaryService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.summary.reconcile-range-size:1000}") int reconcileRangeSize,
+            MeterRegistry meterRegistry
+    ) {
+        this(jdbcTemplate, transactionManager, sharded, reconcileRangeSize, meterRegistry, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new {@code TaskSummaryService} instance with an explicit clock.
+     *
+     * @param jdbcTemplate       JDBC template used to access the summary table
+     * @param transactionManager transaction manager used for per-range reconciliation transactions
+     * @param sharded            whether tasks are stored in shards
+     * @param reconcileRangeSize number of assignee keys reconciled per transaction
+     * @param meterRegistry      registry used to publish reconciliation metrics
+     * @param clock              clock used to determine the current date
+     */
+    TaskSummaryService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            boolean sharded,
+            int reconcileRangeSize,
+            MeterRegistry meterRegistry,
+            Clock clock
+    ) {
+        if (reconcileRangeSize < 1) {
+            throw new IllegalArgumentException("app.tasks.summary.reconcile-range-size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.rangeTx = new TransactionTemplate(transactionManager);
+        this.rangeTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.sharded = sharded;
+        this.reconcileRangeSize = reconcileRangeSize;
+        this.clock = clock;
+        this.drift = Counter.builder("app.tasks.summary.drift")
+                .description("Task count corrections applied by summary reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Moves a task from one bucket to another.
+     * <p>
+     * Both buckets are written in the same fixed bucket order as
+     * {@link #addAll}, so that concurrent moves in opposite directions do
+     * not deadlock. Unassigned buckets are not stored, so claiming or
+     * releasing a task writes only the assignee's bucket. Must run in the
+     * transaction that changed the task.
+     *
+     * @param before bucket before the change, or {@code null} for a new task
+     * @param after  bucket after the change, or {@code null} for a deleted task
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(TaskSummaryKey before, TaskSummaryKey after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Map<TaskSummaryKey, Long> deltas = new TreeMap<>(BUCKET_ORDER);
+        if (before != null) {
+            deltas.put(before, -1L);
+        }
+        if (after != null) {
+            deltas.put(after, 1L);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Removes tasks from their buckets.
+     * <p>
+     * Counts are aggregated per bucket and written in one JDBC batch, in
+     * the same fixed bucket order as {@link #addAll}. Must run in the
+     * transaction that changed the tasks.
+     *
+     * @param removed buckets the tasks are no longer counted in
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeAll(Collection<TaskSummaryKey> removed) {
+        Map<TaskSummaryKey, Long> deltas = new TreeMap<>(BUCKET_ORDER);
+        for (TaskSummaryKey key : removed) {
+            deltas.merge(key, -1L, Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Adds new tasks to their buckets.
+     * <p>
+     * Counts are aggregated per bucket and written in one JDBC batch, in a
+     * fixed bucket order so that concurrent batches do not deadlock. Must
+     * run in the transaction that created the tasks.
+     *
+     * @param added buckets of the created tasks
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(Collection<TaskSummaryKey> added) {
+        Map<TaskSummaryKey, Long> deltas = new TreeMap<>(BUCKET_ORDER);
+        for (TaskSummaryKey key : added) {
+            deltas.merge(key, 1L, Long::sum);
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Returns dashboard counts for a single assignee.
+     *
+     * @param assigneeId identifier of the assignee
+     * @return task counts
+     * @throws IllegalArgumentException in sharded mode
+     */
+    @Transactional(readOnly = true)
+    public TaskSummaryResponse forAssignee(Long assigneeId) {
+        requireUnsharded();
+        return query(" WHERE assignee_key = ?", assigneeId);
+    }
+
+    /**
+     * Returns dashboard counts across all tasks, including unassigned ones.
+     * <p>
+     * Assigned tasks are read from the counters and unassigned ones are
+     * counted in the same transaction.
+     *
+     * @return task counts
+     * @throws IllegalArgumentException in sharded mode
+     */
+    @Transactional(readOnly = true)
+    public TaskSummaryResponse global() {
+        requireUnsharded();
+        TaskSummaryResponse assigned = query(" WHERE assignee_key > 0");
+        TaskSummaryResponse unassigned = count(UNASSIGNED_SQL);
+        return new TaskSummaryResponse(
+                assigned.todo() + unassigned.todo(),
+                assigned.inProgress() + unassigned.inProgress(),
+                assigned.done() + unassigned.done(),
+                assigned.overdue() + unassigned.overdue()
+        );
+    }
+
+    /**
+     * Recomputes the counters from live and archived tasks and corrects any drift.
+     * <p>
+     * Runs on one instance at a time: the run holds its {@code job_lock}
+     * row, and instances that find it locked skip the run. Assignee keys
+     * are reconciled in ranges of {@code app.tasks.summary.reconcile-range-size},
+     * each in a short transaction of its own that applies corrective deltas
+     * instead of rewriting the counters, so task writes are never blocked
+     * by the recomputation. Scheduled by {@link TaskMaintenanceJobs}.
+     *
+     * @return total absolute difference between stored and actual counts
+     */
+    public long reconcile() {
+        List<String> locked = jdbcTemplate.queryForList(
+                "SELECT job FROM job_lock WHERE job = ? FOR UPDATE SKIP LOCKED", String.class, RECONCILE_JOB);
+        if (locked.isEmpty()) {
+            log.debug("Task summary reconciliation is running elsewhere");
+            return 0;
+        }
+        Long maxKey = jdbcTemplate.queryForObject(
+                "SELECT GREATEST((SELECT max(assignee_key) FROM task_summary), (SELECT max(id) FROM users), 0)",
+                Long.class);
+        long max = maxKey != null ? maxKey : 0L;
+        long d = 0;
+        for (long from = 0; from <= max; from += reconcileRangeSize) {
+            long first = from;
+            long last = from + reconcileRangeSize - 1;
+            Long n = rangeTx.execute(status -> reconcileRange(first, last));
+            d += n != null ? n : 0L;
+        }
+        if (d > 0) {
+            drift.increment(d);
+            log.warn("Task summary drift corrected (difference={})", d);
+        } else {
+            log.debug("Task summary reconciled, no drift");
+        }
+        return d;
+    }
+
+    /**
+     * Rejects summary reads in sharded mode, where the counters are not maintained.
+     *
+     * @throws IllegalArgumentException in sharded mode
+     */
+    private void requireUnsharded() {
+        if (sharded) {
+            log.warn("Task summary rejected: not supported in sharded mode");
+            throw new IllegalArgumentException("Summaries are not supported in sharded mode");
+        }
+    }
+
+    /**
+     * Corrects the counters of one assignee key range within the current transaction.
+     *
+     * @param from first assignee key (inclusive)
+     * @param to   last assignee key (inclusive)
+     * @return total absolute difference between stored and actual counts
+     */
+    private long reconcileRange(long from, long to) {
+        Map<TaskSummaryKey, Long> corrections = new TreeMap<>(BUCKET_ORDER);
+        jdbcTemplate.query(DRIFT_SQL, rs -> {
+            corrections.put(new TaskSummaryKey(
+                    rs.getLong("assignee_key"),
+                    TaskStatus.valueOf(rs.getString("status")),
+                    rs.getDate("deadline").toLocalDate()
+            ), rs.getLong("delta"));
+        }, from, to, from, to, from, to);
+        apply(corrections);
+        jdbcTemplate.update("DELETE FROM task_summary WHERE assignee_key BETWEEN ? AND ? AND task_count = 0", from, to);
+        return corrections.values().stream().mapToLong(Math::abs).sum();
+    }
+
+    private void apply(Map<TaskSummaryKey, Long> deltas) {
+        List<Map.Entry<TaskSummaryKey, Long>> assigned = deltas.entrySet().stream()
+                .filter(e -> e.getKey().assigneeKey() != TaskSummaryKey.UNASSIGNED)
+                .toList();
+        if (assigned.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, assigned, assigned.size(), (ps, e) -> {
+            ps.setLong(1, e.getKey().assigneeKey());
+            ps.setString(2, e.getKey().status().name());
+            ps.setDate(3, Date.valueOf(e.getKey().deadline()));
+            ps.setLong(4, e.getValue());
+        });
+    }
+
+    private TaskSummaryResponse query(String where, Object... args) {
+        return count("SELECT status, sum(task_count) AS total,"
+                + " COALESCE(sum(task_count) FILTER (WHERE deadline < ?), 0) AS overdue"
+                + " FROM task_summary" + where + " GROUP BY status", args);
+    }
+
+    private TaskSummaryResponse count(String sql, Object... args) {
+        LocalDate today = LocalDate.now(clock);
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        long[] overdue = {0L};
+        Object[] params = new Object[args.length + 1];
+        params[0] = Date.valueOf(today);
+        System.arraycopy(args, 0, params, 1, args.length);
+        jdbcTemplate.query(
+                sql,
+                rs -> {
+                    TaskStatus status = TaskStatus.valueOf(rs.getString("status"));
+                    counts.merge(status, rs.getLong("total"), Long::sum);
+                    if (status != TaskStatus.DONE) {
+                        overdue[0] += rs.getLong("overdue");
+                    }
+                },
+                params
+        );
+        return new TaskSummaryResponse(
+                counts.getOrDefault(TaskStatus.TODO, 0L),
+                counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L),
+                counts.getOrDefault(TaskStatus.DONE, 0L),
+                overdue[0]
+        );
+    }
+}
@@ -0,0 +1,206 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskChangesResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Service providing incremental (delta) synchronization of tasks.
+ * <p>
+ * A sync token is a keyset position over {@code (updated_at, id)}. Each
+ * request returns tasks modified after that position, plus identifiers of
+ * tasks removed from the caller's view, so steady-state sync cost depends
+ * on the number of changes rather than on the number of tasks.
+ * <p>
+ * Modification timestamps are assigned before commit, so a transaction
+ * may become visible with a timestamp slightly in the past. Changes newer
+ * than {@code now - skew} are therefore held back until the next request.
+ * <p>
+ * Sync is not available in sharded mode, where tombstones are not recorded.
+ */
+@Log4j2
+@Service
+@Transactional(readOnly = true)
+public class TaskSyncService {
+
+    /**
+     * Maximum number of tasks returned by a single sync request.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private static final Instant ORIGIN = Instant.EPOCH;
+
+    private final TaskRepository taskRepository;
+    private final TaskTombstoneRepository tombstoneRepository;
+    private final boolean sharded;
+    private final Duration skew;
+    private final Duration retention;
+    private final Clock clock;
+
+    /**
+     * Creates a new {@code TaskSyncService} instance.
+     *
+     * @param taskRepository      repository used to read changed tasks
+     * @param tombstoneRepository repository used to read and purge tombstones
+     * @param sharded             whether tasks are stored in shards
+     * @param skew                how long changes are held back to let in-flight transactions commit
+     * @param retention           how long tombstones are kept; older tokens force a reset
+     */
+    public TaskSyncService(
+            TaskRepository taskRepository,
+            TaskTombstoneRepository tombstoneRepository,
+            @Value("${app.sharding.enabled:false}") boolean sharded,
+            @Value("${app.tasks.sync.skew:PT5S}") Duration skew,
+            @Value("${app.tasks.sync.tombstone-retention:P30D}") Duration retention
+    ) {
+        this(taskRepository, tombstoneRepository, sharded, skew, retention, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a new {@code TaskSyncService} instance with an explicit clock.
+     *
+     * @param taskRepository      repository used to read changed tasks
+     * @param tombstoneRepository repository used to read and purge tombstones
+     * @param sharded             whether tasks are stored in shards
+     * @param skew                how long changes are held back to let in-flight transactions commit
+     * @param retention           how long tombstones are kept; older tokens force a reset
+     * @param clock               clock used to compute the sync window
+     */
+    TaskSyncService(
+            TaskRepository taskRepository,
+            TaskTombstoneRepository tombstoneRepository,
+            boolean sharded,
+            Duration skew,
+            Duration retention,
+            Clock clock
+    ) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.sharded = sharded;
+        this.skew = skew;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the changes visible to the caller since the given token.
+     * <p>
+     * Admins receive changes of all tasks and deletions; regular users
+     * receive changes of tasks assigned to them and removals of tasks
+     * deleted or reassigned away from them. A missing or expired token
+     * starts a full sync, flagged with {@code reset}.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param since   token returned by the previous request, or {@code null}
+     * @param limit   maximum number of tasks to return
+     * @return changed tasks, removed task identifiers and the next token
+     * @throws IllegalArgumentException if the token is malformed or the limit is out of range, or in sharded mode
+     */
+    public TaskChangesResponse changes(Long userId, boolean isAdmin, String since, int limit) {
+        if (sharded) {
+            log.warn("Task changes rejected: not supported in sharded mode (userId={})", userId);
+            throw new IllegalArgumentException("Sync is not supported in sharded mode");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        Instant now = clock.instant().truncatedTo(ChronoUnit.MICROS);
+        Instant upTo = now.minus(skew);
+        Position from = since == null || since.isBlank() ? null : Position.decode(since);
+        boolean reset = from == null || from.updatedAt().isBefore(now.minus(retention));
+        if (reset) {
+            from = new Position(ORIGIN, 0L);
+        }
+        if (from.updatedAt().isAfter(upTo)) {
+            upTo = from.updatedAt();
+        }
+        log.debug("Task changes requested (userId={}, isAdmin={}, since={}, upTo={}, reset={})",
+                userId, isAdmin, from.updatedAt(), upTo, reset
+        );
+        List<Task> page = isAdmin
+                ? taskRepository.findChangedAfter(from.updatedAt(), from.id(), upTo, Limit.of(limit + 1))
+                : taskRepository.findChangedAfterByAssigneeId(userId, from.updatedAt(), from.id(), upTo, Limit.of(limit + 1));
+        boolean hasMore = page.size() > limit;
+        List<Task> tasks = hasMore ? page.subList(0, limit) : page;
+        Position next = hasMore
+                ? new Position(tasks.getLast().getUpdatedAt(), tasks.getLast().getId())
+                : new Position(upTo, Long.MAX_VALUE);
+        List<Long> removedIds = reset ? List.of() : isAdmin
+                ? tombstoneRepository.findDeletedTaskIds(from.updatedAt(), next.updatedAt())
+                : tombstoneRepository.findRemovedTaskIds(userId, from.updatedAt(), next.updatedAt());
+        List<TaskResponse> responses = tasks.stream().map(PrimaryTaskService::toResponse).toList();
+        log.debug("Task changes returned (userId={}, tasks={}, removed={}, hasMore={})",
+                userId, responses.size(), removedIds.size(), hasMore
+        );
+        return new TaskChangesResponse(responses, removedIds, next.encode(), hasMore, reset);
+    }
+
+    /**
+     * Deletes tombstones older than the retention period.
+     * <p>
+     * Clients whose token is older than the retention period are reset
+     * on their next request, so purged tombstones are never needed.
+     */
+    @Scheduled(cron = "${app.tasks.sync.purge-cron:0 15 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(clock.instant().minus(retention));
+        log.info("Task tombstones purged (count={})", purged);
+    }
+
+    /**
+     * Keyset position of a sync token.
+     *
+     * @param updatedAt modification timestamp of the last delivered task
+     * @param id        identifier of the last delivered task
+     */
+    record Position(Instant updatedAt, long id) {
+
+        /**
+         * Encodes the position as an opaque URL-safe token.
+         *
+         * @return encoded token
+         */
+        String encode() {
+            long micros = ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((micros + ":" + id).getBytes(StandardCharsets.US_ASCII));
+        }
+
+        /**
+         * Decodes a token produced by {@link #encode()}.
+         *
+         * @param token encoded token
+         * @return decoded position
+         * @throws IllegalArgumentException if the token is malformed
+         */
+        static Position decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+                int sep = raw.indexOf(':');
+                long micros = Long.parseLong(raw.substring(0, sep));
+                long id = Long.parseLong(raw.substring(sep + 1));
+                return new Position(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), id);
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+        }
+    }
+}
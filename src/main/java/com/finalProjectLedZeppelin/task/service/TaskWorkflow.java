@@ -0,0 +1,95 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Task status state machine.
+ * <p>
+ * Transitions are configured as {@code app.tasks.workflow.transitions},
+ * mapping each status to the statuses it may change to. Setting a task to
+ * the status it already has is always allowed. With
+ * {@code app.tasks.workflow.admin-override} admins may make any transition.
+ * <p>
+ * The workflow is exposed per target status as the set of allowed
+ * predecessors, which lets a status change be checked by the conditional
+ * {@code UPDATE} itself.
+ */
+@Log4j2
+@Component
+public class TaskWorkflow {
+
+    private final Map<TaskStatus, Set<TaskStatus>> predecessors = new EnumMap<>(TaskStatus.class);
+    private final boolean adminOverride;
+
+    /**
+     * Creates a new {@code TaskWorkflow} instance.
+     *
+     * @param properties workflow configuration
+     */
+    public TaskWorkflow(TaskWorkflowProperties properties) {
+        this.adminOverride = properties.adminOverride();
+        for (TaskStatus to : TaskStatus.values()) {
+            predecessors.put(to, EnumSet.of(to));
+        }
+        for (TaskStatus from : TaskStatus.values()) {
+            Set<TaskStatus> targets = properties.transitions().isEmpty()
+                    ? EnumSet.allOf(TaskStatus.class)
+                    : properties.transitions().getOrDefault(from, Set.of());
+            for (TaskStatus to : targets) {
+                predecessors.get(to).add(from);
+            }
+        }
+        log.info("Task workflow configured (predecessors={}, adminOverride={})", predecessors, adminOverride);
+    }
+
+    /**
+     * Returns the statuses a task may have for a change to {@code target}.
+     *
+     * @param target  requested status
+     * @param isAdmin whether the caller has admin privileges
+     * @return allowed current statuses
+     */
+    public Set<TaskStatus> predecessorsOf(TaskStatus target, boolean isAdmin) {
+        if (isAdmin && adminOverride) {
+            return EnumSet.allOf(TaskStatus.class);
+        }
+        return Collections.unmodifiableSet(predecessors.get(target));
+    }
+
+    /**
+     * Tells whether a task may change from one status to another.
+     *
+     * @param from    current status
+     * @param to      requested status
+     * @param isAdmin whether the caller has admin privileges
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean allows(TaskStatus from, TaskStatus to, boolean isAdmin) {
+        return predecessorsOf(to, isAdmin).contains(from);
+    }
+
+    /**
+     * Ensures a task may change from one status to another.
+     *
+     * @param taskId  identifier of the task, used in logs
+     * @param from    current status
+     * @param to      requested status
+     * @param isAdmin whether the caller has admin privileges
+     * @throws ConflictException if the transition is not allowed
+     */
+    public void require(Long taskId, TaskStatus from, TaskStatus to, boolean isAdmin) {
+        if (!allows(from, to, isAdmin)) {
+            log.warn("Task status transition rejected (taskId={}, from={}, to={}, isAdmin={})", taskId, from, to, isAdmin);
+            throw new ConflictException("Status transition not allowed: " + from + " -> " + to);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link TaskWorkflowProperties}.
+ */
+@Configuration
+@EnableConfigurationProperties(TaskWorkflowProperties.class)
+public class TaskWorkflowConfig {
+}
@@ -0,0 +1,21 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration of the task status workflow.
+ *
+ * @param transitions   statuses each status may change to; if empty, every transition is allowed
+ * @param adminOverride whether admins may change a task to any status
+ */
+@ConfigurationProperties("app.tasks.workflow")
+public record TaskWorkflowProperties(
+        @DefaultValue Map<TaskStatus, Set<TaskStatus>> transitions,
+        @DefaultValue("true") boolean adminOverride
+) {
+}
@@ -0,0 +1,19 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Thrown when a scatter-gather query over task shards cannot complete.
+ */
+public class ShardAccessException extends DataAccessResourceFailureException {
+
+    /**
+     * Creates a new {@code ShardAccessException} instance.
+     *
+     * @param message detail message
+     * @param cause   underlying failure
+     */
+    public ShardAccessException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
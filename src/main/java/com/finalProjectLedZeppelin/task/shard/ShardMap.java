@@ -0,0 +1,119 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maps assignees to shards through a fixed number of virtual buckets.
+ * <p>
+ * An assignee identifier is hashed into one of {@code buckets} buckets,
+ * and every bucket is owned by exactly one shard. Rebalancing moves whole
+ * bucket ranges between shards without changing the hash function.
+ */
+public final class ShardMap {
+
+    /**
+     * Maximum number of shards; also the step of per-shard identifier sequences.
+     */
+    public static final int MAX_SHARDS = 1024;
+
+    private final int[] owners;
+    private final int shardCount;
+
+    private ShardMap(int[] owners, int shardCount) {
+        this.owners = owners;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Builds a shard map from bucket range specifications.
+     *
+     * @param buckets number of virtual buckets
+     * @param ranges  bucket ranges owned by each shard, in shard order
+     * @return shard map
+     * @throws IllegalArgumentException if a range is malformed, or buckets are left unowned or owned twice
+     */
+    public static ShardMap of(int buckets, List<String> ranges) {
+        if (buckets < 1) {
+            throw new IllegalArgumentException("app.sharding.buckets must be positive");
+        }
+        if (ranges.isEmpty() || ranges.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHARDS + " shards must be configured");
+        }
+        int[] owners = new int[buckets];
+        Arrays.fill(owners, -1);
+        for (int shard = 0; shard < ranges.size(); shard++) {
+            for (String part : ranges.get(shard).split(",")) {
+                String[] bounds = part.trim().split("-");
+                int from;
+                int to;
+                try {
+                    from = Integer.parseInt(bounds[0].trim());
+                    to = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : from;
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException("Invalid bucket range: " + part);
+                }
+                if (bounds.length > 2 || from < 0 || to >= buckets || from > to) {
+                    throw new IllegalArgumentException("Invalid bucket range: " + part);
+                }
+                for (int b = from; b <= to; b++) {
+                    if (owners[b] != -1) {
+                        throw new IllegalArgumentException("Bucket " + b + " is owned by more than one shard");
+                    }
+                    owners[b] = shard;
+                }
+            }
+        }
+        for (int b = 0; b < buckets; b++) {
+            if (owners[b] == -1) {
+                throw new IllegalArgumentException("Bucket " + b + " is not owned by any shard");
+            }
+        }
+        return new ShardMap(owners, ranges.size());
+    }
+
+    /**
+     * Returns the index of the shard owning the given assignee.
+     *
+     * @param assigneeId assignee identifier
+     * @return shard index
+     */
+    public int shardOf(long assigneeId) {
+        return owners[bucketOf(assigneeId)];
+    }
+
+    /**
+     * Returns the bucket of the given assignee.
+     *
+     * @param assigneeId assignee identifier
+     * @return bucket index
+     */
+    public int bucketOf(long assigneeId) {
+        long h = assigneeId * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) Math.floorMod(h, (long) owners.length);
+    }
+
+    /**
+     * Returns the index of the shard that generated the given task identifier.
+     * <p>
+     * Tasks usually still live there, unless they were reassigned to an
+     * assignee owned by a different shard.
+     *
+     * @param taskId task identifier
+     * @return shard index, or {@code -1} if no configured shard generates such identifiers
+     */
+    public int homeOf(long taskId) {
+        int home = (int) Math.floorMod(taskId - 1, (long) MAX_SHARDS);
+        return home < shardCount ? home : -1;
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return shard count
+     */
+    public int shardCount() {
+        return shardCount;
+    }
+}
@@ -0,0 +1,65 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.task.outbox.OutboxSink;
+import com.finalProjectLedZeppelin.task.outbox.TaskOutboxRelay;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Relays task domain events from the outboxes of all shards.
+ * <p>
+ * Each shard records the events of its task writes in its own
+ * {@code task_outbox}; this component drains them with one
+ * {@link TaskOutboxRelay} per shard, using the same sinks, batch size and
+ * parking rules as the primary relay. Shards are drained one after the
+ * other, so a failing shard does not stop delivery from the others.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class ShardOutboxRelay {
+
+    private final List<TaskOutboxRelay> relays;
+
+    /**
+     * Creates a new {@code ShardOutboxRelay} instance.
+     *
+     * @param shards        task shard databases
+     * @param sinks         destinations of relayed events
+     * @param batchSize     maximum number of rows claimed per transaction
+     * @param maxAttempts   number of failed deliveries after which a message is parked
+     * @param meterRegistry registry used to publish relay metrics
+     */
+    public ShardOutboxRelay(
+            TaskShards shards,
+            List<OutboxSink> sinks,
+            @Value("${app.outbox.relay.batch-size:200}") int batchSize,
+            @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts,
+            MeterRegistry meterRegistry
+    ) {
+        this.relays = shards.all().stream()
+                .map(s -> TaskOutboxRelay.of(s.name(), s.jdbc(), s.tx(), sinks, batchSize, maxAttempts, meterRegistry))
+                .toList();
+    }
+
+    /**
+     * Drains the outbox of every shard.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:PT1S}")
+    public void poll() {
+        for (TaskOutboxRelay relay : relays) {
+            try {
+                relay.poll();
+            } catch (RuntimeException ex) {
+                log.warn("Shard outbox relay failed", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Task row stored in a shard database.
+ *
+ * @param id          task identifier, unique across shards
+ * @param assigneeId  identifier of the assigned user, if any
+ * @param title       task title
+ * @param description task description
+ * @param status      current status
+ * @param deadline    optional deadline
+ * @param createdAt   creation timestamp
+ * @param updatedAt   last modification timestamp
+ * @param version     optimistic locking version
+ */
+public record ShardedTask(
+        Long id,
+        Long assigneeId,
+        String title,
+        String description,
+        TaskStatus status,
+        LocalDate deadline,
+        Instant createdAt,
+        Instant updatedAt,
+        Long version
+) {
+}
@@ -0,0 +1,439 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.outbox.TaskOutboxWriter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * JDBC access to tasks stored across {@link TaskShards}.
+ * <p>
+ * Queries scoped to an assignee go to that assignee's shard only. Other
+ * queries fan out to all shards in parallel: each shard returns its first
+ * {@code offset + size} rows in the requested order and the per-shard
+ * results are merged with a k-way merge. Deep pages therefore cost every
+ * shard {@code offset + size} rows; keep offsets small in sharded mode.
+ * <p>
+ * Text columns are ordered with {@code COLLATE "C"} so that the database
+ * order matches the Java comparator used for merging.
+ * <p>
+ * Every write appends its {@link TaskChangedEvent} to the {@code task_outbox}
+ * of the shard in the same shard transaction, so an event is recorded if and
+ * only if the change commits.
+ */
+@Log4j2
+@Repository
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardedTaskRepository {
+
+    private static final String COLUMNS =
+            "id, assignee_id, title, description, status, deadline, created_at, updated_at, version";
+
+    private static final RowMapper<ShardedTask> ROW_MAPPER = (rs, i) -> new ShardedTask(
+            rs.getLong("id"),
+            rs.getObject("assignee_id", Long.class),
+            rs.getString("title"),
+            rs.getString("description"),
+            TaskStatus.valueOf(rs.getString("status")),
+            rs.getObject("deadline", LocalDate.class),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getLong("version")
+    );
+
+    /**
+     * Sortable properties, their columns and the matching merge keys.
+     */
+    private static final Map<String, SortKey> SORT_KEYS = Map.of(
+            "id", new SortKey("id", ShardedTask::id),
+            "title", new SortKey("title COLLATE \"C\"", ShardedTask::title),
+            "status", new SortKey("status COLLATE \"C\"", t -> t.status().name()),
+            "deadline", new SortKey("deadline", ShardedTask::deadline),
+            "createdAt", new SortKey("created_at", ShardedTask::createdAt),
+            "updatedAt", new SortKey("updated_at", ShardedTask::updatedAt)
+    );
+
+    private final TaskShards shards;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a new {@code ShardedTaskRepository} instance.
+     *
+     * @param shards       task shard databases
+     * @param objectMapper mapper used to serialize outbox payloads
+     */
+    public ShardedTaskRepository(TaskShards shards, ObjectMapper objectMapper) {
+        this.shards = shards;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Inserts a new task on the shard of its assignee and records a
+     * {@code CREATED} event in the same transaction.
+     *
+     * @param assigneeId  assignee identifier, or {@code null}
+     * @param title       task title
+     * @param description task description
+     * @param deadline    optional deadline
+     * @return stored task with generated identifier and timestamps
+     */
+    public ShardedTask insert(Long assigneeId, String title, String description, LocalDate deadline) {
+        TaskShard shard = shards.forAssignee(assigneeId);
+        Instant now = now();
+        Long id = shard.tx().execute(status -> {
+            Long inserted = shard.jdbc().queryForObject(
+                    "INSERT INTO tasks (assignee_id, title, description, status, deadline, created_at, updated_at, version) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0) RETURNING id",
+                    Long.class,
+                    assigneeId, title, description, TaskStatus.TODO.name(), date(deadline), Timestamp.from(now), Timestamp.from(now)
+            );
+            append(shard, new TaskChangedEvent(TaskChangedEvent.Type.CREATED, inserted, assigneeId, null));
+            return inserted;
+        });
+        log.debug("Sharded task inserted (taskId={}, shard={})", id, shard.name());
+        return new ShardedTask(id, assigneeId, title, description, TaskStatus.TODO, deadline, now, now, 0L);
+    }
+
+    /**
+     * Finds a task by identifier.
+     * <p>
+     * The shard that generated the identifier is queried first; tasks
+     * reassigned to another shard are then looked up on all shards.
+     *
+     * @param id task identifier
+     * @return task, if found
+     */
+    public Optional<ShardedTask> findById(long id) {
+        TaskShard home = shards.home(id);
+        if (home != null) {
+            Optional<ShardedTask> found = findOn(home, id);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return shards.scatter(s -> s == home ? Optional.<ShardedTask>empty() : findOn(s, id)).stream()
+                .flatMap(Optional::stream)
+                .max(Comparator.comparing(ShardedTask::version));
+    }
+
+    private static Optional<ShardedTask> findOn(TaskShard shard, long id) {
+        return shard.jdbc().query("SELECT " + COLUMNS + " FROM tasks WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    /**
+     * Writes new task values, moving the task to another shard if its new
+     * assignee is owned by a different one, and records the change as an
+     * event of the given type.
+     * <p>
+     * A move inserts the task on the target shard before deleting it from
+     * the source shard with a version check; if the source row changed in
+     * the meantime the copy is removed again. The task is therefore never
+     * missing, but may briefly be visible on both shards. The event is
+     * recorded on the source shard together with the delete, which is the
+     * step that makes the move effective.
+     *
+     * @param current task as previously read
+     * @param next    new task values; identifier and timestamps are taken from {@code current}
+     * @param type    type of the recorded event
+     * @return stored task with the incremented version
+     * @throws OptimisticLockingFailureException if the task was modified or deleted concurrently
+     */
+    public ShardedTask update(ShardedTask current, ShardedTask next, TaskChangedEvent.Type type) {
+        TaskShard source = locate(current);
+        Instant now = now();
+        ShardedTask stored = new ShardedTask(
+                current.id(), next.assigneeId(), next.title(), next.description(), next.status(), next.deadline(),
+                current.createdAt(), now, current.version() + 1
+        );
+        TaskShard target = Objects.equals(current.assigneeId(), next.assigneeId()) || next.assigneeId() == null
+                ? source
+                : shards.forAssignee(next.assigneeId());
+        TaskChangedEvent event = new TaskChangedEvent(type, current.id(), stored.assigneeId(), current.assigneeId());
+        if (target == source) {
+            source.tx().executeWithoutResult(status -> {
+                int updated = source.jdbc().update(
+                        "UPDATE tasks SET assignee_id = ?, title = ?, description = ?, status = ?, deadline = ?, "
+                                + "updated_at = ?, version = version + 1 WHERE id = ? AND version = ?",
+                        stored.assigneeId(), stored.title(), stored.description(), stored.status().name(),
+                        date(stored.deadline()), Timestamp.from(now), current.id(), current.version()
+                );
+                if (updated == 0) {
+                    throw new OptimisticLockingFailureException("Task has been modified concurrently: " + current.id());
+                }
+                append(source, event);
+            });
+            return stored;
+        }
+        insertCopy(target, stored);
+        Boolean moved = source.tx().execute(status -> {
+            int deleted = source.jdbc().update("DELETE FROM tasks WHERE id = ? AND version = ?", current.id(), current.version());
+            if (deleted == 0) {
+                return false;
+            }
+            append(source, event);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(moved)) {
+            target.jdbc().update("DELETE FROM tasks WHERE id = ? AND version = ?", stored.id(), stored.version());
+            log.warn("Sharded task move aborted (taskId={}, from={}, to={})", current.id(), source.name(), target.name());
+            throw new OptimisticLockingFailureException("Task has been modified concurrently: " + current.id());
+        }
+        log.info("Sharded task moved (taskId={}, from={}, to={})", current.id(), source.name(), target.name());
+        return stored;
+    }
+
+    private static void insertCopy(TaskShard shard, ShardedTask t) {
+        shard.jdbc().update(
+                "INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                t.id(), t.assigneeId(), t.title(), t.description(), t.status().name(), date(t.deadline()),
+                Timestamp.from(t.createdAt()), Timestamp.from(t.updatedAt()), t.version()
+        );
+    }
+
+    /**
+     * Deletes a task and records a {@code DELETED} event in the same transaction.
+     *
+     * @param current task as previously read
+     * @throws OptimisticLockingFailureException if the task was modified or deleted concurrently
+     */
+    public void delete(ShardedTask current) {
+        TaskShard shard = locate(current);
+        shard.tx().executeWithoutResult(status -> {
+            int deleted = shard.jdbc().update("DELETE FROM tasks WHERE id = ? AND version = ?", current.id(), current.version());
+            if (deleted == 0) {
+                throw new OptimisticLockingFailureException("Task has been modified concurrently: " + current.id());
+            }
+            append(shard, new TaskChangedEvent(TaskChangedEvent.Type.DELETED, current.id(), null, current.assigneeId()));
+        });
+    }
+
+    /**
+     * Appends a task change to the outbox of a shard within its current transaction.
+     *
+     * @param shard shard holding the changed task
+     * @param event task change event
+     */
+    private void append(TaskShard shard, TaskChangedEvent event) {
+        TaskOutboxWriter.append(shard.jdbc(), objectMapper, event);
+    }
+
+    /**
+     * Returns a page of tasks matching the given filters.
+     * <p>
+     * With an assignee filter a single shard is queried; otherwise all
+     * shards are queried in parallel and their results are merged.
+     *
+     * @param assigneeId   optional assignee filter
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive)
+     * @param deadlineTo   optional deadline range end (inclusive)
+     * @param pageable     pagination and sorting information
+     * @return page of tasks
+     * @throws IllegalArgumentException if sorting by an unsupported property is requested
+     */
+    public Page<ShardedTask> findAll(
+            Long assigneeId,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            Pageable pageable
+    ) {
+        StringBuilder where = new StringBuilder(" WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (assigneeId != null) {
+            where.append(" AND assignee_id = ?");
+            args.add(assigneeId);
+        }
+        if (status != null) {
+            where.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (deadlineFrom != null && deadlineTo != null) {
+            where.append(" AND deadline BETWEEN ? AND ?");
+            args.add(date(deadlineFrom));
+            args.add(date(deadlineTo));
+        }
+        String orderBy = orderBy(pageable.getSort());
+        Comparator<ShardedTask> comparator = comparator(pageable.getSort());
+        String countSql = "SELECT count(*) FROM tasks" + where;
+
+        if (assigneeId != null) {
+            TaskShard shard = shards.forAssignee(assigneeId);
+            List<Object> pageArgs = new ArrayList<>(args);
+            pageArgs.add(pageable.getPageSize());
+            pageArgs.add(pageable.getOffset());
+            List<ShardedTask> content = shard.jdbc().query(
+                    "SELECT " + COLUMNS + " FROM tasks" + where + orderBy + " LIMIT ? OFFSET ?", ROW_MAPPER, pageArgs.toArray()
+            );
+            Long total = shard.jdbc().queryForObject(countSql, Long.class, args.toArray());
+            return new PageImpl<>(content, pageable, total != null ? total : 0L);
+        }
+
+        long window = pageable.getOffset() + pageable.getPageSize();
+        List<Object> windowArgs = new ArrayList<>(args);
+        windowArgs.add(window);
+        String windowSql = "SELECT " + COLUMNS + " FROM tasks" + where + orderBy + " LIMIT ?";
+        List<ShardResult> results = shards.scatter(s -> new ShardResult(
+                s.jdbc().query(windowSql, ROW_MAPPER, windowArgs.toArray()),
+                Objects.requireNonNullElse(s.jdbc().queryForObject(countSql, Long.class, args.toArray()), 0L)
+        ));
+        long total = results.stream().mapToLong(ShardResult::total).sum();
+        List<ShardedTask> content = merge(results.stream().map(ShardResult::rows).toList(), comparator,
+                pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * Merges per-shard sorted rows and returns the requested window.
+     *
+     * @param sorted     rows of each shard, each sorted by {@code comparator}
+     * @param comparator row order
+     * @param offset     number of merged rows to skip
+     * @param size       maximum number of rows to return
+     * @return merged window
+     */
+    static List<ShardedTask> merge(List<List<ShardedTask>> sorted, Comparator<ShardedTask> comparator, long offset, int size) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>((a, b) -> comparator.compare(a.head(), b.head()));
+        for (List<ShardedTask> rows : sorted) {
+            if (!rows.isEmpty()) {
+                heads.add(new Cursor(rows));
+            }
+        }
+        List<ShardedTask> out = new ArrayList<>(size);
+        long skipped = 0;
+        while (!heads.isEmpty() && out.size() < size) {
+            Cursor c = heads.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                out.add(c.head());
+            }
+            if (c.advance()) {
+                heads.add(c);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Builds the {@code ORDER BY} clause for the requested sort.
+     * <p>
+     * Nulls sort last ascending and first descending, as PostgreSQL does by
+     * default; the identifier breaks ties so that shard order is total.
+     *
+     * @param sort requested sort
+     * @return SQL clause
+     */
+    static String orderBy(Sort sort) {
+        StringBuilder sb = new StringBuilder(" ORDER BY ");
+        for (Sort.Order o : sort) {
+            sb.append(key(o).column()).append(o.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return sb.append("id ASC").toString();
+    }
+
+    /**
+     * Builds the merge comparator matching {@link #orderBy(Sort)}.
+     *
+     * @param sort requested sort
+     * @return row comparator
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<ShardedTask> comparator(Sort sort) {
+        Comparator<ShardedTask> result = null;
+        for (Sort.Order o : sort) {
+            Function<ShardedTask, Comparable> value = (Function) key(o).value();
+            Comparator<ShardedTask> c = o.isAscending()
+                    ? Comparator.comparing(value, Comparator.nullsLast(Comparator.naturalOrder()))
+                    : Comparator.comparing(value, Comparator.nullsFirst(Comparator.reverseOrder()));
+            result = result == null ? c : result.thenComparing(c);
+        }
+        Comparator<ShardedTask> byId = Comparator.comparing(ShardedTask::id);
+        return result == null ? byId : result.thenComparing(byId);
+    }
+
+    private static SortKey key(Sort.Order o) {
+        SortKey key = SORT_KEYS.get(o.getProperty());
+        if (key == null) {
+            throw new IllegalArgumentException("Unsupported sort property: " + o.getProperty());
+        }
+        return key;
+    }
+
+    /**
+     * Returns the shard currently storing the given task.
+     *
+     * @param t task as previously read
+     * @return owning shard
+     * @throws OptimisticLockingFailureException if the task no longer exists
+     */
+    private TaskShard locate(ShardedTask t) {
+        if (t.assigneeId() != null) {
+            return shards.forAssignee(t.assigneeId());
+        }
+        TaskShard home = shards.home(t.id());
+        if (home != null && findOn(home, t.id()).isPresent()) {
+            return home;
+        }
+        return shards.scatter(s -> s != home && findOn(s, t.id()).isPresent() ? s : null).stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow(() -> new OptimisticLockingFailureException("Task has been deleted concurrently: " + t.id()));
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private static Date date(LocalDate d) {
+        return d != null ? Date.valueOf(d) : null;
+    }
+
+    private record SortKey(String column, Function<ShardedTask, ? extends Comparable<?>> value) {
+    }
+
+    private record ShardResult(List<ShardedTask> rows, long total) {
+    }
+
+    private static final class Cursor {
+
+        private final List<ShardedTask> rows;
+        private int pos;
+
+        Cursor(List<ShardedTask> rows) {
+            this.rows = rows;
+        }
+
+        ShardedTask head() {
+            return rows.get(pos);
+        }
+
+        boolean advance() {
+            return ++pos < rows.size();
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskStamp;
+import com.finalProjectLedZeppelin.task.service.TaskService;
+import com.finalProjectLedZeppelin.task.service.TaskWorkflow;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Task service storing tasks in shard databases, enabled with
+ * {@code app.sharding.enabled=true}.
+ * <p>
+ * Applies the same access rules as {@link TaskService}. Tasks are routed by
+ * assignee, so a non-admin user's reads touch one shard; admin listings
+ * scatter-gather over all shards, and reassignments may move a task between
+ * shards. Users stay in the primary database, and assignee emails are
+ * resolved there in one batch per page.
+ * <p>
+ * Every write commits in one shard transaction together with the outbox
+ * row of its {@link TaskChangedEvent}, which {@link ShardOutboxRelay}
+ * delivers. Writes do not run in a primary database transaction, not even
+ * one opened by the caller: the event is published after the shard commit,
+ * so listing versions are bumped and streams notified for exactly the
+ * changes that committed. Features built on the primary {@code tasks}
+ * table — delta sync, dashboard summaries, the list read model, archival,
+ * claims, facets, partitioning and row-level security — are not available
+ * in this mode.
+ */
+@Log4j2
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardedTaskService implements TaskService {
+
+    private final ShardedTaskRepository shardedTasks;
+    private final UserRepository userRepository;
+    private final TaskWorkflow workflow;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Creates a new {@code ShardedTaskService} instance.
+     *
+     * @param shardedTasks   repository of sharded tasks
+     * @param userRepository repository used to resolve assignees
+     * @param workflow       allowed status transitions
+     * @param eventPublisher publisher used to announce task changes
+     */
+    public ShardedTaskService(
+            ShardedTaskRepository shardedTasks,
+            UserRepository userRepository,
+            TaskWorkflow workflow,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.shardedTasks = shardedTasks;
+        this.userRepository = userRepository;
+        this.workflow = workflow;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates a new task on the shard of its assignee.
+     * <p>
+     * Unassigned tasks are placed on a random shard.
+     *
+     * @param req task creation request
+     * @return created task representation
+     * @throws IllegalArgumentException if the assignee does not exist
+     */
+    @Override
+    public TaskResponse create(TaskCreateRequest req) {
+        log.info("Sharded task create requested (assigneeId={}, deadline={})", req.assigneeId(), req.deadline());
+        String email = req.assigneeId() != null ? requireAssignee(req.assigneeId()).getEmail() : null;
+        ShardedTask saved = shardedTasks.insert(req.assigneeId(), req.title(), req.description(), req.deadline());
+        log.info("Sharded task created (taskId={}, assigneeId={})", saved.id(), saved.assigneeId());
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, saved.id(), saved.assigneeId(), null));
+        return toResponse(saved, email);
+    }
+
+    /**
+     * Creates several tasks one by one.
+     * <p>
+     * Tasks are routed to different shards, so there is no single batch to
+     * send and each shard insert commits on its own.
+     *
+     * @param reqs task creation requests
+     * @return created task representations, in request order
+     */
+    @Override
+    public List<TaskResponse> createAll(List<TaskCreateRequest> reqs) {
+        return reqs.stream().map(this::create).toList();
+    }
+
+    /**
+     * Retrieves a task by its identifier.
+     * <p>
+     * The shard that generated the identifier is asked first; tasks moved
+     * to another shard by a reassignment are found on the remaining shards.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task representation
+     * @throws NotFoundException     if the task does not exist
+     * @throws AccessDeniedException if the current user is not allowed to access the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponse get(Long userId, boolean isAdmin, Long taskId) {
+        ShardedTask t = load(taskId);
+        requireAccess(userId, isAdmin, t);
+        return toResponse(t, email(t.assigneeId()));
+    }
+
+    /**
+     * Retrieves selected fields of a task.
+     * <p>
+     * Shard rows are narrow and read whole; the fields are selected
+     * afterwards.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @param fields  fields to return
+     * @return selected task members, in response order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> get(Long userId, boolean isAdmin, Long taskId, TaskFields fields) {
+        return fields.project(get(userId, isAdmin, taskId));
+    }
+
+    /**
+     * Resolves many tasks by identifier.
+     * <p>
+     * Identifiers are routed to their shards and read one by one; the
+     * assignee emails are resolved in one query.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param ids     task identifiers
+     * @return result of each distinct identifier, in request order
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskLookupResult> lookup(Long userId, boolean isAdmin, List<Long> ids) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<Optional<ShardedTask>> tasks = distinct.stream().map(shardedTasks::findById).toList();
+        Set<Long> assigneeIds = tasks.stream()
+                .flatMap(Optional::stream)
+                .map(ShardedTask::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> emails = new HashMap<>();
+        userRepository.findAllById(assigneeIds).forEach(u -> emails.put(u.getId(), u.getEmail()));
+        List<TaskLookupResult> results = new ArrayList<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i++) {
+            Long id = distinct.get(i);
+            results.add(tasks.get(i)
+                    .map(t -> isAdmin || userId.equals(t.assigneeId())
+                            ? TaskLookupResult.found(toResponse(t, t.assigneeId() != null ? emails.get(t.assigneeId()) : null))
+                            : TaskLookupResult.forbidden(id))
+                    .orElseGet(() -> TaskLookupResult.missing(id)));
+        }
+        return results;
+    }
+
+    /**
+     * Retrieves the modification stamp of a task.
+     * <p>
+     * Shard rows are narrow, so the stamp is taken from the whole row.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param taskId  identifier of the task
+     * @return task stamp
+     * @throws NotFoundException     if the task does not exist
+     * @throws AccessDeniedException if the current user is not allowed to access the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStamp stamp(Long userId, boolean isAdmin, Long taskId) {
+        ShardedTask t = load(taskId);
+        requireAccess(userId, isAdmin, t);
+        return new TaskStamp(t.id(), t.assigneeId(), t.updatedAt(), t.version());
+    }
+
+    /**
+     * Updates task fields as an administrator.
+     * <p>
+     * If the new assignee is owned by a different shard, the task is moved
+     * there; the task keeps its identifier.
+     *
+     * @param taskId          identifier of the task to update
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param req             update request containing new task values
+     * @return updated task representation
+     */
+    @Override
+    public TaskResponse adminUpdate(Long taskId, Long expectedVersion, TaskUpdateRequest req) {
+        log.info("Sharded task adminUpdate requested (taskId={}, assigneeId={})", taskId, req.assigneeId());
+        ShardedTask t = load(taskId);
+        requireVersion(t, expectedVersion);
+        if (req.status() != null) {
+            workflow.require(taskId, t.status(), req.status(), true);
+        }
+        String email = req.assigneeId() != null ? requireAssignee(req.assigneeId()).getEmail() : null;
+        ShardedTask saved = shardedTasks.update(t, new ShardedTask(
+                t.id(), req.assigneeId(), req.title(), req.description(),
+                req.status() != null ? req.status() : t.status(), req.deadline(),
+                t.createdAt(), t.updatedAt(), t.version()
+        ), TaskChangedEvent.Type.UPDATED);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, taskId, saved.assigneeId(), t.assigneeId()));
+        return toResponse(saved, email);
+    }
+
+    /**
+     * Applies a JSON Merge Patch to a task as an administrator.
+     * <p>
+     * Only fields present in the patch are modified. Changing the assignee
+     * may move the task to another shard, as in {@link #adminUpdate}.
+     *
+     * @param taskId          identifier of the task to patch
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param req             parsed merge patch
+     * @return updated task representation
+     * @throws NotFoundException           if the task does not exist
+     * @throws IllegalArgumentException    if the assignee does not exist
+     * @throws PreconditionFailedException if the task version does not match {@code expectedVersion}
+     * @throws ConflictException           if admin overrides are disabled and the workflow does not allow the status change
+     */
+    @Override
+    public TaskResponse patch(Long taskId, Long expectedVersion, TaskPatchRequest req) {
+        log.info("Sharded task patch requested (taskId={})", taskId);
+        ShardedTask t = load(taskId);
+        requireVersion(t, expectedVersion);
+        if (req.hasStatus()) {
+            workflow.require(taskId, t.status(), req.status(), true);
+        }
+        Long assigneeId = req.hasAssigneeId() ? req.assigneeId() : t.assigneeId();
+        if (assigneeId != null && !Objects.equals(assigneeId, t.assigneeId())) {
+            requireAssignee(assigneeId);
+        }
+        ShardedTask saved = shardedTasks.update(t, new ShardedTask(
+                t.id(),
+                assigneeId,
+                req.hasTitle() ? req.title() : t.title(),
+                req.hasDescription() ? req.description() : t.description(),
+                req.hasStatus() ? req.status() : t.status(),
+                req.hasDeadline() ? req.deadline() : t.deadline(),
+                t.createdAt(), t.updatedAt(), t.version()
+        ), TaskChangedEvent.Type.UPDATED);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, taskId, saved.assigneeId(), t.assigneeId()));
+        return toResponse(saved, email(saved.assigneeId()));
+    }
+
+    /**
+     * Updates the status of a task.
+     * <p>
+     * Applies the same access rules and workflow as {@link TaskService}.
+     * The write is conditional on the version that was read, so a
+     * concurrent change makes it fail instead of being overwritten.
+     *
+     * @param userId          identifier of the current user
+     * @param isAdmin         whether the current user has admin privileges
+     * @param taskId          identifier of the task to update
+     * @param expectedVersion version the client based its change on; {@code null} to skip the check
+     * @param newStatus       new status to set
+     * @return updated task representation
+     * @throws NotFoundException                 if the task does not exist
+     * @throws AccessDeniedException             if the current user is not allowed to update the task
+     * @throws PreconditionFailedException       if the task version does not match {@code expectedVersion}
+     * @throws ConflictException                 if the workflow does not allow the transition
+     * @throws OptimisticLockingFailureException if the task changed concurrently
+     */
+    @Override
+    public TaskResponse updateStatus(Long userId, boolean isAdmin, Long taskId, Long expectedVersion, TaskStatus newStatus) {
+        log.info("Sharded task status update requested (taskId={}, userId={}, newStatus={})", taskId, userId, newStatus);
+        ShardedTask t = load(taskId);
+        requireAccess(userId, isAdmin, t);
+        requireVersion(t, expectedVersion);
+        workflow.require(taskId, t.status(), newStatus, isAdmin);
+        ShardedTask saved = shardedTasks.update(t, new ShardedTask(
+                t.id(), t.assigneeId(), t.title(), t.description(), newStatus, t.deadline(),
+                t.createdAt(), t.updatedAt(), t.version()
+        ), TaskChangedEvent.Type.STATUS_CHANGED);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.STATUS_CHANGED, taskId, saved.assigneeId(), saved.assigneeId()));
+        return toResponse(saved, email(saved.assigneeId()));
+    }
+
+    /**
+     * Deletes a task from its shard.
+     * <p>
+     * No tombstone is recorded, as delta sync is not available in sharded
+     * mode.
+     *
+     * @param taskId identifier of the task to delete
+     * @throws NotFoundException                 if the task does not exist
+     * @throws OptimisticLockingFailureException if the task changed concurrently
+     */
+    @Override
+    public void delete(Long taskId) {
+        log.info("Sharded task delete requested (taskId={})", taskId);
+        ShardedTask t = load(taskId);
+        shardedTasks.delete(t);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, taskId, null, t.assigneeId()));
+    }
+
+    /**
+     * Returns a paginated list of tasks.
+     * <p>
+     * Non-admin listings query the caller's shard only. Admin listings
+     * query all shards in parallel and merge the sorted results.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive)
+     * @param deadlineTo   optional deadline range end (inclusive)
+     * @param pageable     pagination and sorting information
+     * @return page of matching tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            Pageable pageable
+    ) {
+        Page<ShardedTask> page = shardedTasks.findAll(isAdmin ? null : userId, status, deadlineFrom, deadlineTo, pageable);
+        Set<Long> assigneeIds = page.stream()
+                .map(ShardedTask::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> emails = new HashMap<>();
+        userRepository.findAllById(assigneeIds).forEach(u -> emails.put(u.getId(), u.getEmail()));
+        return page.map(t -> toResponse(t, t.assigneeId() != null ? emails.get(t.assigneeId()) : null));
+    }
+
+    /**
+     * Returns a paginated list of tasks with selected fields.
+     * <p>
+     * Shard rows are read whole; the fields are selected afterwards.
+     *
+     * @param userId       identifier of the current user
+     * @param isAdmin      whether the current user has admin privileges
+     * @param status       optional status filter
+     * @param deadlineFrom optional deadline range start (inclusive)
+     * @param deadlineTo   optional deadline range end (inclusive)
+     * @param due          deadline window; not supported in sharded mode
+     * @param pageable     pagination and sorting information
+     * @param fields       fields to return
+     * @return page of selected task members
+     * @throws IllegalArgumentException if a deadline window is given
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            LocalDate deadlineFrom,
+            LocalDate deadlineTo,
+            TaskDueWindow due,
+            Pageable pageable,
+            TaskFields fields
+    ) {
+        if (due != null) {
+            throw dueNotSupported(userId);
+        }
+        return list(userId, isAdmin, status, deadlineFrom, deadlineTo, pageable).map(fields::project);
+    }
+
+    /**
+     * Not supported in sharded mode, where the partial indexes on open
+     * tasks of the list read model are not maintained.
+     *
+     * @param userId   identifier of the current user
+     * @param isAdmin  whether the current user has admin privileges
+     * @param status   optional status filter
+     * @param due      deadline window
+     * @param pageable pagination and sorting information
+     * @return never returns normally
+     * @throws IllegalArgumentException always
+     */
+    @Override
+    public Page<TaskResponse> list(
+            Long userId,
+            boolean isAdmin,
+            TaskStatus status,
+            TaskDueWindow due,
+            Pageable pageable
+    ) {
+        throw dueNotSupported(userId);
+    }
+
+    /**
+     * Builds the rejection of a deadline window listing.
+     *
+     * @param userId identifier of the current user
+     * @return exception to throw
+     */
+    private static IllegalArgumentException dueNotSupported(Long userId) {
+        log.warn("Task due list rejected: not supported in sharded mode (userId={})", userId);
+        return new IllegalArgumentException("Due filters are not supported in sharded mode");
+    }
+
+    /**
+     * Loads a task from the shards.
+     *
+     * @param taskId identifier of the task
+     * @return task
+     * @throws NotFoundException if the task does not exist
+     */
+    private ShardedTask load(Long taskId) {
+        return shardedTasks.findById(taskId)
+                .orElseThrow(() -> {
+                    log.warn("Sharded task lookup failed: task not found (taskId={})", taskId);
+                    return new NotFoundException("Task not found");
+                });
+    }
+
+    /**
+     * Resolves the assignee of a write in the primary database.
+     *
+     * @param assigneeId identifier of the assignee
+     * @return assignee
+     * @throws IllegalArgumentException if the user does not exist
+     */
+    private User requireAssignee(Long assigneeId) {
+        return userRepository.findById(assigneeId)
+                .orElseThrow(() -> {
+                    log.warn("Sharded task write failed: assignee not found (assigneeId={})", assigneeId);
+                    return new IllegalArgumentException("User not found: " + assigneeId);
+                });
+    }
+
+    /**
+     * Ensures the caller may access the task.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user has admin privileges
+     * @param t       task
+     * @throws AccessDeniedException if the task is unassigned or assigned to a different user
+     */
+    private static void requireAccess(Long userId, boolean isAdmin, ShardedTask t) {
+        if (isAdmin) {
+            return;
+        }
+        if (t.assigneeId() == null) {
+            log.warn("Task access denied: task is not assigned (taskId={}, userId={})", t.id(), userId);
+            throw new AccessDeniedException("Task is not assigned");
+        }
+        if (!t.assigneeId().equals(userId)) {
+            log.warn("Task access denied: not your task (taskId={}, userId={}, assigneeId={})", t.id(), userId, t.assigneeId());
+            throw new AccessDeniedException("Not your task");
+        }
+    }
+
+    /**
+     * Ensures the task has the version the client based its change on.
+     *
+     * @param t               task
+     * @param expectedVersion expected version; {@code null} to skip the check
+     * @throws PreconditionFailedException if the versions differ
+     */
+    private static void requireVersion(ShardedTask t, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(t.version())) {
+            log.warn("Task version mismatch (taskId={}, expected={}, actual={})", t.id(), expectedVersion, t.version());
+            throw new PreconditionFailedException("Task has been modified");
+        }
+    }
+
+    /**
+     * Resolves the email of an assignee.
+     *
+     * @param assigneeId identifier of the assignee, or {@code null}
+     * @return email, or {@code null} if the task is unassigned or the user no longer exists
+     */
+    private String email(Long assigneeId) {
+        return assigneeId != null ? userRepository.findById(assigneeId).map(User::getEmail).orElse(null) : null;
+    }
+
+    /**
+     * Maps a {@link ShardedTask} to a {@link TaskResponse}.
+     *
+     * @param t             sharded task
+     * @param assigneeEmail email of the assignee, or {@code null}
+     * @return task response DTO
+     */
+    private static TaskResponse toResponse(ShardedTask t, String assigneeEmail) {
+        return new TaskResponse(
+                t.id(),
+                t.assigneeId(),
+                assigneeEmail,
+                t.title(),
+                t.description(),
+                t.status(),
+                t.deadline(),
+                t.createdAt(),
+                t.updatedAt(),
+                t.version()
+        );
+    }
+}
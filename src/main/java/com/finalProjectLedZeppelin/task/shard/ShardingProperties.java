@@ -0,0 +1,39 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Configuration of the sharded task persistence mode.
+ *
+ * @param enabled whether tasks are stored in shard databases instead of the primary database
+ * @param buckets number of virtual buckets assignees are hashed into
+ * @param shards  shard databases and the bucket ranges they own
+ */
+@ConfigurationProperties("app.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        @DefaultValue("256") int buckets,
+        @DefaultValue List<Shard> shards
+) {
+
+    /**
+     * A single shard database.
+     *
+     * @param name     shard name used in logs
+     * @param url      JDBC URL
+     * @param username database user
+     * @param password database password
+     * @param buckets  owned bucket ranges, e.g. {@code 0-127} or {@code 0-63,128-191}
+     */
+    public record Shard(
+            String name,
+            String url,
+            String username,
+            String password,
+            String buckets
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * A single task shard database.
+ * <p>
+ * The data source is owned by {@link TaskShards} and intentionally not
+ * exposed as a bean, so it never competes with the primary data source.
+ *
+ * @param index      position of the shard in the shard map
+ * @param name       shard name used in logs
+ * @param dataSource pooled connection to the shard
+ * @param jdbc       JDBC template bound to the shard
+ * @param tx         transaction template bound to the shard
+ */
+public record TaskShard(
+        int index,
+        String name,
+        HikariDataSource dataSource,
+        JdbcTemplate jdbc,
+        TransactionTemplate tx
+) {
+}
@@ -0,0 +1,173 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Connections to the task shard databases and routing between them.
+ * <p>
+ * Assigned tasks live on the shard owning their assignee's bucket
+ * (see {@link ShardMap}). Unassigned tasks have no routing key and are
+ * spread randomly, so looking them up requires a scatter-gather over all
+ * shards. Every shard draws task identifiers from its own residue class
+ * modulo {@link ShardMap#MAX_SHARDS}, which makes identifiers globally
+ * unique and lets a lookup by identifier try the generating shard first.
+ * <p>
+ * Shard schemas are migrated at startup from
+ * {@code db/changelog/shard/db.changelog-shard.yaml}.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class TaskShards implements DisposableBean {
+
+    private static final String CHANGELOG = "classpath:db/changelog/shard/db.changelog-shard.yaml";
+
+    private final ShardMap map;
+    private final List<TaskShard> shards;
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Creates a new {@code TaskShards} instance and migrates every shard.
+     *
+     * @param properties     sharding configuration
+     * @param resourceLoader loader used to resolve the shard changelog
+     * @throws IllegalArgumentException if the shard map is invalid
+     * @throws Exception                if a shard cannot be migrated
+     */
+    public TaskShards(ShardingProperties properties, ResourceLoader resourceLoader) throws Exception {
+        List<ShardingProperties.Shard> configured = properties.shards();
+        this.map = ShardMap.of(properties.buckets(), configured.stream().map(ShardingProperties.Shard::buckets).toList());
+        List<TaskShard> list = new ArrayList<>(configured.size());
+        try {
+            for (int i = 0; i < configured.size(); i++) {
+                list.add(open(i, configured.get(i), resourceLoader));
+            }
+        } catch (Exception ex) {
+            list.forEach(s -> s.dataSource().close());
+            throw ex;
+        }
+        this.shards = List.copyOf(list);
+        log.info("Task sharding enabled (shards={}, buckets={})", shards.size(), properties.buckets());
+    }
+
+    private static TaskShard open(int index, ShardingProperties.Shard config, ResourceLoader resourceLoader) throws Exception {
+        String name = config.name() != null ? config.name() : "shard-" + index;
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("task-" + name);
+        ds.setJdbcUrl(config.url());
+        ds.setUsername(config.username());
+        ds.setPassword(config.password());
+
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(ds);
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.setChangeLog(CHANGELOG);
+        liquibase.setChangeLogParameters(Map.of(
+                "idStart", String.valueOf(index + 1),
+                "idStep", String.valueOf(ShardMap.MAX_SHARDS)
+        ));
+        try {
+            liquibase.afterPropertiesSet();
+        } catch (Exception ex) {
+            ds.close();
+            throw ex;
+        }
+        log.info("Task shard ready (shard={}, buckets={})", name, config.buckets());
+        return new TaskShard(index, name, ds, new JdbcTemplate(ds), new TransactionTemplate(new DataSourceTransactionManager(ds)));
+    }
+
+    /**
+     * Returns the shard storing tasks of the given assignee.
+     * <p>
+     * Unassigned tasks are placed on a random shard.
+     *
+     * @param assigneeId assignee identifier, or {@code null}
+     * @return target shard
+     */
+    public TaskShard forAssignee(Long assigneeId) {
+        if (assigneeId == null) {
+            return shards.get(ThreadLocalRandom.current().nextInt(shards.size()));
+        }
+        return shards.get(map.shardOf(assigneeId));
+    }
+
+    /**
+     * Returns the shard that generated the given task identifier.
+     *
+     * @param taskId task identifier
+     * @return home shard, or {@code null} if no configured shard generates such identifiers
+     */
+    public TaskShard home(long taskId) {
+        int home = map.homeOf(taskId);
+        return home >= 0 ? shards.get(home) : null;
+    }
+
+    /**
+     * Returns all shards in shard map order.
+     *
+     * @return shards
+     */
+    public List<TaskShard> all() {
+        return shards;
+    }
+
+    /**
+     * Runs a query on every shard in parallel and gathers the results.
+     *
+     * @param query query to run against a single shard
+     * @param <T>   result type
+     * @return results in shard map order
+     * @throws ShardAccessException if any shard fails
+     */
+    public <T> List<T> scatter(Function<TaskShard, T> query) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (TaskShard shard : shards) {
+            futures.add(fanOut.submit(() -> query.apply(shard)));
+        }
+        List<T> results = new ArrayList<>(shards.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException ex) {
+                futures.forEach(f -> f.cancel(true));
+                if (ex.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new ShardAccessException("Shard query failed: " + shards.get(i).name(), ex.getCause());
+            } catch (InterruptedException ex) {
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ShardAccessException("Interrupted while querying shards", ex);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Closes shard connection pools and the fan-out executor.
+     */
+    @Override
+    public void destroy() {
+        fanOut.shutdownNow();
+        shards.forEach(s -> s.dataSource().close());
+    }
+}
@@ -0,0 +1,161 @@
+package com.finalProjectLedZeppelin.task.stream;
+
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans committed task changes out to open Server-Sent Events streams.
+ * <p>
+ * Each connection holds only an {@link SseEmitter} and a small bounded
+ * buffer; no thread is parked per connection. Writes are performed by a
+ * shared virtual-thread executor, and a single scheduler emits heartbeat
+ * comments so that idle connections survive proxies and dead ones are
+ * detected.
+ */
+@Log4j2
+@Component
+public class TaskEventBroadcaster {
+
+    private final Set<TaskStreamSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService writer = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "task-stream-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final Counter resyncs;
+
+    /**
+     * Creates a new {@code TaskEventBroadcaster} instance.
+     *
+     * @param bufferSize    maximum number of undelivered messages per connection
+     * @param heartbeat     interval between heartbeat comments
+     * @param timeout       maximum lifetime of a connection before the client must reconnect
+     * @param meterRegistry registry used to publish stream metrics
+     */
+    public TaskEventBroadcaster(
+            @Value("${app.tasks.stream.buffer-size:64}") int bufferSize,
+            @Value("${app.tasks.stream.heartbeat:PT25S}") Duration heartbeat,
+            @Value("${app.tasks.stream.timeout:PT30M}") Duration timeout,
+            MeterRegistry meterRegistry
+    ) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("app.tasks.stream.buffer-size must be at least 2");
+        }
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeout.toMillis();
+        this.resyncs = Counter.builder("app.tasks.stream.resyncs")
+                .description("Task stream buffers dropped because the client lagged")
+                .register(meterRegistry);
+        Gauge.builder("app.tasks.stream.connections", subscriptions, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.heartbeat.scheduleAtFixedRate(
+                this::sendHeartbeats, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS
+        );
+        log.info("Task stream initialized (bufferSize={}, heartbeat={}, timeout={})", bufferSize, heartbeat, timeout);
+    }
+
+    /**
+     * Opens a new event stream for the given caller.
+     *
+     * @param userId  identifier of the current user
+     * @param isAdmin whether the current user receives changes of all tasks
+     * @return emitter bound to the HTTP response
+     */
+    public SseEmitter subscribe(Long userId, boolean isAdmin) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        TaskStreamSubscription sub = new TaskStreamSubscription(emitter, userId, isAdmin, bufferSize, writer);
+        Runnable remove = () -> {
+            sub.close();
+            if (subscriptions.remove(sub)) {
+                log.debug("Task stream closed (userId={}, open={})", userId, subscriptions.size());
+            }
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+        subscriptions.add(sub);
+        log.debug("Task stream opened (userId={}, isAdmin={}, open={})", userId, isAdmin, subscriptions.size());
+        return emitter;
+    }
+
+    /**
+     * Pushes a committed task change to every subscriber allowed to see it.
+     *
+     * @param event task change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskStreamSubscription.Message message = new TaskStreamSubscription.Message(
+                "task", new TaskStreamEvent(event.type().name(), event.taskId())
+        );
+        for (TaskStreamSubscription sub : subscriptions) {
+            if (sub.sees(event.assigneeId(), event.previousAssigneeId()) && !sub.offer(message)) {
+                resyncs.increment();
+            }
+        }
+    }
+
+    /**
+     * Pushes a committed batch of task changes to the subscribers allowed to see them.
+     *
+     * @param event task batch change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksChanged(TaskBatchChangedEvent event) {
+        event.changes().forEach(this::onTaskChanged);
+    }
+
+    /**
+     * Returns the number of open streams.
+     *
+     * @return open stream count
+     */
+    public int connections() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Closes all streams and stops background executors.
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        for (TaskStreamSubscription sub : subscriptions) {
+            sub.close();
+            sub.emitter().complete();
+        }
+        subscriptions.clear();
+        writer.shutdown();
+    }
+
+    private void sendHeartbeats() {
+        try {
+            for (TaskStreamSubscription sub : subscriptions) {
+                sub.offer(TaskStreamSubscription.HEARTBEAT);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Task stream heartbeat failed (error={})", ex.getClass().getSimpleName());
+        }
+    }
+}
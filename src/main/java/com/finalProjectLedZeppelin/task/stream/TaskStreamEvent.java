@@ -0,0 +1,13 @@
+package com.finalProjectLedZeppelin.task.stream;
+
+/**
+ * Payload of a task change pushed over the task event stream.
+ * <p>
+ * Deliberately minimal: clients refetch the task (using conditional
+ * requests) if they need its new state.
+ *
+ * @param type   kind of change ({@code CREATED}, {@code UPDATED}, {@code STATUS_CHANGED}, {@code DELETED})
+ * @param taskId identifier of the affected task
+ */
+public record TaskStreamEvent(String type, Long taskId) {
+}
@@ -0,0 +1,134 @@
+package com.finalProjectLedZeppelin.task.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Single open task event stream.
+ * <p>
+ * Messages are queued in a bounded per-connection buffer and written by at
+ * most one pool thread at a time, so a slow client never blocks the
+ * publisher or other clients. When the buffer overflows its content is
+ * discarded and replaced by a single {@code resync} message telling the
+ * client to reload, after which queuing continues normally.
+ */
+class TaskStreamSubscription {
+
+    /**
+     * Message queued for delivery.
+     *
+     * @param name SSE event name, or {@code null} for a comment
+     * @param data event payload, or comment text
+     */
+    record Message(String name, Object data) {
+    }
+
+    static final Message RESYNC = new Message("resync", "");
+    static final Message HEARTBEAT = new Message(null, "heartbeat");
+
+    private final SseEmitter emitter;
+    private final Long userId;
+    private final boolean admin;
+    private final int capacity;
+    private final Executor writer;
+    private final ArrayDeque<Message> buffer = new ArrayDeque<>(4);
+    private boolean draining;
+    private boolean closed;
+    private long overflows;
+
+    TaskStreamSubscription(SseEmitter emitter, Long userId, boolean admin, int capacity, Executor writer) {
+        this.emitter = emitter;
+        this.userId = userId;
+        this.admin = admin;
+        this.capacity = capacity;
+        this.writer = writer;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * Checks whether a change is visible to this subscriber.
+     *
+     * @param assigneeId         assignee after the change
+     * @param previousAssigneeId assignee before the change
+     * @return {@code true} if the subscriber should receive the change
+     */
+    boolean sees(Long assigneeId, Long previousAssigneeId) {
+        return admin || userId.equals(assigneeId) || userId.equals(previousAssigneeId);
+    }
+
+    /**
+     * Queues a message for delivery.
+     *
+     * @param message message to queue
+     * @return {@code false} if the buffer overflowed and was replaced by a resync marker
+     */
+    boolean offer(Message message) {
+        boolean overflowed = false;
+        synchronized (this) {
+            if (closed) {
+                return true;
+            }
+            if (message == HEARTBEAT && !buffer.isEmpty()) {
+                return true;
+            }
+            if (buffer.size() >= capacity) {
+                buffer.clear();
+                buffer.add(RESYNC);
+                overflows++;
+                overflowed = true;
+            }
+            buffer.add(message);
+            if (draining) {
+                return !overflowed;
+            }
+            draining = true;
+        }
+        writer.execute(this::drain);
+        return !overflowed;
+    }
+
+    /**
+     * Marks the subscription as closed and drops pending messages.
+     */
+    synchronized void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    synchronized int pending() {
+        return buffer.size();
+    }
+
+    synchronized long overflows() {
+        return overflows;
+    }
+
+    private void drain() {
+        while (true) {
+            Message next;
+            synchronized (this) {
+                next = closed ? null : buffer.poll();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                if (next.name() == null) {
+                    emitter.send(SseEmitter.event().comment(String.valueOf(next.data())));
+                } else {
+                    emitter.send(SseEmitter.event().name(next.name()).data(next.data()));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
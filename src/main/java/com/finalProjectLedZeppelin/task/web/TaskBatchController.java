@@ -0,0 +1,86 @@
+package com.finalProjectLedZeppelin.task.web;
+
+import com.finalProjectLedZeppelin.task.dto.TaskBatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchResponse;
+import com.finalProjectLedZeppelin.task.service.TaskBatchService;
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+/**
+ * REST controller applying many task operations in one request.
+ * <p>
+ * Intended for integration scripts that would otherwise issue hundreds of
+ * small calls, each paying HTTP, authentication and transaction overhead.
+ */
+@Log4j2
+@RestController
+@RequestMapping("/api/batch")
+public class TaskBatchController {
+
+    private final TaskBatchService taskBatchService;
+
+    /**
+     * Creates a new {@code TaskBatchController} instance.
+     *
+     * @param taskBatchService service applying task batches
+     */
+    public TaskBatchController(TaskBatchService taskBatchService) {
+        this.taskBatchService = taskBatchService;
+    }
+
+    /**
+     * Applies an ordered list of task operations.
+     * <p>
+     * Each operation reuses the request body of the corresponding task
+     * endpoint and is subject to the same access rules: regular users may
+     * only change the status of tasks assigned to them. By default the
+     * batch is atomic; with {@code "atomic": false} each operation commits
+     * on its own. The response reports the outcome of every operation with
+     * the HTTP status its endpoint would have returned.
+     *
+     * @param req batch request
+     * @return outcome of each operation
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public TaskBatchResponse execute(@Valid @RequestBody TaskBatchRequest req) {
+        log.info("Task batch endpoint called (count={}, atomic={})", req.operations().size(), req.atomic());
+        return taskBatchService.execute(currentUserId(), isAdmin(), req);
+    }
+
+    /**
+     * Resolves the identifier of the currently authenticated user.
+     *
+     * @return current user identifier
+     * @throws IllegalStateException if no authenticated user is present
+     */
+    private static Long currentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getPrincipal() == null) {
+            throw new IllegalStateException("No authenticated user");
+        }
+        return (Long) auth.getPrincipal();
+    }
+
+    /**
+     * Determines whether the currently authenticated user
+     * has administrator privileges.
+     *
+     * @return {@code true} if the user has the {@code ADMIN} role,
+     * {@code false} otherwise
+     */
+    private static boolean isAdmin() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getAuthorities().stream()
+                .anyMatch(a -> Objects.equals(a.getAuthority(), "ROLE_ADMIN"));
+    }
+}
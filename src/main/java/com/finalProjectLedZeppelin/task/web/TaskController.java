@@ -1,23 +1,54 @@
 package com.finalProjectLedZeppelin.task.web;
 
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
+import com.finalProjectLedZeppelin.common.web.PageGuard;
+import com.finalProjectLedZeppelin.common.web.ResourceVersions;
+import com.finalProjectLedZeppelin.task.dto.TaskChangesResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFacetedPage;
+import com.finalProjectLedZeppelin.task.dto.TaskFacets;
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
 import com.finalProjectLedZeppelin.task.dto.TaskResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskStatusUpdateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskSummaryResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
 import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskStamp;
+import com.finalProjectLedZeppelin.task.service.TaskArchiveService;
+import com.finalProjectLedZeppelin.task.service.TaskClaimService;
+import com.finalProjectLedZeppelin.task.service.TaskFacetService;
 import com.finalProjectLedZeppelin.task.service.TaskService;
+import com.finalProjectLedZeppelin.task.service.TaskSummaryService;
+import com.finalProjectLedZeppelin.task.service.TaskSyncService;
+import com.finalProjectLedZeppelin.task.stream.TaskEventBroadcaster;
 import jakarta.validation.Valid;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * REST controller providing task management endpoints.
@@ -32,15 +63,64 @@ import java.util.Objects;
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    /**
+     * Media type of JSON Merge Patch documents.
+     */
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
+    /**
+     * Properties task listings may be sorted by; each is backed by an
+     * index of {@code task_list_view}.
+     */
+    private static final Set<String> SORTABLE = Set.of("id", "deadline");
+
     private final TaskService taskService;
+    private final TaskSyncService taskSyncService;
+    private final TaskSummaryService taskSummaryService;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskFacetService taskFacetService;
+    private final TaskClaimService taskClaimService;
+    private final ResourceVersions resourceVersions;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final PageGuard pageGuard;
+    private final int maxPageSize;
 
     /**
      * Creates a new {@code TaskController} instance.
      *
-     * @param taskService service responsible for task business logic
+     * @param taskService          service responsible for task business logic
+     * @param taskSyncService      service providing delta sync of tasks
+     * @param taskSummaryService   service providing dashboard task counts
+     * @param taskArchiveService   service providing access to archived tasks
+     * @param taskFacetService     service counting tasks per facet of a listing
+     * @param taskClaimService     service handing out unassigned tasks
+     * @param resourceVersions     version stamps used to validate cached listings
+     * @param taskEventBroadcaster broadcaster serving task change streams
+     * @param pageGuard            guardrails applied to listing requests
+     * @param maxPageSize          largest page size of task listings
      */
-    public TaskController(TaskService taskService) {
+    public TaskController(
+            TaskService taskService,
+            TaskSyncService taskSyncService,
+            TaskSummaryService taskSummaryService,
+            TaskArchiveService taskArchiveService,
+            TaskFacetService taskFacetService,
+            TaskClaimService taskClaimService,
+            ResourceVersions resourceVersions,
+            TaskEventBroadcaster taskEventBroadcaster,
+            PageGuard pageGuard,
+            @Value("${app.tasks.list.max-page-size:100}") int maxPageSize
+    ) {
         this.taskService = taskService;
+        this.taskSyncService = taskSyncService;
+        this.taskSummaryService = taskSummaryService;
+        this.taskArchiveService = taskArchiveService;
+        this.taskFacetService = taskFacetService;
+        this.taskClaimService = taskClaimService;
+        this.resourceVersions = resourceVersions;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.pageGuard = pageGuard;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -72,57 +152,245 @@ public class TaskController {
         return taskService.create(req);
     }
 
+    /**
+     * Opens a Server-Sent Events stream of task changes.
+     * <p>
+     * Administrators receive changes of all tasks; regular users receive
+     * changes of tasks assigned to them, including tasks reassigned away.
+     * Each {@code task} event carries the change type and task identifier.
+     * A {@code resync} event means the client fell behind and events were
+     * dropped, so it should reload its view. Heartbeat comments are sent
+     * periodically while the stream is idle.
+     *
+     * @return SSE emitter bound to the response
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        log.info("Task stream endpoint called");
+        return taskEventBroadcaster.subscribe(currentUserId(), isAdmin());
+    }
+
+    /**
+     * Returns task changes since the given sync token.
+     * <p>
+     * Clients mirroring tasks locally call this endpoint without a token
+     * once, then repeatedly with the token from the previous response.
+     * Only tasks changed since the token and identifiers of tasks removed
+     * from the caller's view are returned. Administrators sync all tasks;
+     * regular users sync tasks assigned to them.
+     *
+     * @param since token returned by the previous call; omit to start a full sync
+     * @param limit maximum number of tasks to return
+     * @return changed tasks, removed task identifiers and the next token
+     */
+    @GetMapping("/changes")
+    public TaskChangesResponse changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        log.info("Task changes endpoint called (hasSince={}, limit={})", since != null, limit);
+        return taskSyncService.changes(currentUserId(), isAdmin(), since, limit);
+    }
+
+    /**
+     * Returns dashboard task counts.
+     * <p>
+     * Administrators receive counts across all tasks; regular users
+     * receive counts of tasks assigned to them.
+     *
+     * @return counts per status and of overdue tasks
+     */
+    @GetMapping("/summary")
+    public TaskSummaryResponse summary() {
+        log.info("Task summary endpoint called");
+        return isAdmin() ? taskSummaryService.global() : taskSummaryService.forAssignee(currentUserId());
+    }
+
     /**
      * Retrieves a task by its identifier.
      * <p>
      * Administrators can access any task. Non-admin users can access
      * only tasks assigned to them.
+     * <p>
+     * Supports conditional requests: the strong entity tag is the task
+     * version, and a matching {@code If-None-Match} is answered with
+     * {@code 304 Not Modified} without loading the task.
+     * <p>
+     * Archived tasks are found only when {@code includeArchived} is set.
      *
-     * @param id identifier of the task
-     * @return task representation
+     * @param id              identifier of the task
+     * @param includeArchived whether archived tasks are looked up as well
+     * @param request         current web request used for conditional checks
+     * @return task representation, or {@code null} if not modified
      */
     @GetMapping("/{id}")
-    public TaskResponse get(@PathVariable Long id) {
-        log.info("Task get endpoint called (taskId={})", id);
-        return taskService.get(currentUserId(), isAdmin(), id);
+    public TaskResponse get(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request
+    ) {
+        log.info("Task get endpoint called (taskId={}, includeArchived={})", id, includeArchived);
+        Long userId = currentUserId();
+        boolean admin = isAdmin();
+        TaskStamp stamp = includeArchived
+                ? taskArchiveService.stamp(userId, admin, id)
+                : taskService.stamp(userId, admin, id);
+        if (request.checkNotModified(taskEtag(stamp))) {
+            log.debug("Task get not modified (taskId={})", id);
+            return null;
+        }
+        return includeArchived
+                ? taskArchiveService.get(userId, admin, id)
+                : taskService.get(userId, admin, id);
+    }
+
+    /**
+     * Retrieves selected fields of a task.
+     * <p>
+     * Same as {@link #get(Long, boolean, WebRequest)}, but only the fields
+     * named in {@code fields} are read and returned. The entity tag is the
+     * task version qualified by the fieldset, so representations with
+     * different fields are cached separately.
+     *
+     * @param id              identifier of the task
+     * @param fields          comma-separated field names, or a named view
+     * @param includeArchived whether archived tasks are looked up as well
+     * @param request         current web request used for conditional checks
+     * @return selected task members, or {@code null} if not modified
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> get(
+            @PathVariable Long id,
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request
+    ) {
+        log.info("Task get endpoint called (taskId={}, fields={}, includeArchived={})", id, fields, includeArchived);
+        TaskFields selected = TaskFields.parse(fields);
+        Long userId = currentUserId();
+        boolean admin = isAdmin();
+        TaskStamp stamp = includeArchived
+                ? taskArchiveService.stamp(userId, admin, id)
+                : taskService.stamp(userId, admin, id);
+        if (request.checkNotModified(taskEtag(stamp, selected))) {
+            log.debug("Task get not modified (taskId={})", id);
+            return null;
+        }
+        return includeArchived
+                ? selected.project(taskArchiveService.get(userId, admin, id))
+                : taskService.get(userId, admin, id, selected);
+    }
+
+    /**
+     * Claims the next unassigned task for the current user.
+     * <p>
+     * The most urgent, or with {@code order=OLDEST} the earliest created,
+     * unassigned open task matching the optional filters is assigned to
+     * the caller. Concurrent claims never receive the same task. With a
+     * {@code lease}, such as {@code PT30M}, a {@code TODO} task is handed
+     * back to the pool unless it changes status before the lease expires.
+     *
+     * @param req optional claim filters, order and lease
+     * @return claimed task, or {@code 204 No Content} if no unassigned task matches
+     */
+    @PostMapping("/claim")
+    public ResponseEntity<TaskClaimResponse> claim(@RequestBody(required = false) TaskClaimRequest req) {
+        log.info("Task claim endpoint called");
+        return taskClaimService.claim(currentUserId(), req != null ? req : TaskClaimRequest.ANY)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Resolves many tasks by identifier.
+     * <p>
+     * Replaces one {@code GET /api/tasks/{id}} per task: all identifiers
+     * are resolved in one query, and each is reported as found, forbidden
+     * or missing under the access rules of single task reads. Archived
+     * tasks are reported as missing.
+     *
+     * @param req lookup request with up to 500 identifiers
+     * @return outcome of each distinct identifier, in request order
+     */
+    @PostMapping("/lookup")
+    public TaskLookupResponse lookup(@Valid @RequestBody TaskLookupRequest req) {
+        log.info("Task lookup endpoint called (count={})", req.ids().size());
+        return new TaskLookupResponse(taskService.lookup(currentUserId(), isAdmin(), req.ids()));
     }
 
     /**
      * Updates a task as an administrator.
      * <p>
      * Allows updating task fields including title, description,
-     * status, deadline, and assignee.
+     * status, deadline, and assignee. An optional {@code If-Match}
+     * header makes the update conditional on the task version.
      *
-     * @param id  identifier of the task
-     * @param req update request
+     * @param id      identifier of the task
+     * @param ifMatch optional entity tag the update is based on
+     * @param req     update request
      * @return updated task representation
      */
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public TaskResponse update(@PathVariable Long id, @Valid @RequestBody TaskUpdateRequest req) {
+    public TaskResponse update(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskUpdateRequest req
+    ) {
         log.info("Task admin update endpoint called (taskId={})", id);
-        return taskService.adminUpdate(id, req);
+        return taskService.adminUpdate(id, expectedVersion(ifMatch), req);
+    }
+
+    /**
+     * Partially updates a task as an administrator.
+     * <p>
+     * Accepts an {@code application/merge-patch+json} document (RFC 7396):
+     * only the members present are applied, and {@code null} clears a
+     * nullable field. An optional {@code If-Match} header makes the update
+     * conditional on the task version.
+     *
+     * @param id      identifier of the task
+     * @param ifMatch optional entity tag the update is based on
+     * @param patch   merge patch document
+     * @return updated task representation
+     */
+    @PatchMapping(value = "/{id}", consumes = MERGE_PATCH_JSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public TaskResponse patch(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody Map<String, Object> patch
+    ) {
+        log.info("Task patch endpoint called (taskId={}, fields={})", id, patch.keySet());
+        return taskService.patch(id, expectedVersion(ifMatch), TaskPatchRequest.fromMergePatch(patch));
     }
 
     /**
      * Updates the status of a task.
      * <p>
      * Administrators can update any task status. Regular users can
-     * update the status only for tasks assigned to them.
+     * update the status only for tasks assigned to them. An optional
+     * {@code If-Match} header makes the update conditional on the task
+     * version.
      *
-     * @param id  identifier of the task
-     * @param req request containing the new task status
+     * @param id      identifier of the task
+     * @param ifMatch optional entity tag the update is based on
+     * @param req     request containing the new task status
      * @return updated task representation
      */
     @PatchMapping("/{id}/status")
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public TaskResponse updateStatus(@PathVariable Long id, @Valid @RequestBody TaskStatusUpdateRequest req) {
+    public TaskResponse updateStatus(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TaskStatusUpdateRequest req
+    ) {
         log.info(
                 "Task status update endpoint called (taskId={}, newStatus={})",
                 id,
                 req.status()
         );
-        return taskService.updateStatus(currentUserId(), isAdmin(), id, req.status());
+        return taskService.updateStatus(currentUserId(), isAdmin(), id, expectedVersion(ifMatch), req.status());
     }
 
     /**
@@ -145,29 +413,248 @@ public class TaskController {
      * Supports optional filtering by status and deadline range.
      * Administrators receive tasks across the system, while
      * regular users receive only tasks assigned to them.
+     * <p>
+     * Supports conditional requests: the entity tag combines the task
+     * listing version stamp with the caller and query, so a matching
+     * {@code If-None-Match} is answered with {@code 304 Not Modified}
+     * without querying tasks.
+     * <p>
+     * Archived tasks are listed only when {@code includeArchived} is set.
+     * <p>
+     * Pages are limited to {@code app.tasks.list.max-page-size} tasks and
+     * may be sorted by {@code id} and {@code deadline} only.
+     * <p>
+     * With {@code facets}, the page also carries the number of tasks per
+     * status and per assignee under the current filters, so that narrowing
+     * the listing needs no extra calls. Facets are not available together
+     * with {@code includeArchived}.
+     * <p>
+     * {@code overdue} selects open tasks with a deadline before today and
+     * {@code dueWithin} open tasks due from today until today plus the
+     * given ISO-8601 period, such as {@code P7D}; together they select both.
+     * Today is the current UTC date. These filters cannot be combined with
+     * an explicit deadline range; since archived tasks are always done,
+     * {@code includeArchived} does not change their result.
      *
-     * @param status       optional task status filter
-     * @param deadlineFrom optional deadline range start (inclusive)
-     * @param deadlineTo   optional deadline range end (inclusive)
-     * @param pageable     pagination and sorting information
-     * @return page of matching tasks
+     * @param status          optional task status filter
+     * @param deadlineFrom    optional deadline range start (inclusive)
+     * @param deadlineTo      optional deadline range end (inclusive)
+     * @param overdue         whether to list open tasks past their deadline
+     * @param dueWithin       optional period in which listed open tasks are due
+     * @param includeArchived whether archived tasks are listed as well
+     * @param facets          optional comma-separated facets to count: {@code status}, {@code assignee}
+     * @param pageable        pagination and sorting information
+     * @param request         current web request used for conditional checks
+     * @return page of matching tasks, or {@code null} if not modified
+     * @throws IllegalArgumentException if the page is too large or sorted by an unsupported property,
+     *                                  or the deadline filters conflict
      */
     @GetMapping
     public Page<TaskResponse> list(
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineTo,
-            Pageable pageable
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @RequestParam(required = false) Period dueWithin,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String facets,
+            Pageable pageable,
+            WebRequest request
+    ) {
+        log.info(
+                "Task list endpoint called (status={}, deadlineFrom={}, deadlineTo={}, overdue={}, dueWithin={}, includeArchived={}, facets={}, page={}, size={})",
+                status,
+                deadlineFrom,
+                deadlineTo,
+                overdue,
+                dueWithin,
+                includeArchived,
+                facets,
+                pageable.getPageNumber(),
+                pageable.getPageSize()
+        );
+        TaskDueWindow due = due(overdue, dueWithin, deadlineFrom, deadlineTo);
+        Set<TaskFacets.Facet> requested = facets(facets, includeArchived);
+        pageGuard.check("tasks", pageable, maxPageSize, SORTABLE);
+        Long userId = currentUserId();
+        boolean admin = isAdmin();
+        String etag = ResourceVersions.listEtag(
+                ResourceVersions.Scope.TASKS,
+                resourceVersions.current(ResourceVersions.Scope.TASKS),
+                userId + "|" + admin + "|" + status + "|" + deadlineFrom + "|" + deadlineTo + "|" + includeArchived + "|" + pageable
+                        + (due != null ? "|" + due : "")
+                        + (requested != null ? "|" + requested : "")
+        );
+        if (request.checkNotModified(etag)) {
+            log.debug("Task list not modified (userId={})", userId);
+            return null;
+        }
+        Page<TaskResponse> page;
+        if (due != null) {
+            page = taskService.list(userId, admin, status, due, pageable);
+        } else if (includeArchived) {
+            page = taskArchiveService.list(userId, admin, status, deadlineFrom, deadlineTo, pageable);
+        } else {
+            page = taskService.list(userId, admin, status, deadlineFrom, deadlineTo, pageable);
+        }
+        return requested != null
+                ? new TaskFacetedPage<>(page, taskFacetService.facets(userId, admin, status, deadlineFrom, deadlineTo, due, requested))
+                : page;
+    }
+
+    /**
+     * Returns a paginated list of tasks with selected fields.
+     * <p>
+     * Same as {@link #list(TaskStatus, LocalDate, LocalDate, boolean, Period, boolean, String, Pageable, WebRequest)},
+     * but only the fields named in {@code fields} are read and returned.
+     * The {@value TaskFields#SUMMARY} view selects everything but the
+     * description.
+     *
+     * @param fields          comma-separated field names, or a named view
+     * @param status          optional task status filter
+     * @param deadlineFrom    optional deadline range start (inclusive)
+     * @param deadlineTo      optional deadline range end (inclusive)
+     * @param overdue         whether to list open tasks past their deadline
+     * @param dueWithin       optional period in which listed open tasks are due
+     * @param includeArchived whether archived tasks are listed as well
+     * @param facets          optional comma-separated facets to count: {@code status}, {@code assignee}
+     * @param pageable        pagination and sorting information
+     * @param request         current web request used for conditional checks
+     * @return page of selected task members, or {@code null} if not modified
+     * @throws IllegalArgumentException if the page is too large or sorted by an unsupported property,
+     *                                  or the deadline filters conflict
+     */
+    @GetMapping(params = "fields")
+    public Page<Map<String, Object>> list(
+            @RequestParam String fields,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineTo,
+            @RequestParam(defaultValue = "false") boolean overdue,
+            @RequestParam(required = false) Period dueWithin,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) String facets,
+            Pageable pageable,
+            WebRequest request
     ) {
         log.info(
-                "Task list endpoint called (status={}, deadlineFrom={}, deadlineTo={}, page={}, size={})",
+                "Task list endpoint called (fields={}, status={}, deadlineFrom={}, deadlineTo={}, overdue={}, dueWithin={}, includeArchived={}, facets={}, page={}, size={})",
+                fields,
                 status,
                 deadlineFrom,
                 deadlineTo,
+                overdue,
+                dueWithin,
+                includeArchived,
+                facets,
                 pageable.getPageNumber(),
                 pageable.getPageSize()
         );
-        return taskService.list(currentUserId(), isAdmin(), status, deadlineFrom, deadlineTo, pageable);
+        TaskFields selected = TaskFields.parse(fields);
+        TaskDueWindow due = due(overdue, dueWithin, deadlineFrom, deadlineTo);
+        Set<TaskFacets.Facet> requested = facets(facets, includeArchived);
+        pageGuard.check("tasks", pageable, maxPageSize, SORTABLE);
+        Long userId = currentUserId();
+        boolean admin = isAdmin();
+        String etag = ResourceVersions.listEtag(
+                ResourceVersions.Scope.TASKS,
+                resourceVersions.current(ResourceVersions.Scope.TASKS),
+                userId + "|" + admin + "|" + status + "|" + deadlineFrom + "|" + deadlineTo + "|" + includeArchived + "|" + pageable
+                        + (due != null ? "|" + due : "")
+                        + "|" + selected + (requested != null ? "|" + requested : "")
+        );
+        if (request.checkNotModified(etag)) {
+            log.debug("Task list not modified (userId={})", userId);
+            return null;
+        }
+        Page<Map<String, Object>> page = includeArchived && due == null
+                ? taskArchiveService.list(userId, admin, status, deadlineFrom, deadlineTo, pageable).map(selected::project)
+                : taskService.list(userId, admin, status, deadlineFrom, deadlineTo, due, pageable, selected);
+        return requested != null
+                ? new TaskFacetedPage<>(page, taskFacetService.facets(userId, admin, status, deadlineFrom, deadlineTo, due, requested))
+                : page;
+    }
+
+    /**
+     * Resolves the {@code overdue} and {@code dueWithin} filters of a listing
+     * against the current UTC date.
+     *
+     * @param overdue      whether overdue tasks are listed
+     * @param dueWithin    optional period in which listed tasks are due
+     * @param deadlineFrom optional deadline range start
+     * @param deadlineTo   optional deadline range end
+     * @return deadline window, or {@code null} if neither filter is set
+     * @throws IllegalArgumentException if the filters are combined with a deadline range or the period is negative
+     */
+    private static TaskDueWindow due(boolean overdue, Period dueWithin, LocalDate deadlineFrom, LocalDate deadlineTo) {
+        if ((overdue || dueWithin != null) && (deadlineFrom != null || deadlineTo != null)) {
+            throw new IllegalArgumentException("overdue and dueWithin cannot be combined with deadlineFrom or deadlineTo");
+        }
+        return TaskDueWindow.of(overdue, dueWithin, LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Parses the {@code facets} parameter of a listing.
+     *
+     * @param facets          raw parameter value, if present
+     * @param includeArchived whether archived tasks are listed as well
+     * @return requested facets, or {@code null} if none were requested
+     * @throws IllegalArgumentException if the value is invalid or archived tasks are listed
+     */
+    private static Set<TaskFacets.Facet> facets(String facets, boolean includeArchived) {
+        if (facets == null) {
+            return null;
+        }
+        if (includeArchived) {
+            throw new IllegalArgumentException("facets cannot be combined with includeArchived");
+        }
+        return TaskFacets.parse(facets);
+    }
+
+    /**
+     * Builds the strong entity tag of a single task.
+     *
+     * @param stamp task stamp
+     * @return quoted entity tag
+     */
+    private static String taskEtag(TaskStamp stamp) {
+        return "\"" + stamp.version() + "\"";
+    }
+
+    /**
+     * Builds the strong entity tag of selected fields of a task.
+     *
+     * @param stamp  task stamp
+     * @param fields selected fields
+     * @return quoted entity tag
+     */
+    private static String taskEtag(TaskStamp stamp, TaskFields fields) {
+        return "\"" + stamp.version() + ";" + fields + "\"";
+    }
+
+    /**
+     * Extracts the expected task version from an {@code If-Match} header.
+     * <p>
+     * Only a single strong entity tag is supported. A missing header or
+     * {@code *} disables the version check.
+     *
+     * @param ifMatch raw {@code If-Match} header value
+     * @return expected version, or {@code null} if no check is requested
+     * @throws PreconditionFailedException if the header cannot match any task version
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong entity tag");
+        }
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("Task has been modified");
+        }
     }
 
     /**
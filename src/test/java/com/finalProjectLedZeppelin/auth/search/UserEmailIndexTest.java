@@ -0,0 +1,92 @@
+package com.finalProjectLedZeppelin.auth.search;
+
+import com.finalProjectLedZeppelin.auth.dto.UserOption;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserEmailIndexTest {
+
+    UserEmailIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserEmailIndex();
+        index.load(List.of(
+                new UserOption(3L, "carol@test.com"),
+                new UserOption(1L, "alice@test.com"),
+                new UserOption(2L, "Bob@Example.com")
+        ).iterator());
+    }
+
+    @Test
+    void search_shouldMatchSubstring_ignoringCase_orderedByEmail() {
+        // when
+        List<UserOption> result = index.search("TEST", 20);
+        // then
+        assertThat(result).containsExactly(
+                new UserOption(1L, "alice@test.com"),
+                new UserOption(3L, "carol@test.com")
+        );
+    }
+
+    @Test
+    void search_shouldRespectLimit() {
+        // when
+        List<UserOption> result = index.search("@", 2);
+        // then
+        assertThat(result).extracting(UserOption::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void prefix_shouldReturnOnlyEntriesStartingWithQuery() {
+        // when
+        List<UserOption> result = index.prefix("b", 20);
+        // then
+        assertThat(result).containsExactly(new UserOption(2L, "bob@example.com"));
+        assertThat(index.prefix("z", 20)).isEmpty();
+    }
+
+    @Test
+    void put_shouldInsertInOrder_andReplaceExistingEntry() {
+        // when
+        index.put(4L, "aaron@test.com");
+        index.put(3L, "zed@test.com");
+        // then
+        assertThat(index.search("test", 20)).extracting(UserOption::email)
+                .containsExactly("aaron@test.com", "alice@test.com", "zed@test.com");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void load_shouldReplayChangesMadeWhileLoading() {
+        // given
+        index.beginLoad();
+        index.put(4L, "dave@test.com");
+        index.remove(1L);
+        // when
+        int size = index.load(List.of(
+                new UserOption(1L, "alice@test.com"),
+                new UserOption(2L, "bob@example.com")
+        ).iterator());
+        // then
+        assertThat(size).isEqualTo(2);
+        assertThat(index.search("@", 20)).extracting(UserOption::id).containsExactly(2L, 4L);
+        index.put(5L, "erin@test.com");
+        assertThat(index.load(List.<UserOption>of().iterator())).isZero();
+    }
+
+    @Test
+    void remove_shouldDropEntry() {
+        // when
+        index.remove(1L);
+        index.remove(99L);
+        // then
+        assertThat(index.search("alice", 20)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.footprintBytes()).isPositive();
+    }
+}
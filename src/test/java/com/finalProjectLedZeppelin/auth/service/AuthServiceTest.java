@@ -3,6 +3,7 @@ package com.finalProjectLedZeppelin.auth.service;
 import com.finalProjectLedZeppelin.auth.dto.AuthResponse;
 import com.finalProjectLedZeppelin.auth.dto.LoginRequest;
 import com.finalProjectLedZeppelin.auth.dto.RegisterRequest;
+import com.finalProjectLedZeppelin.auth.event.UserChangedEvent;
 import com.finalProjectLedZeppelin.auth.jwt.JwtService;
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.model.UserRole;
@@ -13,6 +14,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
@@ -29,6 +31,8 @@ class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtService jwtService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private AuthService authService;
@@ -61,6 +65,9 @@ class AuthServiceTest {
         assertEquals(UserRole.USER, savedUser.getRole());
         verify(jwtService).generateAccessToken(10L, normalizedEmail, "USER");
         verifyNoMoreInteractions(jwtService);
+        verify(eventPublisher).publishEvent(
+                new UserChangedEvent(UserChangedEvent.Type.REGISTERED, 10L, normalizedEmail)
+        );
     }
 
     @Test
@@ -4,10 +4,17 @@ import com.finalProjectLedZeppelin.auth.dto.UpdateUserRoleRequest;
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.model.UserRole;
 import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.web.PageGuard;
+import com.finalProjectLedZeppelin.common.web.ResourceVersions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,14 +41,26 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AdminUserController.class)
+@Import({PageGuard.class, AdminUserControllerTest.MetricsConfig.class})
 class AdminUserControllerTest {
 
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Autowired
     private MockMvc mockMvc;
 
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private ResourceVersions resourceVersions;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -76,6 +95,20 @@ class AdminUserControllerTest {
                 .findByEmailContainingIgnoreCase(eq("john"), any(Pageable.class));
     }
 
+    @Test
+    void list_shouldReturn400_whenSortedByPasswordHash() throws Exception {
+        // when / then
+        mockMvc.perform(get("/api/admin/users")
+                        .with(adminUser())
+                        .param("sort", "passwordHash"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/admin/users")
+                        .with(adminUser())
+                        .param("size", "500"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
     @Test
     void updateRole_shouldUpdateRole_whenAdmin() throws Exception {
         // given
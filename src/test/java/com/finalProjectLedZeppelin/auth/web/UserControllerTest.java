@@ -1,7 +1,7 @@
 package com.finalProjectLedZeppelin.auth.web;
 
-import com.finalProjectLedZeppelin.auth.model.User;
-import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.auth.dto.UserOption;
+import com.finalProjectLedZeppelin.auth.search.UserEmailIndex;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -30,7 +31,7 @@ class UserControllerTest {
     @Autowired
     MockMvc mockMvc;
     @MockitoBean
-    UserRepository userRepository;
+    UserEmailIndex userEmailIndex;
 
     @Test
     void search_shouldReturn403_whenNotAdmin() throws Exception {
@@ -44,11 +45,8 @@ class UserControllerTest {
     @Test
     void search_shouldReturn200_whenAdmin() throws Exception {
         // given
-        User u = new User();
-        u.setId(7L);
-        u.setEmail("john@test.com");
-        Mockito.when(userRepository.findTop20ByEmailContainingIgnoreCaseOrderByEmailAsc("john"))
-                .thenReturn(List.of(u));
+        Mockito.when(userEmailIndex.search("john", 20))
+                .thenReturn(List.of(new UserOption(7L, "john@test.com")));
         // when / then
         mockMvc.perform(get("/api/users").param("q", " john ")
                         .with(user("admin").roles("ADMIN")))
@@ -66,8 +64,8 @@ class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(content().json("[]"));
 
-        Mockito.verify(userRepository, Mockito.never())
-                .findTop20ByEmailContainingIgnoreCaseOrderByEmailAsc(anyString());
+        Mockito.verify(userEmailIndex, Mockito.never())
+                .search(anyString(), anyInt());
     }
 
     @TestConfiguration
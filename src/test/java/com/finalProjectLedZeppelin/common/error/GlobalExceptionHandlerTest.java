@@ -68,6 +68,17 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.message").value("not found"));
     }
 
+    @Test
+    void shouldReturn409_whenConflict() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/__test/conflict"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("not allowed"));
+    }
+
     @Test
     void shouldReturn400_whenMalformedJson() throws Exception {
         // given
@@ -93,4 +104,17 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.status").value(400))
                 .andExpect(jsonPath("$.message").value("name: must not be blank"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturn412_whenPreconditionFailedOrOptimisticLockFails() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/__test/precondition-failed"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412))
+                .andExpect(jsonPath("$.message").value("stale"));
+        mockMvc.perform(get("/__test/optimistic-lock"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Resource was modified concurrently"));
+    }
+}
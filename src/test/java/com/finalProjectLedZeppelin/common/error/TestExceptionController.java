@@ -3,6 +3,7 @@ package com.finalProjectLedZeppelin.common.error;
 import com.finalProjectLedZeppelin.auth.service.AuthService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -29,6 +30,21 @@ class TestExceptionController {
         throw new NotFoundException("not found");
     }
 
+    @GetMapping("/conflict")
+    void conflict() {
+        throw new ConflictException("not allowed");
+    }
+
+    @GetMapping("/precondition-failed")
+    void preconditionFailed() {
+        throw new PreconditionFailedException("stale");
+    }
+
+    @GetMapping("/optimistic-lock")
+    void optimisticLock() {
+        throw new OptimisticLockingFailureException("lost update");
+    }
+
     @PostMapping("/not-readable")
     void notReadable(@RequestBody TestDto dto) {
     }
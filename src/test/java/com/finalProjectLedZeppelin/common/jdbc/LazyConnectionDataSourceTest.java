@@ -0,0 +1,74 @@
+package com.finalProjectLedZeppelin.common.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class LazyConnectionDataSourceTest {
+
+    DataSource pool;
+    Connection physical;
+    LazyConnectionDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = mock(DataSource.class);
+        physical = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(physical);
+        when(physical.getAutoCommit()).thenReturn(true);
+        when(physical.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource = new LazyConnectionDataSource(pool);
+        clearInvocations(pool, physical);
+    }
+
+    @Test
+    void transactionWithoutStatements_shouldNotBorrowPhysicalConnection() throws Exception {
+        // given
+        Connection con = dataSource.getConnection();
+        // when
+        con.setAutoCommit(false);
+        con.commit();
+        con.close();
+        // then
+        verifyNoInteractions(pool);
+        assertThat(dataSource.logicalConnections()).isEqualTo(1);
+        assertThat(dataSource.physicalConnections()).isZero();
+    }
+
+    @Test
+    void firstStatement_shouldBorrowConnectionAndReplaySettings() throws Exception {
+        // given
+        when(physical.prepareStatement("SELECT 1")).thenReturn(mock(PreparedStatement.class));
+        Connection con = dataSource.getConnection();
+        con.setAutoCommit(false);
+        con.setReadOnly(true);
+        // when
+        con.prepareStatement("SELECT 1");
+        con.close();
+        // then
+        verify(pool).getConnection();
+        verify(physical).setAutoCommit(false);
+        verify(physical).setReadOnly(true);
+        verify(physical).close();
+        assertThat(dataSource.physicalConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void bindTo_shouldPublishCounters() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        dataSource.bindTo(registry);
+        // when
+        dataSource.getConnection().close();
+        // then
+        assertThat(registry.get("app.datasource.connections.logical").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("app.datasource.connections.physical").functionCounter().count()).isZero();
+    }
+}
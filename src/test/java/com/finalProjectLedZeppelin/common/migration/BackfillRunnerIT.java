@@ -0,0 +1,179 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+@SpringBootTest(properties = {
+        "app.migrations.backfill.batch-size=100",
+        "app.migrations.backfill.pause=PT0S"
+})
+@DirtiesContext
+class BackfillRunnerIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    BackfillRunner runner;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MeterRegistry meterRegistry;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void run_shouldResumeAfterFailedBatch() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, status, created_at, updated_at, version)
+                SELECT 'task ' || g, 'TODO', now(), now(), 0 FROM generate_series(1, 1000) g
+                """);
+        UppercaseTitles job = new UppercaseTitles(jdbcTemplate, 4);
+        // when
+        assertThatThrownBy(() -> runner.run(job)).isInstanceOf(IllegalStateException.class);
+        long resumed = runner.run(job);
+        // then
+        assertThat(job.batches.get()).isEqualTo(11);
+        assertThat(resumed).isEqualTo(700);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE title LIKE 'task%'", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT rows_done FROM backfill_progress WHERE job = ? AND finished_at IS NOT NULL", Long.class, job.name()))
+                .isEqualTo(1000);
+        assertThat(meterRegistry.get("app.migrations.backfill.rows").tag("job", job.name()).counter().count())
+                .isEqualTo(1000);
+        assertThat(runner.run(job)).isZero();
+    }
+
+    @Test
+    void runPending_shouldNotBlockTheSchedulerThread() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        BlockedJob job = new BlockedJob(release);
+        BackfillRunner own = new BackfillRunner(List.of(job), jdbcTemplate, transactionManager, meterRegistry, 100, Duration.ZERO);
+        try {
+            // when
+            long start = System.nanoTime();
+            own.runPending();
+            own.runPending();
+            long tookMs = (System.nanoTime() - start) / 1_000_000;
+            release.countDown();
+            // then
+            assertThat(tookMs).isLessThan(1_000);
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!finished(job.name()) && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(finished(job.name())).isTrue();
+            assertThat(job.batches.get()).isEqualTo(10);
+        } finally {
+            own.shutdown();
+        }
+    }
+
+    private boolean finished(String job) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM backfill_progress WHERE job = ? AND finished_at IS NOT NULL", Long.class, job) == 1;
+    }
+
+    /**
+     * Test job whose batches wait until released.
+     */
+    static final class BlockedJob implements BackfillJob {
+
+        private final CountDownLatch release;
+        private final AtomicInteger batches = new AtomicInteger();
+
+        BlockedJob(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String name() {
+            return "test-blocked";
+        }
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public KeyRange keyRange() {
+            return new KeyRange(1, 1000);
+        }
+
+        @Override
+        public int runBatch(long from, long to) {
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            batches.incrementAndGet();
+            return (int) (to - from + 1);
+        }
+    }
+
+    /**
+     * Test job upper-casing task titles that fails once on its n-th batch.
+     */
+    static final class UppercaseTitles implements BackfillJob {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final int failOn;
+        private final AtomicInteger batches = new AtomicInteger();
+
+        UppercaseTitles(JdbcTemplate jdbcTemplate, int failOn) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.failOn = failOn;
+        }
+
+        @Override
+        public String name() {
+            return "test-uppercase-titles";
+        }
+
+        @Override
+        public boolean enabled() {
+            return false;
+        }
+
+        @Override
+        public KeyRange keyRange() {
+            return new KeyRange(
+                    jdbcTemplate.queryForObject("SELECT min(id) FROM tasks", Long.class),
+                    jdbcTemplate.queryForObject("SELECT max(id) FROM tasks", Long.class)
+            );
+        }
+
+        @Override
+        public int runBatch(long from, long to) {
+            int n = jdbcTemplate.update("UPDATE tasks SET title = upper(title) WHERE id BETWEEN ? AND ?", from, to);
+            if (batches.incrementAndGet() == failOn) {
+                throw new IllegalStateException("boom");
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.finalProjectLedZeppelin.common.migration;
+
+import com.finalProjectLedZeppelin.Application;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Benchmark comparing application startup with Liquibase running on boot
+ * against startup with the schema version check only.
+ * <p>
+ * The schema is migrated once with {@code --migrate-only}; startup times
+ * are logged.
+ */
+@Log4j2
+@Testcontainers
+class StartupMigrationBenchmarkIT {
+
+    private static final int RUNS = 3;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void verifyOnStartup_shouldStartWithoutRunningMigrations() throws Exception {
+        // given
+        assertThat(MigrateOnly.run(args(postgres.getJdbcUrl(), MigrateOnly.OPTION))).isZero();
+        long applied = changeSets(postgres.getJdbcUrl());
+        // when
+        long migrateMs = 0;
+        long verifyMs = 0;
+        for (int i = 0; i < RUNS; i++) {
+            migrateMs += startMillis("--app.migrations.on-startup=migrate");
+            verifyMs += startMillis("--app.migrations.on-startup=verify");
+        }
+        // then
+        log.printf(Level.INFO, "on-startup=migrate: avg startup %d ms", migrateMs / RUNS);
+        log.printf(Level.INFO, "on-startup=verify : avg startup %d ms", verifyMs / RUNS);
+        assertThat(applied).isPositive();
+        assertThat(changeSets(postgres.getJdbcUrl())).isEqualTo(applied);
+    }
+
+    @Test
+    void verifyOnStartup_shouldFailOnUnmigratedDatabase() throws Exception {
+        // given
+        try (Connection c = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement s = c.createStatement()) {
+            s.execute("CREATE DATABASE unmigrated");
+        }
+        String url = postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/unmigrated");
+        // when / then
+        assertThatThrownBy(() -> new SpringApplicationBuilder(Application.class)
+                .run(args(url, "--app.migrations.on-startup=verify")))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(MigrateOnly.OPTION);
+        try (Connection c = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+             Statement s = c.createStatement();
+             ResultSet rs = s.executeQuery("SELECT to_regclass('databasechangelog') IS NULL")) {
+            rs.next();
+            assertThat(rs.getBoolean(1)).isTrue();
+        }
+    }
+
+    @Test
+    void verifyOnStartup_shouldFailWhenAppliedChangeSetWasModified() throws Exception {
+        // given
+        try (Connection c = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement s = c.createStatement()) {
+            s.execute("CREATE DATABASE modified");
+        }
+        String url = postgres.getJdbcUrl().replace("/" + postgres.getDatabaseName(), "/modified");
+        assertThat(MigrateOnly.run(args(url, MigrateOnly.OPTION))).isZero();
+        try (Connection c = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+             Statement s = c.createStatement()) {
+            s.executeUpdate("UPDATE databasechangelog SET md5sum = '9:00000000000000000000000000000000' WHERE id = '002-list-versions'");
+        }
+        // when / then
+        assertThatThrownBy(() -> new SpringApplicationBuilder(Application.class)
+                .run(args(url, "--app.migrations.on-startup=verify")))
+                .rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("002-list-versions")
+                .hasMessageContaining("modified");
+    }
+
+    private static long startMillis(String mode) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext ignored = new SpringApplicationBuilder(Application.class)
+                .run(args(postgres.getJdbcUrl(), mode))) {
+            return (System.nanoTime() - start) / 1_000_000;
+        }
+    }
+
+    private static String[] args(String url, String extra) {
+        return new String[]{
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--server.port=0",
+                extra
+        };
+    }
+
+    private static long changeSets(String url) throws Exception {
+        try (Connection c = DriverManager.getConnection(url, postgres.getUsername(), postgres.getPassword());
+             Statement s = c.createStatement();
+             ResultSet rs = s.executeQuery("SELECT count(*) FROM databasechangelog")) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.finalProjectLedZeppelin.common.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class ResourceVersionsTest {
+
+    JdbcTemplate jdbcTemplate;
+    ResourceVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        versions = new ResourceVersions(jdbcTemplate);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT CASE"), eq(Long.class))).thenReturn(5L);
+    }
+
+    @Test
+    void current_shouldNotBeValidatable_untilFailedBumpSucceeds() {
+        // given
+        when(jdbcTemplate.queryForObject(startsWith("SELECT nextval"), eq(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(6L);
+        // when
+        versions.bump(ResourceVersions.Scope.TASKS);
+        long whileFailing = versions.current(ResourceVersions.Scope.TASKS);
+        long afterRetry = versions.current(ResourceVersions.Scope.TASKS);
+        // then
+        assertThat(whileFailing).isNegative();
+        assertThat(afterRetry).isEqualTo(5L);
+        assertThat(versions.current(ResourceVersions.Scope.USERS)).isEqualTo(5L);
+        verify(jdbcTemplate, times(3)).queryForObject(startsWith("SELECT nextval"), eq(Long.class));
+    }
+
+    @Test
+    void listEtag_shouldUseLowerCaseScope() {
+        // when
+        String etag = ResourceVersions.listEtag(ResourceVersions.Scope.TASKS, 5L, "v");
+        // then
+        assertThat(etag).startsWith("\"tasks-5-");
+    }
+}
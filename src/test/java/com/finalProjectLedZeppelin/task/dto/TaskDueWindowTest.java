@@ -0,0 +1,59 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskDueWindowTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 3, 10);
+
+    @Test
+    void of_shouldReturnNull_whenNoFilterIsSet() {
+        // Given
+        // When
+        TaskDueWindow due = TaskDueWindow.of(false, null, TODAY);
+        // Then
+        assertThat(due).isNull();
+    }
+
+    @Test
+    void of_shouldEndBeforeToday_whenOverdue() {
+        // Given
+        // When
+        TaskDueWindow due = TaskDueWindow.of(true, null, TODAY);
+        // Then
+        assertThat(due).isEqualTo(new TaskDueWindow(null, TODAY));
+    }
+
+    @Test
+    void of_shouldSpanTodayToEndOfPeriod_whenDueWithin() {
+        // Given
+        // When
+        TaskDueWindow due = TaskDueWindow.of(false, Period.ofDays(7), TODAY);
+        // Then
+        assertThat(due).isEqualTo(new TaskDueWindow(TODAY, LocalDate.of(2030, 3, 18)));
+    }
+
+    @Test
+    void of_shouldDropLowerBound_whenOverdueAndDueWithin() {
+        // Given
+        // When
+        TaskDueWindow due = TaskDueWindow.of(true, Period.ZERO, TODAY);
+        // Then
+        assertThat(due).isEqualTo(new TaskDueWindow(null, LocalDate.of(2030, 3, 11)));
+    }
+
+    @Test
+    void of_shouldReject_negativePeriod() {
+        // Given
+        // When / Then
+        assertThatThrownBy(() -> TaskDueWindow.of(false, Period.ofDays(-1), TODAY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("dueWithin");
+    }
+}
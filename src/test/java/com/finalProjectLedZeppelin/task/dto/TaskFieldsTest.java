@@ -0,0 +1,60 @@
+package com.finalProjectLedZeppelin.task.dto;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskFieldsTest {
+
+    @Test
+    void parse_shouldKeepResponseOrder_andIgnoreBlanks() {
+        // Given
+        String value = " deadline, ,status,id ";
+        // When
+        TaskFields fields = TaskFields.parse(value);
+        // Then
+        assertThat(fields.toString()).isEqualTo("id,status,deadline");
+        assertThat(fields.has(TaskFields.Field.TITLE)).isFalse();
+    }
+
+    @Test
+    void parse_shouldResolveNamedViews() {
+        // Given
+        // When
+        TaskFields summary = TaskFields.parse("summary");
+        TaskFields full = TaskFields.parse("full");
+        // Then
+        assertThat(summary.has(TaskFields.Field.DESCRIPTION)).isFalse();
+        assertThat(summary.fields()).hasSize(TaskFields.Field.values().length - 1);
+        assertThat(full.has(TaskFields.Field.DESCRIPTION)).isTrue();
+    }
+
+    @Test
+    void parse_shouldReject_unknownOrEmptyFields() {
+        // Given
+        // When / Then
+        assertThatThrownBy(() -> TaskFields.parse("id,password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> TaskFields.parse(" , "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void project_shouldReturnSelectedMembersOnly() {
+        // Given
+        TaskResponse t = new TaskResponse(7L, null, null, "t", "long text", TaskStatus.DONE,
+                LocalDate.parse("2026-01-10"), Instant.EPOCH, Instant.EPOCH, 2L);
+        // When
+        Map<String, Object> out = TaskFields.parse("title,assigneeId,id").project(t);
+        // Then
+        assertThat(out.keySet()).containsExactly("id", "assigneeId", "title");
+        assertThat(out).containsEntry("id", 7L).containsEntry("assigneeId", null).containsEntry("title", "t");
+    }
+}
@@ -0,0 +1,111 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest(properties = {"app.outbox.relay.poll-interval=PT1H", "app.outbox.relay.max-attempts=2"})
+@DirtiesContext
+@Import(TaskOutboxIT.CaptureConfig.class)
+class TaskOutboxIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskOutboxRelay relay;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CaptureSink captureSink;
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        CaptureSink captureSink() {
+            return new CaptureSink();
+        }
+    }
+
+    static class CaptureSink implements OutboxSink {
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        volatile long rejectedTaskId = -1;
+
+        @Override
+        public String name() {
+            return "capture";
+        }
+
+        @Override
+        public void deliver(List<OutboxMessage> batch) {
+            if (batch.stream().anyMatch(m -> m.taskId() == rejectedTaskId)) {
+                throw new IllegalStateException("rejected");
+            }
+            received.addAll(batch);
+        }
+    }
+
+    @BeforeEach
+    void reset() {
+        captureSink.received.clear();
+        captureSink.rejectedTaskId = -1;
+        jdbcTemplate.update("DELETE FROM task_outbox");
+    }
+
+    @Test
+    void taskWrites_shouldBeRecordedInOutbox_andRelayedToSinks() {
+        // Given
+        Long id = taskService.create(new TaskCreateRequest("outbox", null, null, null)).id();
+        taskService.delete(id);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM task_outbox", Integer.class)).isEqualTo(2);
+        // When
+        relay.poll();
+        // Then
+        assertThat(captureSink.received).extracting(OutboxMessage::eventType).containsExactly("CREATED", "DELETED");
+        assertThat(captureSink.received).allMatch(m -> m.taskId() == id);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM task_outbox", Integer.class)).isZero();
+    }
+
+    @Test
+    void relay_shouldParkMessageRejectedByEverySink_andDeliverTheRest() {
+        // Given
+        captureSink.rejectedTaskId = -42;
+        jdbcTemplate.update("""
+                INSERT INTO task_outbox (task_id, event_type, payload, created_at) VALUES (-42, 'UPDATED', '{}', now())
+                """);
+        Long id = taskService.create(new TaskCreateRequest("behind", null, null, null)).id();
+        // When
+        relay.poll();
+        List<OutboxMessage> afterFirstPoll = List.copyOf(captureSink.received);
+        relay.poll();
+        // Then
+        assertThat(afterFirstPoll).isEmpty();
+        assertThat(captureSink.received).extracting(OutboxMessage::taskId).containsExactly(id);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM task_outbox WHERE task_id = -42 AND parked_at IS NOT NULL", Integer.class))
+                .isEqualTo(2);
+        relay.poll();
+        assertThat(captureSink.received).hasSize(1);
+    }
+}
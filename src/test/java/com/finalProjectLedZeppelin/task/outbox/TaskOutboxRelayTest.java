@@ -0,0 +1,122 @@
+package com.finalProjectLedZeppelin.task.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TaskOutboxRelayTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<List<OutboxMessage>> delivered = new ArrayList<>();
+
+    @Test
+    void poll_shouldDeliverBatchesInIdOrder_untilBatchIsNotFull() {
+        // given
+        TaskOutboxRelay relay = relay(batch -> delivered.add(List.copyOf(batch)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2)))
+                .thenReturn(List.of(message(2L), message(1L)))
+                .thenReturn(List.of(message(3L)));
+        // when
+        relay.poll();
+        // then
+        assertThat(delivered).hasSize(2);
+        assertThat(delivered.get(0)).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        assertThat(delivered.get(1)).extracting(OutboxMessage::id).containsExactly(3L);
+        assertThat(registry.get("app.outbox.delivered").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("app.outbox.batch.size").summary().count()).isEqualTo(2);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void poll_shouldRollBackAndStop_whenSinkFails() {
+        // given
+        TaskOutboxRelay relay = relay(batch -> {
+            throw new IllegalStateException("down");
+        });
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2)))
+                .thenReturn(List.of(message(1L), message(2L)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1)))
+                .thenReturn(List.of(message(1L)));
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq(3), eq(1L))).thenReturn(List.of(false));
+        // when
+        relay.poll();
+        // then
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(jdbcTemplate).queryForList(anyString(), eq(Boolean.class), eq(3), eq(1L));
+        assertThat(registry.get("app.outbox.failures").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("app.outbox.delivered").counter().count()).isZero();
+        assertThat(registry.get("app.outbox.parked").counter().count()).isZero();
+    }
+
+    @Test
+    void poll_shouldParkPoisonMessage_andDeliverTheRest() {
+        // given
+        TaskOutboxRelay relay = relay(batch -> {
+            if (batch.stream().anyMatch(m -> m.id() == 1L)) {
+                throw new IllegalStateException("poison");
+            }
+            delivered.add(List.copyOf(batch));
+        });
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2)))
+                .thenReturn(List.of(message(1L), message(2L)));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1)))
+                .thenReturn(List.of(message(1L)))
+                .thenReturn(List.of(message(2L)));
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), eq(3), eq(1L))).thenReturn(List.of(true));
+        // when
+        relay.poll();
+        // then
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.getFirst()).extracting(OutboxMessage::id).containsExactly(2L);
+        assertThat(registry.get("app.outbox.parked").counter().count()).isEqualTo(1.0);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void poll_shouldDoNothing_whenOutboxEmpty() {
+        // given
+        TaskOutboxRelay relay = relay(batch -> delivered.add(batch));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(2))).thenReturn(List.of());
+        // when
+        relay.poll();
+        // then
+        assertThat(delivered).isEmpty();
+    }
+
+    private TaskOutboxRelay relay(Sink sink) {
+        OutboxSink outboxSink = new OutboxSink() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public void deliver(List<OutboxMessage> batch) {
+                sink.deliver(batch);
+            }
+        };
+        return new TaskOutboxRelay(jdbcTemplate, transactionManager, List.of(outboxSink), 2, 3, registry);
+    }
+
+    private static OutboxMessage message(long id) {
+        return new OutboxMessage(id, 10L, "UPDATED", "{}", Instant.now());
+    }
+
+    @FunctionalInterface
+    private interface Sink {
+        void deliver(List<OutboxMessage> batch);
+    }
+}
@@ -0,0 +1,153 @@
+package com.finalProjectLedZeppelin.task.partition;
+
+import com.finalProjectLedZeppelin.common.migration.BackfillRunner;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparing the per-assignee list query on the plain
+ * {@code tasks} table with the same query on {@code tasks_partitioned}.
+ * <p>
+ * Plans and timings are logged; the assertions check that the
+ * online copy is complete and that queries prune to a single partition.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.liquibase.contexts=default,partitioning",
+        "app.tasks.partitioning.copy.enabled=false",
+        "app.migrations.backfill.pause=PT0S"
+})
+@DirtiesContext
+class TaskPartitioningBenchmarkIT {
+
+    private static final int USERS = 2_000;
+    private static final int TASKS = 400_000;
+    private static final int RUNS = 500;
+    private static final String LIST_SQL =
+            "SELECT * FROM %s WHERE assignee_id = ? AND status = 'TODO' ORDER BY deadline LIMIT 20";
+    private static final Pattern PARTITION = Pattern.compile("tasks_p_\\w+");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TaskPartitionCopier copier;
+    @Autowired
+    BackfillRunner backfillRunner;
+
+    @Test
+    void partitionedListQuery_shouldPruneToSinglePartition() {
+        // Given
+        jdbcTemplate.update("ALTER TABLE tasks DISABLE TRIGGER tasks_mirror");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password_hash, role, created_at)
+                SELECT 'bench' || g || '@test.com', 'x', 'USER', now() FROM generate_series(1, ?) g
+                """, USERS);
+        Long firstUser = jdbcTemplate.queryForObject("SELECT min(id) FROM users WHERE email LIKE 'bench%'", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (assignee_id, title, status, deadline, created_at, updated_at, version)
+                SELECT CASE WHEN g % 10 = 0 THEN NULL ELSE ? + (g % ?) END,
+                       'task ' || g,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                       current_date + (g % 365),
+                       now(), now(), 0
+                FROM generate_series(1, ?) g
+                """, firstUser, USERS, TASKS);
+        jdbcTemplate.update("ALTER TABLE tasks ENABLE TRIGGER tasks_mirror");
+        // When
+        long copied = backfillRunner.run(copier);
+        jdbcTemplate.execute("ANALYZE tasks");
+        jdbcTemplate.execute("ANALYZE tasks_partitioned");
+        // Then
+        assertThat(copied).isEqualTo(TASKS);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks_partitioned", Long.class)).isEqualTo(TASKS);
+
+        long assignee = firstUser + 7;
+        String before = explain("tasks", assignee);
+        String after = explain("tasks_partitioned", assignee);
+        log.info("--- plain table plan ---\n{}", before);
+        log.info("--- partitioned table plan ---\n{}", after);
+        assertThat(partitions(after)).hasSize(1);
+        String unassigned = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM tasks_partitioned WHERE assignee_id IS NULL AND status = 'TODO'", String.class));
+        assertThat(partitions(unassigned)).containsExactly("tasks_p_unassigned");
+
+        double[] plain = time("tasks", firstUser);
+        double[] partitioned = time("tasks_partitioned", firstUser);
+        log.printf(Level.INFO, "plain      : p50=%.3f ms p95=%.3f ms", plain[0], plain[1]);
+        log.printf(Level.INFO, "partitioned: p50=%.3f ms p95=%.3f ms", partitioned[0], partitioned[1]);
+    }
+
+    @Test
+    void partitionedTable_shouldMirrorClaimLeases_andIndexThemPerPartition() {
+        // Given
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO tasks (assignee_id, title, status, created_at, updated_at, version)
+                VALUES (NULL, 'claim', 'TODO', now(), now(), 0) RETURNING id
+                """, Long.class);
+        // When
+        jdbcTemplate.update("UPDATE tasks SET claim_expires_at = now() + interval '5 minutes' WHERE id = ?", id);
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT claim_expires_at IS NOT NULL FROM tasks_partitioned WHERE id = ?", Boolean.class, id)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE indexname LIKE 'ix_tasks_p_%_claim_expires_at'",
+                Long.class)).isEqualTo(17L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = 'tasks_p_unassigned' AND indexname LIKE '%claimable%'",
+                Long.class)).isEqualTo(2L);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id);
+    }
+
+    private String explain(String table, long assignee) {
+        List<String> lines = jdbcTemplate.queryForList(
+                "EXPLAIN (ANALYZE, BUFFERS) " + LIST_SQL.formatted(table), String.class, assignee);
+        return String.join("\n", lines);
+    }
+
+    private static Set<String> partitions(String plan) {
+        Matcher m = PARTITION.matcher(plan);
+        return m.results().map(r -> r.group())
+                .filter(name -> !name.equals("tasks_p_assigned"))
+                .collect(Collectors.toSet());
+    }
+
+    private double[] time(String table, long firstUser) {
+        String sql = LIST_SQL.formatted(table);
+        Random random = new Random(42);
+        for (int i = 0; i < RUNS / 5; i++) {
+            jdbcTemplate.queryForList(sql, firstUser + random.nextInt(USERS));
+        }
+        double[] ms = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(sql, firstUser + random.nextInt(USERS));
+            ms[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(ms);
+        return new double[]{ms[RUNS / 2], ms[RUNS * 95 / 100]};
+    }
+}
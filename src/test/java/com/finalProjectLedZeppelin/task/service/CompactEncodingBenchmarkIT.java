@@ -0,0 +1,163 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparing the VARCHAR encoding of {@code tasks.status} and
+ * {@code users.role} with the native enums of the {@code compact-enums}
+ * changelog context.
+ * <p>
+ * The data set is seeded on the default schema, measured, converted in
+ * place and measured again. Sizes, plans and timings are logged; the
+ * assertions check that storage does not grow, that the
+ * status index is still used for varchar-bound parameters and that the
+ * application keeps reading and writing both columns unchanged.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class CompactEncodingBenchmarkIT {
+
+    private static final int USERS = 2_000;
+    private static final int TASKS = 400_000;
+    private static final int RUNS = 500;
+    private static final String LIST_SQL =
+            "SELECT id FROM tasks WHERE assignee_id = ? AND status = ? ORDER BY id LIMIT 20";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    ResourceLoader resourceLoader;
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    void compactEncoding_shouldNotGrowStorageAndKeepMapping() throws Exception {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password_hash, role, created_at)
+                SELECT 'bench' || g || '@test.com', 'x', CASE WHEN g % 50 = 0 THEN 'ADMIN' ELSE 'USER' END, now()
+                FROM generate_series(1, ?) g
+                """, USERS);
+        Long firstUser = jdbcTemplate.queryForObject("SELECT min(id) FROM users WHERE email LIKE 'bench%'", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (assignee_id, title, status, deadline, created_at, updated_at, version)
+                SELECT ? + (g % ?),
+                       'task ' || g,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                       current_date + (g % 365),
+                       now(), now(), 0
+                FROM generate_series(1, ?) g
+                """, firstUser, USERS, TASKS);
+        vacuum();
+        Sizes before = sizes();
+        double[] varcharTimes = time(firstUser);
+        // When
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setResourceLoader(resourceLoader);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts("default,compact-enums");
+        liquibase.afterPropertiesSet();
+        dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().softEvictConnections();
+        vacuum();
+        Sizes after = sizes();
+        double[] enumTimes = time(firstUser);
+        // Then
+        log.printf(Level.INFO, "varchar: tasks=%d B, ix_tasks_assignee_status=%d B, users=%d B",
+                before.tasks(), before.statusIndex(), before.users());
+        log.printf(Level.INFO, "enum   : tasks=%d B, ix_tasks_assignee_status=%d B, users=%d B",
+                after.tasks(), after.statusIndex(), after.users());
+        log.printf(Level.INFO, "varchar: p50=%.3f ms p95=%.3f ms", varcharTimes[0], varcharTimes[1]);
+        log.printf(Level.INFO, "enum   : p50=%.3f ms p95=%.3f ms", enumTimes[0], enumTimes[1]);
+        String plan = String.join("\n", jdbcTemplate.queryForList(
+                "EXPLAIN " + LIST_SQL, String.class, firstUser, TaskStatus.TODO.name()));
+        log.info("--- enum plan ---\n{}", plan);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT data_type FROM information_schema.columns WHERE table_name = 'tasks' AND column_name = 'status'",
+                String.class)).isEqualTo("USER-DEFINED");
+        assertThat(after.tasks()).isLessThanOrEqualTo(before.tasks());
+        assertThat(after.statusIndex()).isLessThanOrEqualTo(before.statusIndex());
+        assertThat(plan).contains("ix_tasks_assignee_status");
+        TaskResponse created = taskService.create(new TaskCreateRequest("compact", null, null, null));
+        taskService.adminUpdate(created.id(), null, new TaskUpdateRequest("compact", null, TaskStatus.IN_PROGRESS, null, null));
+        assertThat(taskService.get(null, true, created.id()).status()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(taskRepository.findAllByStatus(TaskStatus.DONE, PageRequest.of(0, 5)).getContent())
+                .isNotEmpty()
+                .allSatisfy(t -> assertThat(t.getStatus()).isEqualTo(TaskStatus.DONE));
+        User admin = userRepository.findByEmail("bench50@test.com").orElseThrow();
+        assertThat(admin.getRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    private void vacuum() {
+        jdbcTemplate.execute("VACUUM ANALYZE tasks");
+        jdbcTemplate.execute("VACUUM ANALYZE users");
+    }
+
+    private Sizes sizes() {
+        return new Sizes(
+                jdbcTemplate.queryForObject("SELECT pg_table_size('tasks')", Long.class),
+                jdbcTemplate.queryForObject("SELECT pg_relation_size('ix_tasks_assignee_status')", Long.class),
+                jdbcTemplate.queryForObject("SELECT pg_table_size('users')", Long.class)
+        );
+    }
+
+    private double[] time(long firstUser) {
+        List<String> statuses = Arrays.stream(TaskStatus.values()).map(Enum::name).toList();
+        Random random = new Random(42);
+        for (int i = 0; i < RUNS / 5; i++) {
+            jdbcTemplate.queryForList(LIST_SQL, firstUser + random.nextInt(USERS), statuses.get(i % 3));
+        }
+        double[] ms = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            jdbcTemplate.queryForList(LIST_SQL, firstUser + random.nextInt(USERS), statuses.get(i % 3));
+            ms[i] = (System.nanoTime() - start) / 1e6;
+        }
+        Arrays.sort(ms);
+        return new double[]{ms[RUNS / 2], ms[RUNS * 95 / 100]};
+    }
+
+    private record Sizes(long tasks, long statusIndex, long users) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "app.tasks.archive.min-age=P1D")
+@DirtiesContext
+class TaskArchiveIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskArchiveService archiveService;
+    @Autowired
+    TaskSummaryService summaryService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDb() {
+        jdbcTemplate.update("DELETE FROM tasks_archive");
+        taskRepository.deleteAll();
+        summaryService.reconcile();
+    }
+
+    @Test
+    void archive_shouldMoveOldDoneTasks_andKeepThemReadable() {
+        // Given
+        Long oldDone = taskService.create(new TaskCreateRequest("old", null, null, null)).id();
+        Long freshDone = taskService.create(new TaskCreateRequest("fresh", null, null, null)).id();
+        Long open = taskService.create(new TaskCreateRequest("open", null, null, null)).id();
+        taskService.updateStatus(null, true, oldDone, null, TaskStatus.DONE);
+        taskService.updateStatus(null, true, freshDone, null, TaskStatus.DONE);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = now() - interval '2 days' WHERE id IN (?, ?)", oldDone, open);
+        // When
+        int archived = archiveService.archive();
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(taskRepository.findById(oldDone)).isEmpty();
+        assertThat(taskRepository.count()).isEqualTo(2);
+        assertThatThrownBy(() -> taskService.get(null, true, oldDone)).isInstanceOf(NotFoundException.class);
+        TaskResponse res = archiveService.get(null, true, oldDone);
+        assertThat(res.title()).isEqualTo("old");
+        assertThat(archiveService.list(null, true, TaskStatus.DONE, null, null, PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(2);
+        assertThat(summaryService.global().done()).isEqualTo(2);
+        assertThat(summaryService.reconcile()).isZero();
+    }
+}
@@ -0,0 +1,142 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchOperation;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskBatchResult;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskStatusUpdateRequest;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+
+    @Mock
+    TaskService taskService;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    TaskBatchService batchService;
+    TransactionStatus txStatus;
+
+    @BeforeEach
+    void setUp() {
+        batchService = new TaskBatchService(taskService, transactionManager, false, 3);
+        txStatus = new SimpleTransactionStatus();
+    }
+
+    @Test
+    void execute_shouldCreateConsecutiveTasksInOneCall_whenAtomic() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(txStatus);
+        when(taskService.createAll(anyList())).thenReturn(List.of(task(1L, TaskStatus.TODO), task(2L, TaskStatus.TODO)));
+        when(taskService.updateStatus(null, true, 1L, null, TaskStatus.IN_PROGRESS)).thenReturn(task(1L, TaskStatus.IN_PROGRESS));
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a"), create("b"), status(1L, null, TaskStatus.IN_PROGRESS)), null);
+        // When
+        TaskBatchResponse res = batchService.execute(null, true, req);
+        // Then
+        assertThat(res.committed()).isTrue();
+        assertThat(res.results()).extracting(TaskBatchResult::status).containsExactly(201, 201, 200);
+        verify(taskService).createAll(List.of(create("a").create(), create("b").create()));
+        verify(taskService, never()).create(any());
+        verify(transactionManager).commit(txStatus);
+    }
+
+    @Test
+    void execute_shouldRollBackEverything_whenAtomicOperationFails() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(txStatus);
+        when(taskService.createAll(anyList())).thenReturn(List.of(task(1L, TaskStatus.TODO)));
+        when(taskService.updateStatus(any(), anyBoolean(), eq(9L), any(), any()))
+                .thenThrow(new ConflictException("Status transition not allowed: DONE -> TODO"));
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a"), status(9L, null, TaskStatus.TODO), status(1L, null, TaskStatus.DONE)), true);
+        // When
+        TaskBatchResponse res = batchService.execute(null, true, req);
+        // Then
+        assertThat(res.committed()).isFalse();
+        assertThat(res.results()).extracting(TaskBatchResult::status).containsExactly(424, 409, 424);
+        assertThat(res.results().get(1).error()).contains("DONE -> TODO");
+        assertThat(txStatus.isRollbackOnly()).isTrue();
+        verify(taskService, never()).updateStatus(any(), anyBoolean(), eq(1L), any(), any());
+    }
+
+    @Test
+    void execute_shouldApplyOthers_whenNotAtomic() {
+        // Given
+        when(taskService.updateStatus(7L, false, 1L, 3L, TaskStatus.DONE)).thenReturn(task(1L, TaskStatus.DONE));
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a"), status(1L, 3L, TaskStatus.DONE)), false);
+        // When
+        TaskBatchResponse res = batchService.execute(7L, false, req);
+        // Then
+        assertThat(res.committed()).isFalse();
+        assertThat(res.results()).extracting(TaskBatchResult::status).containsExactly(403, 200);
+        verifyNoInteractions(transactionManager);
+        verify(taskService, never()).create(any());
+    }
+
+    @Test
+    void execute_shouldNotStartTransaction_whenOperationMalformed() {
+        // Given
+        TaskBatchOperation noBody = new TaskBatchOperation(TaskBatchOperation.Op.UPDATE, 1L, null, null, null, null, null);
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a"), noBody), true);
+        // When
+        TaskBatchResponse res = batchService.execute(null, true, req);
+        // Then
+        assertThat(res.results()).extracting(TaskBatchResult::status).containsExactly(424, 400);
+        verifyNoInteractions(taskService, transactionManager);
+    }
+
+    @Test
+    void execute_shouldReject_whenTooManyOperations() {
+        // Given
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a"), create("b"), create("c"), create("d")), true);
+        // When / Then
+        assertThatThrownBy(() -> batchService.execute(null, true, req))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void execute_shouldReject_whenAtomicInShardedMode() {
+        // Given
+        TaskBatchService sharded = new TaskBatchService(taskService, transactionManager, true, 3);
+        TaskBatchRequest req = new TaskBatchRequest(List.of(create("a")), true);
+        // When / Then
+        assertThatThrownBy(() -> sharded.execute(null, true, req))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Atomic batches are not supported in sharded mode");
+        verifyNoInteractions(taskService, transactionManager);
+    }
+
+    private static TaskBatchOperation create(String title) {
+        return new TaskBatchOperation(TaskBatchOperation.Op.CREATE, null, null,
+                new TaskCreateRequest(title, null, null, null), null, null, null);
+    }
+
+    private static TaskBatchOperation status(Long taskId, Long version, TaskStatus status) {
+        return new TaskBatchOperation(TaskBatchOperation.Op.STATUS, taskId, version,
+                null, null, null, new TaskStatusUpdateRequest(status));
+    }
+
+    private static TaskResponse task(Long id, TaskStatus status) {
+        Instant at = Instant.parse("2020-01-01T00:00:00Z");
+        return new TaskResponse(id, null, null, "t", null, status, null, at, at, 0L);
+    }
+}
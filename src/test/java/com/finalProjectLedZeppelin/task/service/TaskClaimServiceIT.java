@@ -0,0 +1,232 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskSummaryResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskClaimServiceIT {
+
+    private static final int THREADS = 8;
+    private static final int TASKS = 200;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskClaimService taskClaimService;
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TaskSummaryService summaryService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM task_list_view");
+        jdbcTemplate.update("DELETE FROM task_summary");
+        users.clear();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(persistUser("claimer" + i + "@test.com"));
+        }
+    }
+
+    @Test
+    void claim_shouldHandOutEveryTaskOnce_toConcurrentClaimers() throws Exception {
+        // Given
+        for (int i = 0; i < TASKS; i++) {
+            create(null, LocalDate.of(2030, 1, 1).plusDays(i % 30));
+        }
+        Long assigned = create(users.getFirst(), LocalDate.of(2029, 1, 1));
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        List<Long> duplicates = new ArrayList<>();
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User u : users) {
+                futures.add(pool.submit(() -> {
+                    Optional<TaskClaimResponse> next;
+                    while ((next = taskClaimService.claim(u.getId(), TaskClaimRequest.ANY)).isPresent()) {
+                        assertThat(next.get().task().assigneeId()).isEqualTo(u.getId());
+                        if (!claimed.add(next.get().task().id())) {
+                            synchronized (duplicates) {
+                                duplicates.add(next.get().task().id());
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        // Then
+        assertThat(duplicates).isEmpty();
+        assertThat(claimed).hasSize(TASKS).doesNotContain(assigned);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tasks WHERE assignee_id IS NULL", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_list_view WHERE assignee_id IS NULL", Long.class)).isZero();
+    }
+
+    @Test
+    void claim_shouldNotWait_onOpenClaimInSameBucket() throws Exception {
+        // Given
+        for (int i = 0; i < THREADS; i++) {
+            create(null, null);
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch claimedInOpenTx = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            Future<?> open = pool.submit(() -> tx.executeWithoutResult(status -> {
+                taskClaimService.claim(users.getFirst().getId(), TaskClaimRequest.ANY).orElseThrow();
+                claimedInOpenTx.countDown();
+                await(commit);
+            }));
+            assertThat(claimedInOpenTx.await(10, TimeUnit.SECONDS)).isTrue();
+            // When
+            List<Future<Optional<TaskClaimResponse>>> others = new ArrayList<>();
+            for (User u : users.subList(1, THREADS)) {
+                others.add(pool.submit(() -> taskClaimService.claim(u.getId(), TaskClaimRequest.ANY)));
+            }
+            // Then
+            for (Future<Optional<TaskClaimResponse>> f : others) {
+                assertThat(f.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+            commit.countDown();
+            open.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            pool.shutdownNow();
+        }
+        assertThat(summaryService.global()).isEqualTo(new TaskSummaryResponse(THREADS, 0, 0, 0));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_summary WHERE assignee_key = 0", Long.class)).isZero();
+        assertThat(summaryService.reconcile()).isZero();
+    }
+
+    @Test
+    void claim_shouldTakeMostUrgentMatchingTask() {
+        // Given
+        Long later = create(null, LocalDate.of(2030, 3, 1));
+        Long sooner = create(null, LocalDate.of(2030, 2, 1));
+        Long done = create(null, LocalDate.of(2030, 1, 1));
+        taskService.updateStatus(null, true, done, null, TaskStatus.DONE);
+        Long noDeadline = create(null, null);
+        Long user = users.getFirst().getId();
+        // When
+        Long first = taskClaimService.claim(user, TaskClaimRequest.ANY).orElseThrow().task().id();
+        Long inRange = taskClaimService.claim(user, new TaskClaimRequest(
+                null, LocalDate.of(2030, 2, 15), LocalDate.of(2030, 3, 31), null, null)).orElseThrow().task().id();
+        Optional<TaskClaimResponse> none = taskClaimService.claim(user, new TaskClaimRequest(
+                TaskStatus.IN_PROGRESS, null, null, null, null));
+        Long last = taskClaimService.claim(user, TaskClaimRequest.ANY).orElseThrow().task().id();
+        // Then
+        assertThat(first).isEqualTo(sooner);
+        assertThat(inRange).isEqualTo(later);
+        assertThat(none).isEmpty();
+        assertThat(last).isEqualTo(noDeadline);
+        assertThat(taskClaimService.claim(user, TaskClaimRequest.ANY)).isEmpty();
+    }
+
+    @Test
+    void releaseExpired_shouldHandBackTodoTasks_whoseLeaseExpired() {
+        // Given
+        Long a = create(null, LocalDate.of(2030, 1, 1));
+        Long b = create(null, LocalDate.of(2030, 1, 2));
+        Long user = users.getFirst().getId();
+        TaskClaimRequest lease = new TaskClaimRequest(null, null, null, TaskClaimRequest.Order.OLDEST, Duration.ofMinutes(5));
+        TaskClaimResponse first = taskClaimService.claim(user, lease).orElseThrow();
+        TaskClaimResponse second = taskClaimService.claim(user, lease).orElseThrow();
+        taskService.updateStatus(user, false, b, null, TaskStatus.IN_PROGRESS);
+        jdbcTemplate.update("UPDATE tasks SET claim_expires_at = now() - interval '1 minute' WHERE id = ?", a);
+        // When
+        int released = taskClaimService.releaseExpired();
+        // Then
+        assertThat(first.task().id()).isEqualTo(a);
+        assertThat(first.leaseExpiresAt()).isNotNull();
+        assertThat(second.task().id()).isEqualTo(b);
+        assertThat(released).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT assignee_id FROM task_list_view WHERE id = ?", Long.class, a)).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_tombstones WHERE task_id = ? AND assignee_id = ?", Long.class, a, user))
+                .isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT claim_expires_at IS NULL FROM tasks WHERE id = ?", Boolean.class, b)).isTrue();
+        assertThat(taskRepository.findById(b).orElseThrow().getAssignee().getId()).isEqualTo(user);
+        assertThat(taskClaimService.claim(user, TaskClaimRequest.ANY).orElseThrow().task().id()).isEqualTo(a);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Long create(User assignee, LocalDate deadline) {
+        return taskService.create(new TaskCreateRequest("t", null, deadline, assignee != null ? assignee.getId() : null)).id();
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
@@ -0,0 +1,125 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskClaimRelease;
+import com.finalProjectLedZeppelin.task.repo.TaskClaimRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskClaimServiceTest {
+
+    @Mock
+    TaskClaimRepository claimRepository;
+    @Mock
+    TaskTombstoneRepository tombstoneRepository;
+    @Mock
+    TaskSummaryService summaryService;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskClaimService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = service(false);
+    }
+
+    @Test
+    void claim_shouldMoveCounters_andPublishAssignment() {
+        // Given
+        LocalDate deadline = LocalDate.of(2030, 1, 1);
+        TaskResponse task = new TaskResponse(1L, 7L, "u@test.com", "t", null, TaskStatus.TODO, deadline,
+                Instant.EPOCH, Instant.EPOCH, 1L);
+        when(claimRepository.claimNext(eq(7L), isNull(), isNull(), isNull(), isNull(), any(Instant.class)))
+                .thenReturn(Optional.of(new TaskClaimResponse(task, Instant.EPOCH)));
+        // When
+        Optional<TaskClaimResponse> res = service.claim(7L,
+                new TaskClaimRequest(null, null, null, null, Duration.ofMinutes(10)));
+        // Then
+        assertThat(res).isPresent();
+        verify(summaryService).move(
+                TaskSummaryKey.of(null, TaskStatus.TODO, deadline),
+                TaskSummaryKey.of(7L, TaskStatus.TODO, deadline)
+        );
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, 1L, 7L, null));
+        assertThat(meterRegistry.get("app.tasks.claims").tag("outcome", "claimed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void claim_shouldReturnEmpty_withoutSideEffects_whenNothingMatches() {
+        // Given
+        when(claimRepository.claimNext(eq(7L), any(), any(), any(), any(), isNull())).thenReturn(Optional.empty());
+        // When
+        Optional<TaskClaimResponse> res = service.claim(7L, TaskClaimRequest.ANY);
+        // Then
+        assertThat(res).isEmpty();
+        verifyNoInteractions(summaryService, eventPublisher);
+        assertThat(meterRegistry.get("app.tasks.claims").tag("outcome", "empty").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void claim_shouldReject_invalidRequests() {
+        // Given
+        TaskClaimRequest done = new TaskClaimRequest(TaskStatus.DONE, null, null, null, null);
+        TaskClaimRequest range = new TaskClaimRequest(null, LocalDate.of(2030, 2, 1), LocalDate.of(2030, 1, 1), null, null);
+        TaskClaimRequest zero = new TaskClaimRequest(null, null, null, null, Duration.ZERO);
+        TaskClaimRequest tooLong = new TaskClaimRequest(null, null, null, null, Duration.ofHours(9));
+        // When / Then
+        assertThatThrownBy(() -> service.claim(7L, done)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.claim(7L, range)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.claim(7L, zero)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.claim(7L, tooLong))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Lease must not exceed PT8H");
+        assertThatThrownBy(() -> service(true).claim(7L, TaskClaimRequest.ANY))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sharded");
+        verifyNoInteractions(claimRepository);
+    }
+
+    @Test
+    void releaseExpired_shouldUnassign_andRecordTombstone() {
+        // Given
+        LocalDate deadline = LocalDate.of(2030, 1, 1);
+        when(claimRepository.releaseExpired(any(Instant.class), eq(500)))
+                .thenReturn(List.of(new TaskClaimRelease(1L, 7L, deadline)));
+        // When
+        int released = service.releaseExpired();
+        // Then
+        assertThat(released).isEqualTo(1);
+        verify(summaryService).removeAll(List.of(TaskSummaryKey.of(7L, TaskStatus.TODO, deadline)));
+        verify(tombstoneRepository).saveAll(anyIterable());
+        verify(eventPublisher).publishEvent(new TaskBatchChangedEvent(List.of(
+                new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, 1L, null, 7L))));
+    }
+
+    private TaskClaimService service(boolean sharded) {
+        return new TaskClaimService(claimRepository, tombstoneRepository, summaryService, eventPublisher,
+                sharded, Duration.ofHours(8), 500, meterRegistry);
+    }
+}
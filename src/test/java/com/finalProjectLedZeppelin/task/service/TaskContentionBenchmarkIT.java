@@ -0,0 +1,124 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contention benchmark comparing optimistic {@code If-Match} updates
+ * with a pessimistic {@code SELECT ... FOR UPDATE} read-modify-write.
+ * <p>
+ * Every worker repeatedly renames the same task. Results
+ * are logged; the assertions only check that no update was lost.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskContentionBenchmarkIT {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 200;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void optimisticVersusPessimistic() throws Exception {
+        // Given
+        Long optimisticId = taskService.create(new TaskCreateRequest("optimistic", null, null, null)).id();
+        Long pessimisticId = taskService.create(new TaskCreateRequest("pessimistic", null, null, null)).id();
+        AtomicLong retries = new AtomicLong();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        // When
+        long optimisticNanos = run(i -> {
+            while (true) {
+                Long version = taskService.stamp(null, true, optimisticId).version();
+                try {
+                    taskService.adminUpdate(optimisticId, version, new TaskUpdateRequest(title(i), null, null, null, null));
+                    return;
+                } catch (PreconditionFailedException | OptimisticLockingFailureException ex) {
+                    retries.incrementAndGet();
+                }
+            }
+        });
+        long pessimisticNanos = run(i -> tx.executeWithoutResult(s -> {
+            Task t = entityManager.find(Task.class, pessimisticId, LockModeType.PESSIMISTIC_WRITE);
+            t.setTitle(title(i));
+        }));
+        // Then
+        int total = THREADS * UPDATES_PER_THREAD;
+        log.printf(Level.INFO, "optimistic : %d updates in %d ms (%.0f ops/s, %d retries)",
+                total, optimisticNanos / 1_000_000, total / (optimisticNanos / 1e9), retries.get());
+        log.printf(Level.INFO, "pessimistic: %d updates in %d ms (%.0f ops/s)",
+                total, pessimisticNanos / 1_000_000, total / (pessimisticNanos / 1e9));
+        assertThat(taskRepository.findById(optimisticId).orElseThrow().getVersion()).isEqualTo(total);
+        assertThat(taskRepository.findById(pessimisticId).orElseThrow().getVersion()).isEqualTo(total);
+    }
+
+    private static String title(int i) {
+        return Thread.currentThread().getName() + "-" + i;
+    }
+
+    private static long run(Update update) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        update.apply(i);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+            return System.nanoTime() - start;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Update {
+        void apply(int i);
+    }
+}
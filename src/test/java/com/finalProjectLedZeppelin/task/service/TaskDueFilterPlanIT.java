@@ -0,0 +1,155 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskListItemRepository;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan tests of the {@code overdue} and {@code dueWithin} filters.
+ * <p>
+ * Seeds a read model where most tasks are done, then explains the open
+ * task queries of {@link TaskListItemRepository} with generic plans, as
+ * used for prepared statements once Postgres stops replanning them, and
+ * checks that they are served by the partial indexes on open tasks.
+ * Plans and index sizes are logged.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskDueFilterPlanIT {
+
+    private static final int USERS = 200;
+    private static final int TASKS = 100_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskListViewService listViewService;
+
+    @Test
+    void dueFilters_shouldUsePartialIndexes_andMatchOpenTasks() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password_hash, role, created_at)
+                SELECT 'due' || g || '@test.com', 'x', 'USER', now()
+                FROM generate_series(1, ?) g
+                """, USERS);
+        Long firstUser = jdbcTemplate.queryForObject("SELECT min(id) FROM users WHERE email LIKE 'due%'", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (assignee_id, title, status, deadline, created_at, updated_at, version)
+                SELECT ? + (g % ?),
+                       'task ' || g,
+                       CASE WHEN g % 10 = 0 THEN 'TODO' WHEN g % 10 = 1 THEN 'IN_PROGRESS' ELSE 'DONE' END,
+                       current_date - 180 + (g % 365),
+                       now(), now(), 0
+                FROM generate_series(1, ?) g
+                """, firstUser, USERS, TASKS);
+        listViewService.rebuild();
+        jdbcTemplate.execute("VACUUM ANALYZE task_list_view");
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        // When
+        String assigneeOverdue = explain(sql(TaskListItemRepository.OPEN_ASSIGNEE_DUE_BEFORE),
+                "TODO", "IN_PROGRESS", today, firstUser);
+        String dueSoon = explain(sql(TaskListItemRepository.OPEN_DUE_BETWEEN),
+                "TODO", "IN_PROGRESS", today.plusDays(8), today);
+        Page<TaskResponse> page = taskService.list(firstUser, false, null,
+                TaskDueWindow.of(true, null, today), PageRequest.of(0, 500, Sort.by("deadline")));
+        Long expected = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM tasks
+                WHERE assignee_id = ? AND status <> 'DONE' AND deadline < ?
+                """, Long.class, firstUser, today);
+        // Then
+        log.info("--- overdue of assignee ---\n{}", assigneeOverdue);
+        log.info("--- due within P7D ---\n{}", dueSoon);
+        log.printf(Level.INFO, "index sizes: open_assignee_deadline=%d B open_deadline=%d B assignee_deadline=%d B",
+                size("ix_tlv_open_assignee_deadline"), size("ix_tlv_open_deadline"), size("ix_tlv_assignee_deadline"));
+        assertThat(assigneeOverdue).contains("ix_tlv_open_assignee_deadline");
+        assertThat(dueSoon).contains("ix_tlv_open_deadline");
+        assertThat(size("ix_tlv_open_assignee_deadline") * 3).isLessThan(size("ix_tlv_assignee_deadline"));
+        assertThat(page.getTotalElements()).isEqualTo(expected).isPositive();
+        assertThat(page.getContent()).allSatisfy(t -> {
+            assertThat(t.status()).isNotEqualTo(TaskStatus.DONE);
+            assertThat(t.deadline()).isBefore(today);
+        });
+        assertThat(taskService.list(firstUser, false, null, TaskDueWindow.of(false, Period.ofDays(7), today),
+                PageRequest.of(0, 500)).getContent())
+                .allSatisfy(t -> assertThat(t.deadline()).isBetween(today, today.plusDays(7)));
+    }
+
+    /**
+     * Turns an open task query of the repository into a JDBC statement
+     * with positional parameters.
+     */
+    private static String sql(String from) {
+        return "SELECT v.id" + from
+                .replace(":statuses", "?, ?")
+                .replaceAll(":\\w+", "?")
+                + " ORDER BY v.deadline LIMIT 20";
+    }
+
+    /**
+     * Explains a statement with a generic plan, in which the parameters
+     * are not known to the planner.
+     */
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> {
+            try (Statement st = con.createStatement()) {
+                st.execute("SET plan_cache_mode = force_generic_plan");
+            }
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+                List<String> lines = new ArrayList<>();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        lines.add(rs.getString(1));
+                    }
+                }
+                return String.join("\n", lines);
+            } finally {
+                try (Statement st = con.createStatement()) {
+                    st.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private long size(String index) {
+        return jdbcTemplate.queryForObject("SELECT pg_relation_size(?::regclass)", Long.class, index);
+    }
+}
@@ -0,0 +1,123 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskFacets;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskFacetServiceIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskFacetService taskFacetService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void seed() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM task_list_view");
+        alice = persistUser("alice@test.com");
+        bob = persistUser("bob@test.com");
+        LocalDate jan = LocalDate.of(2030, 1, 10);
+        LocalDate feb = LocalDate.of(2030, 2, 10);
+        create(alice, jan, TaskStatus.TODO);
+        create(alice, jan, TaskStatus.DONE);
+        create(bob, jan, TaskStatus.TODO);
+        create(bob, jan, TaskStatus.IN_PROGRESS);
+        create(bob, feb, TaskStatus.TODO);
+        create(null, jan, TaskStatus.TODO);
+    }
+
+    @Test
+    void facets_shouldCountEachFacetWithoutItsOwnFilter() {
+        // Given
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 31);
+        // When
+        TaskFacets facets = taskFacetService.facets(null, true, TaskStatus.TODO, from, to, null, EnumSet.allOf(TaskFacets.Facet.class));
+        // Then
+        assertThat(facets.status()).containsEntry(TaskStatus.TODO, 3L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        assertThat(facets.assignee()).containsExactly(
+                new TaskFacets.AssigneeCount(alice.getId(), "alice@test.com", 1L),
+                new TaskFacets.AssigneeCount(bob.getId(), "bob@test.com", 1L),
+                new TaskFacets.AssigneeCount(null, null, 1L)
+        );
+        assertThat(facets.capped()).isFalse();
+    }
+
+    @Test
+    void facets_shouldScopeToAssignee_andOmitUnrequestedFacets() {
+        // Given
+        // When
+        TaskFacets facets = taskFacetService.facets(bob.getId(), false, null, null, null, null, Set.of(TaskFacets.Facet.STATUS));
+        // Then
+        assertThat(facets.status()).containsEntry(TaskStatus.TODO, 2L)
+                .containsEntry(TaskStatus.IN_PROGRESS, 1L)
+                .containsEntry(TaskStatus.DONE, 0L);
+        assertThat(facets.assignee()).isNull();
+    }
+
+    @Test
+    void facets_shouldReportCapped_whenMoreTasksMatchThanCounted() {
+        // Given
+        TaskFacetService capped = new TaskFacetService(jdbcTemplate, false, 4, 100);
+        // When
+        TaskFacets facets = capped.facets(null, true, null, null, null, null, Set.of(TaskFacets.Facet.ASSIGNEE));
+        // Then
+        assertThat(facets.capped()).isTrue();
+        assertThat(facets.assignee().stream().mapToLong(TaskFacets.AssigneeCount::count).sum()).isEqualTo(4L);
+    }
+
+    private void create(User assignee, LocalDate deadline, TaskStatus status) {
+        Long id = taskService.create(new TaskCreateRequest("t", null, deadline, assignee != null ? assignee.getId() : null)).id();
+        if (status != TaskStatus.TODO) {
+            taskService.updateStatus(null, true, id, null, status);
+        }
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
@@ -0,0 +1,131 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark comparing task reads with and without a sparse fieldset.
+ * <p>
+ * Tasks are seeded with 4992 character descriptions, which Postgres
+ * stores out of line. A page of 100 tasks and a single task are read
+ * with every field and with {@code id,title,status,deadline}; serialized
+ * payload sizes and read latencies are logged.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskFieldsBenchmarkIT {
+
+    private static final int TASKS = 20_000;
+    private static final int RUNS = 300;
+    private static final String FIELDS = "id,title,status,deadline";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskListViewService listViewService;
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void fields_shouldShrinkPayload_andSkipDescription() {
+        // Given
+        jdbcTemplate.update("""
+                INSERT INTO tasks (title, description, status, deadline, created_at, updated_at, version)
+                SELECT 'task ' || g,
+                       (SELECT string_agg(md5(g::text || i::text), '') FROM generate_series(1, 156) i),
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+                       current_date + (g % 365),
+                       now(), now(), 0
+                FROM generate_series(1, ?) g
+                """, TASKS);
+        listViewService.rebuild();
+        jdbcTemplate.execute("VACUUM ANALYZE tasks");
+        jdbcTemplate.execute("VACUUM ANALYZE task_list_view");
+        Long taskId = jdbcTemplate.queryForObject("SELECT max(id) FROM tasks", Long.class);
+        Pageable page = PageRequest.of(3, 100, Sort.by("id"));
+        TaskFields sparse = TaskFields.parse(FIELDS);
+        // When
+        double[] fullGet = time(() -> fullTask(taskId));
+        double[] sparseGet = time(() -> taskService.get(1L, true, taskId, sparse));
+        double[] fullList = time(() -> fullPage(page));
+        double[] sparseList = time(() -> taskService.list(1L, true, null, null, null, null, page, sparse));
+        int fullGetBytes = bytes(fullTask(taskId));
+        int sparseGetBytes = bytes(taskService.get(1L, true, taskId, sparse));
+        int fullListBytes = bytes(fullPage(page).getContent());
+        int sparseListBytes = bytes(taskService.list(1L, true, null, null, null, null, page, sparse).getContent());
+        // Then
+        log.printf(Level.INFO, "get  full  : %6d B  p50=%.3f ms p95=%.3f ms", fullGetBytes, fullGet[0], fullGet[1]);
+        log.printf(Level.INFO, "get  fields: %6d B  p50=%.3f ms p95=%.3f ms", sparseGetBytes, sparseGet[0], sparseGet[1]);
+        log.printf(Level.INFO, "list full  : %6d B  p50=%.3f ms p95=%.3f ms", fullListBytes, fullList[0], fullList[1]);
+        log.printf(Level.INFO, "list fields: %6d B  p50=%.3f ms p95=%.3f ms", sparseListBytes, sparseList[0], sparseList[1]);
+        assertThat(sparseGetBytes * 10).isLessThan(fullGetBytes);
+        assertThat(sparseListBytes * 10).isLessThan(fullListBytes);
+        assertThat(taskService.get(1L, true, taskId, sparse).keySet())
+                .containsExactly("id", "title", "status", "deadline");
+        assertThat(taskService.get(1L, true, taskId, TaskFields.FULL_FIELDS))
+                .isEqualTo(TaskFields.FULL_FIELDS.project(taskService.get(1L, true, taskId)));
+    }
+
+    /**
+     * Reads a task with every field, as {@code GET /api/tasks/{id}} does.
+     */
+    private TaskResponse fullTask(Long taskId) {
+        return taskService.get(1L, true, taskId);
+    }
+
+    /**
+     * Reads a page of tasks with every field, including the description
+     * that the list read model does not carry.
+     */
+    private Page<Map<String, Object>> fullPage(Pageable page) {
+        return taskService.list(1L, true, null, null, null, null, page, TaskFields.FULL_FIELDS);
+    }
+
+    private int bytes(Object value) {
+        return objectMapper.writeValueAsBytes(value).length;
+    }
+
+    private static double[] time(Supplier<?> read) {
+        for (int i = 0; i < RUNS / 10; i++) {
+            read.get();
+        }
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            read.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return new double[]{nanos[RUNS / 2] / 1e6, nanos[RUNS * 95 / 100] / 1e6};
+    }
+}
@@ -0,0 +1,110 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class TaskListViewIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskListViewService listViewService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM task_list_view");
+    }
+
+    @Test
+    void writes_shouldKeepReadModelInSync() {
+        // Given
+        User u = persistUser("view@test.com");
+        TaskResponse a = taskService.create(new TaskCreateRequest("a", "long text", null, null));
+        TaskResponse b = taskService.create(new TaskCreateRequest("b", null, null, null));
+        // When
+        taskService.adminUpdate(a.id(), null, new TaskUpdateRequest("a2", "long text", TaskStatus.IN_PROGRESS, null, u.getId()));
+        taskService.delete(b.id());
+        // Then
+        var page = taskService.list(u.getId(), false, null, null, null, PageRequest.of(0, 10));
+        assertThat(page.getContent()).singleElement().satisfies(t -> {
+            assertThat(t.title()).isEqualTo("a2");
+            assertThat(t.assigneeEmail()).isEqualTo("view@test.com");
+            assertThat(t.status()).isEqualTo(TaskStatus.IN_PROGRESS);
+            assertThat(t.description()).isNull();
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM task_list_view", Long.class)).isEqualTo(1);
+        assertThat(listViewService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcile_shouldRepairRowsChangedOutsideTheApplication() {
+        // Given
+        Long id = taskService.create(new TaskCreateRequest("a", null, null, null)).id();
+        jdbcTemplate.update("UPDATE tasks SET title = 'changed', version = version + 1, updated_at = now() - interval '1 minute' WHERE id = ?", id);
+        // When
+        int repaired = listViewService.reconcile();
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        assertThat(meterRegistry.get("app.tasks.list_view.lag").gauge().value()).isGreaterThanOrEqualTo(60.0);
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM task_list_view WHERE id = ?", String.class, id))
+                .isEqualTo("changed");
+    }
+
+    @Test
+    void rebuild_shouldRecreateReadModel() {
+        // Given
+        taskService.create(new TaskCreateRequest("a", null, null, null));
+        taskService.create(new TaskCreateRequest("b", null, null, null));
+        jdbcTemplate.update("DELETE FROM task_list_view");
+        // When
+        int rows = listViewService.rebuild();
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(taskService.list(null, true, null, null, null, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
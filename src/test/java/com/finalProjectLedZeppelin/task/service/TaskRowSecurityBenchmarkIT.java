@@ -0,0 +1,167 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskBulkRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskListItemRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskLookupRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskProjectionRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTransitionRepository;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Benchmark comparing Java-side access checks with row-level security for
+ * allowed and denied task reads.
+ * <p>
+ * The application context runs in row-level security mode; the baseline is
+ * a {@link PrimaryTaskService} wired to the same repositories with the mode
+ * disabled. Timings are logged; the assertions check that both
+ * paths agree on what the caller may see.
+ */
+@Log4j2
+@Testcontainers
+@SpringBootTest(properties = {
+        "spring.liquibase.contexts=default,rls",
+        "app.tasks.rls.enabled=true"
+})
+@DirtiesContext
+class TaskRowSecurityBenchmarkIT {
+
+    private static final int RUNS = 2_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    TaskTransitionRepository transitionRepository;
+    @Autowired
+    TaskBulkRepository bulkRepository;
+    @Autowired
+    TaskProjectionRepository projectionRepository;
+    @Autowired
+    TaskLookupRepository lookupRepository;
+    @Autowired
+    TaskListItemRepository listItemRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TaskTombstoneRepository tombstoneRepository;
+    @Autowired
+    TaskSummaryService summaryService;
+    @Autowired
+    TaskWorkflow workflow;
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void rowSecurityVersusJavaChecks() {
+        // Given
+        Long owner = persistUser("owner@test.com").getId();
+        Long other = persistUser("other@test.com").getId();
+        Long taskId = taskService.create(new TaskCreateRequest("mine", null, null, owner)).id();
+        TaskService baseline = new PrimaryTaskService(taskRepository, transitionRepository, bulkRepository, projectionRepository, lookupRepository, listItemRepository,
+                userRepository, tombstoneRepository, summaryService, new TaskRowSecurity(jdbcTemplate, false), workflow, eventPublisher);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        // When
+        long baselineAllowed = time(() -> tx.execute(s -> baseline.get(owner, false, taskId)));
+        long rlsAllowed = time(() -> taskService.get(owner, false, taskId));
+        long baselineDenied = time(() -> expect(AccessDeniedException.class, () -> tx.execute(s -> baseline.get(other, false, taskId))));
+        long rlsDenied = time(() -> expect(NotFoundException.class, () -> taskService.get(other, false, taskId)));
+        // Then
+        print("allowed", baselineAllowed, rlsAllowed);
+        print("denied ", baselineDenied, rlsDenied);
+        assertThat(taskService.get(owner, false, taskId).title()).isEqualTo("mine");
+        assertThat(taskService.updateStatus(owner, false, taskId, null, TaskStatus.DONE).status()).isEqualTo(TaskStatus.DONE);
+        assertThatThrownBy(() -> taskService.updateStatus(other, false, taskId, null, TaskStatus.TODO))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(taskService.get(null, true, taskId).status()).isEqualTo(TaskStatus.DONE);
+        Long visibleToOther = new TransactionTemplate(transactionManager).execute(s -> {
+            new TaskRowSecurity(jdbcTemplate, true).bind(other, false);
+            return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Long.class);
+        });
+        assertThat(visibleToOther).isZero();
+    }
+
+    @Test
+    void startupCheck_shouldRejectTasksWithoutActivePolicy() {
+        // Given
+        TaskRowSecurity rowSecurity = new TaskRowSecurity(jdbcTemplate, true);
+        rowSecurity.run(null);
+        jdbcTemplate.execute("ALTER TABLE tasks DISABLE ROW LEVEL SECURITY");
+        try {
+            // When / Then
+            assertThatThrownBy(() -> rowSecurity.run(null))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("tasks_visible_to_assignee");
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE tasks ENABLE ROW LEVEL SECURITY");
+        }
+    }
+
+    private static long time(Runnable call) {
+        for (int i = 0; i < RUNS / 10; i++) {
+            call.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            call.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void expect(Class<? extends Exception> type, Runnable call) {
+        try {
+            call.run();
+        } catch (Exception ex) {
+            assertThat(ex).isInstanceOf(type);
+            return;
+        }
+        throw new AssertionError("Expected " + type.getSimpleName());
+    }
+
+    private static void print(String path, long baselineNanos, long rlsNanos) {
+        log.printf(Level.INFO, "%s: java checks %.1f us/op, row-level security %.1f us/op",
+                path, baselineNanos / 1e3 / RUNS, rlsNanos / 1e3 / RUNS);
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
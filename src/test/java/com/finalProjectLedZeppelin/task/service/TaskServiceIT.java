@@ -3,8 +3,13 @@ package com.finalProjectLedZeppelin.task.service;
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.model.UserRole;
 import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
 import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
 import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
 import com.finalProjectLedZeppelin.task.repo.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,12 +17,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -63,6 +70,29 @@ class TaskServiceIT {
         assertThat(taskRepository.findById(res.id())).isPresent();
     }
 
+    @Test
+    void updateStatus_shouldClassifyRejectedTransitionsInOneStatement() {
+        // Given
+        User owner = userRepository.save(persistUser("owner@test.com"));
+        User other = userRepository.save(persistUser("other@test.com"));
+        Long taskId = taskService.create(new TaskCreateRequest("t", null, null, owner.getId())).id();
+        taskService.updateStatus(owner.getId(), false, taskId, 0L, TaskStatus.DONE);
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateStatus(other.getId(), false, taskId, null, TaskStatus.IN_PROGRESS))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> taskService.updateStatus(owner.getId(), false, taskId, 0L, TaskStatus.IN_PROGRESS))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> taskService.updateStatus(owner.getId(), false, taskId, 1L, TaskStatus.TODO))
+                .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> taskService.updateStatus(owner.getId(), false, -1L, null, TaskStatus.TODO))
+                .isInstanceOf(NotFoundException.class);
+        TaskResponse reopened = taskService.updateStatus(owner.getId(), false, taskId, 1L, TaskStatus.IN_PROGRESS);
+        assertThat(reopened.status()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(reopened.version()).isEqualTo(2L);
+        assertThat(reopened.assigneeEmail()).isEqualTo("owner@test.com");
+        assertThat(taskService.updateStatus(null, true, taskId, null, TaskStatus.TODO).status()).isEqualTo(TaskStatus.TODO);
+    }
+
     @Test
     void list_shouldUseDatabaseFilters() {
         // Given
@@ -85,6 +115,32 @@ class TaskServiceIT {
         assertThat(page.getContent().get(0).title()).isEqualTo("t1");
     }
 
+    @Test
+    void lookup_shouldMarkFoundForbiddenAndMissingInOneQuery() {
+        // Given
+        User owner = userRepository.save(persistUser("owner@test.com"));
+        User other = userRepository.save(persistUser("other@test.com"));
+        Long mine = taskService.create(new TaskCreateRequest("mine", "d", null, owner.getId())).id();
+        Long theirs = taskService.create(new TaskCreateRequest("theirs", "secret", null, other.getId())).id();
+        Long unassigned = taskService.create(new TaskCreateRequest("none", null, null, null)).id();
+        // When
+        List<TaskLookupResult> results = taskService.lookup(owner.getId(), false, List.of(theirs, mine, -1L, mine, unassigned));
+        List<TaskLookupResult> adminResults = taskService.lookup(1L, true, List.of(theirs, unassigned));
+        // Then
+        assertThat(results).extracting(TaskLookupResult::id).containsExactly(theirs, mine, -1L, unassigned);
+        assertThat(results).extracting(TaskLookupResult::outcome).containsExactly(
+                TaskLookupResult.Outcome.FORBIDDEN,
+                TaskLookupResult.Outcome.FOUND,
+                TaskLookupResult.Outcome.MISSING,
+                TaskLookupResult.Outcome.FORBIDDEN
+        );
+        assertThat(results.get(0).task()).isNull();
+        assertThat(results.get(1).task()).isEqualTo(taskService.get(owner.getId(), false, mine));
+        assertThat(adminResults).extracting(TaskLookupResult::outcome)
+                .containsOnly(TaskLookupResult.Outcome.FOUND);
+        assertThat(adminResults.get(0).task().assigneeEmail()).isEqualTo("other@test.com");
+    }
+
     private User persistUser(String email) {
         User u = new User();
         u.setEmail(email);
@@ -2,25 +2,49 @@ package com.finalProjectLedZeppelin.task.service;
 
 import com.finalProjectLedZeppelin.auth.model.User;
 import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.common.error.NotFoundException;
+import com.finalProjectLedZeppelin.common.error.PreconditionFailedException;
 import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
 import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.event.TaskBatchChangedEvent;
+import com.finalProjectLedZeppelin.task.event.TaskChangedEvent;
 import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.model.TaskListItem;
 import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.model.TaskTombstone;
+import com.finalProjectLedZeppelin.task.repo.TaskBulkRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskListItemRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskLookupRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskProjectionRepository;
 import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTransition;
+import com.finalProjectLedZeppelin.task.repo.TaskTransitionRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.access.AccessDeniedException;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -32,9 +56,32 @@ class TaskServiceUnitTest {
     @Mock
     TaskRepository taskRepository;
     @Mock
+    TaskTransitionRepository transitionRepository;
+    @Mock
+    TaskBulkRepository bulkRepository;
+    @Mock
+    TaskProjectionRepository projectionRepository;
+    @Mock
+    TaskLookupRepository lookupRepository;
+    @Mock
+    TaskListItemRepository listItemRepository;
+    @Mock
     UserRepository userRepository;
+    @Mock
+    TaskTombstoneRepository tombstoneRepository;
+    @Mock
+    TaskSummaryService summaryService;
+    @Mock
+    TaskRowSecurity rowSecurity;
+    @Spy
+    TaskWorkflow workflow = new TaskWorkflow(new TaskWorkflowProperties(Map.of(
+            TaskStatus.TODO, Set.of(TaskStatus.IN_PROGRESS),
+            TaskStatus.IN_PROGRESS, Set.of(TaskStatus.DONE)
+    ), true));
+    @Mock
+    ApplicationEventPublisher eventPublisher;
     @InjectMocks
-    TaskService taskService;
+    PrimaryTaskService taskService;
 
     @Test
     void create_shouldSaveWithNullAssignee_whenAssigneeIdNull() {
@@ -64,6 +111,27 @@ class TaskServiceUnitTest {
         verify(taskRepository, never()).save(any());
     }
 
+    @Test
+    void createAll_shouldPublishOneBatchEvent() {
+        // Given
+        List<TaskCreateRequest> reqs = List.of(
+                new TaskCreateRequest("a", null, null, null),
+                new TaskCreateRequest("b", null, null, null)
+        );
+        when(bulkRepository.insertAll(eq(reqs), anyMap())).thenReturn(List.of(
+                new TaskResponse(1L, null, null, "a", null, TaskStatus.TODO, null, null, null, 0L),
+                new TaskResponse(2L, null, null, "b", null, TaskStatus.TODO, null, null, null, 0L)
+        ));
+        // When
+        taskService.createAll(reqs);
+        // Then
+        verify(eventPublisher).publishEvent(new TaskBatchChangedEvent(List.of(
+                new TaskChangedEvent(TaskChangedEvent.Type.CREATED, 1L, null, null),
+                new TaskChangedEvent(TaskChangedEvent.Type.CREATED, 2L, null, null)
+        )));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
     @Test
     void get_shouldThrowAccessDenied_whenNotAdminAndNotAssignee() {
         // Given
@@ -75,18 +143,246 @@ class TaskServiceUnitTest {
                 .hasMessage("Not your task");
     }
 
+    @Test
+    void lookup_shouldResolveDistinctIdsOnce_andReportMissing() {
+        // Given
+        when(lookupRepository.findAll(any(), eq(7L), eq(false))).thenReturn(List.of(TaskLookupResult.forbidden(2L)));
+        // When
+        List<TaskLookupResult> res = taskService.lookup(7L, false, List.of(2L, 3L, 2L));
+        // Then
+        assertThat(res).containsExactly(TaskLookupResult.forbidden(2L), TaskLookupResult.missing(3L));
+        verify(lookupRepository).findAll(Set.of(2L, 3L), 7L, false);
+    }
+
+    @Test
+    void get_shouldReadInOneStatement_whenRowSecurityEnabled() {
+        // Given
+        Task t = task(1L, user(7L, "me@test.com"));
+        when(rowSecurity.enabled()).thenReturn(true);
+        when(taskRepository.findWithAssigneeById(1L)).thenReturn(Optional.of(t));
+        // When
+        TaskResponse res = taskService.get(7L, false, 1L);
+        // Then
+        assertThat(res.assigneeEmail()).isEqualTo("me@test.com");
+        verify(rowSecurity).bind(7L, false);
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateStatus_shouldReportNotFound_whenRowSecurityHidesTask() {
+        // Given
+        when(rowSecurity.enabled()).thenReturn(true);
+        when(transitionRepository.transition(eq(1L), eq(7L), any(), eq(TaskStatus.DONE), isNull()))
+                .thenReturn(Optional.empty());
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateStatus(7L, false, 1L, null, TaskStatus.DONE))
+                .isInstanceOf(NotFoundException.class);
+        verify(rowSecurity).bind(7L, false);
+        verifyNoInteractions(summaryService, eventPublisher);
+    }
+
     @Test
     void list_shouldCallAdminRepoMethod_whenIsAdminAndHasStatusOnly() {
         // Given
         Pageable pageable = PageRequest.of(0, 20);
-        when(taskRepository.findAllByStatus(eq(TaskStatus.TODO), eq(pageable)))
-                .thenReturn(new PageImpl<>(List.of(task(1L, null)), pageable, 1));
+        when(listItemRepository.findAllByStatus(eq(TaskStatus.TODO), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(new TaskListItem()), pageable, 1));
         // When
         Page<TaskResponse> page = taskService.list(7L, true, TaskStatus.TODO, null, null, pageable);
         // Then
         assertThat(page.getTotalElements()).isEqualTo(1);
-        verify(taskRepository).findAllByStatus(TaskStatus.TODO, pageable);
-        verify(taskRepository, never()).findAll(pageable);
+        assertThat(page.getContent().getFirst().description()).isNull();
+        verify(listItemRepository).findAllByStatus(TaskStatus.TODO, pageable);
+        verify(listItemRepository, never()).findAll(pageable);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void listDue_shouldQueryOpenTasksOfAssignee_whenNotAdmin() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        TaskDueWindow due = new TaskDueWindow(null, LocalDate.of(2030, 3, 10));
+        when(listItemRepository.findOpenByAssigneeIdAndDeadlineBefore(
+                7L, List.of("TODO", "IN_PROGRESS"), due.before(), pageable))
+                .thenReturn(new PageImpl<>(List.of(new TaskListItem()), pageable, 1));
+        // When
+        Page<TaskResponse> page = taskService.list(7L, false, null, due, pageable);
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        verify(listItemRepository).findOpenByAssigneeIdAndDeadlineBefore(
+                7L, List.of("TODO", "IN_PROGRESS"), due.before(), pageable);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void listDue_shouldQueryWindowOfStatus_whenAdmin() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        TaskDueWindow due = new TaskDueWindow(LocalDate.of(2030, 3, 10), LocalDate.of(2030, 3, 18));
+        when(listItemRepository.findOpenByDeadlineBetween(List.of("IN_PROGRESS"), due.from(), due.before(), pageable))
+                .thenReturn(Page.empty(pageable));
+        // When
+        taskService.list(7L, true, TaskStatus.IN_PROGRESS, due, pageable);
+        // Then
+        verify(listItemRepository).findOpenByDeadlineBetween(List.of("IN_PROGRESS"), due.from(), due.before(), pageable);
+    }
+
+    @Test
+    void listDue_shouldReturnEmptyPage_withoutQuery_whenStatusIsDone() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        // When
+        Page<TaskResponse> page = taskService.list(7L, true, TaskStatus.DONE,
+                new TaskDueWindow(null, LocalDate.of(2030, 3, 10)), pageable);
+        // Then
+        assertThat(page.getTotalElements()).isZero();
+        verifyNoInteractions(listItemRepository);
+    }
+
+    @Test
+    void patch_shouldChangeOnlyPresentFields() {
+        // Given
+        Task t = task(1L, user(5L, "a@test.com"));
+        t.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        TaskPatchRequest req = TaskPatchRequest.fromMergePatch(Map.of("deadline", "2031-05-01"));
+        // When
+        TaskResponse res = taskService.patch(1L, 3L, req);
+        // Then
+        assertThat(res.deadline()).isEqualTo(LocalDate.of(2031, 5, 1));
+        assertThat(res.title()).isEqualTo("t");
+        assertThat(res.description()).isEqualTo("d");
+        assertThat(res.assigneeId()).isEqualTo(5L);
+        verify(taskRepository).flush();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void patch_shouldThrowPreconditionFailed_whenVersionStale() {
+        // Given
+        Task t = task(1L, null);
+        t.setVersion(4L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        TaskPatchRequest req = TaskPatchRequest.fromMergePatch(Map.of("title", "new"));
+        // When / Then
+        assertThatThrownBy(() -> taskService.patch(1L, 3L, req))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(t.getTitle()).isEqualTo("t");
+    }
+
+    @Test
+    void delete_shouldRecordTombstone() {
+        // Given
+        Task t = task(1L, user(5L, "a@test.com"));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        ArgumentCaptor<TaskTombstone> captor = ArgumentCaptor.forClass(TaskTombstone.class);
+        // When
+        taskService.delete(1L);
+        // Then
+        verify(taskRepository).delete(t);
+        verify(tombstoneRepository).save(captor.capture());
+        assertThat(captor.getValue().getTaskId()).isEqualTo(1L);
+        assertThat(captor.getValue().getAssigneeId()).isEqualTo(5L);
+        assertThat(captor.getValue().isDeleted()).isTrue();
+    }
+
+    @Test
+    void patch_shouldRecordTombstoneForPreviousAssignee_whenUnassigned() {
+        // Given
+        Task t = task(1L, user(5L, "a@test.com"));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        Map<String, Object> body = new HashMap<>();
+        body.put("assigneeId", null);
+        // When
+        taskService.patch(1L, null, TaskPatchRequest.fromMergePatch(body));
+        // Then
+        ArgumentCaptor<TaskTombstone> captor = ArgumentCaptor.forClass(TaskTombstone.class);
+        verify(tombstoneRepository).save(captor.capture());
+        assertThat(captor.getValue().getAssigneeId()).isEqualTo(5L);
+        assertThat(captor.getValue().isDeleted()).isFalse();
+    }
+
+    @Test
+    void patch_shouldNotRecordTombstone_whenAssigneeUnchanged() {
+        // Given
+        Task t = task(1L, user(5L, "a@test.com"));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        // When
+        taskService.patch(1L, null, TaskPatchRequest.fromMergePatch(Map.of("title", "new")));
+        // Then
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void updateStatus_shouldMoveTaskBetweenSummaryBuckets() {
+        // Given
+        when(transitionRepository.transition(1L, 5L, Set.of(TaskStatus.IN_PROGRESS, TaskStatus.DONE), TaskStatus.DONE, null))
+                .thenReturn(Optional.of(new TaskTransition(5L, TaskStatus.IN_PROGRESS, 0L, response(TaskStatus.DONE))));
+        // When
+        TaskResponse res = taskService.updateStatus(5L, false, 1L, null, TaskStatus.DONE);
+        // Then
+        assertThat(res.status()).isEqualTo(TaskStatus.DONE);
+        verify(summaryService).move(
+                new TaskSummaryKey(5L, TaskStatus.IN_PROGRESS, LocalDate.of(2030, 1, 1)),
+                new TaskSummaryKey(5L, TaskStatus.DONE, TaskSummaryKey.NO_DEADLINE)
+        );
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateStatus_shouldThrowAccessDenied_whenNotAssignee() {
+        // Given
+        when(transitionRepository.transition(eq(1L), eq(7L), any(), eq(TaskStatus.IN_PROGRESS), isNull()))
+                .thenReturn(Optional.of(new TaskTransition(5L, TaskStatus.TODO, 0L, null)));
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateStatus(7L, false, 1L, null, TaskStatus.IN_PROGRESS))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(summaryService, eventPublisher);
+    }
+
+    @Test
+    void updateStatus_shouldThrowPreconditionFailed_whenVersionStale() {
+        // Given
+        when(transitionRepository.transition(eq(1L), eq(5L), any(), eq(TaskStatus.IN_PROGRESS), eq(1L)))
+                .thenReturn(Optional.of(new TaskTransition(5L, TaskStatus.TODO, 2L, null)));
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateStatus(5L, false, 1L, 1L, TaskStatus.IN_PROGRESS))
+                .isInstanceOf(PreconditionFailedException.class);
+        verifyNoInteractions(summaryService, eventPublisher);
+    }
+
+    @Test
+    void updateStatus_shouldThrowConflict_whenTransitionNotAllowed() {
+        // Given
+        when(transitionRepository.transition(1L, 5L, Set.of(TaskStatus.IN_PROGRESS, TaskStatus.DONE), TaskStatus.DONE, null))
+                .thenReturn(Optional.of(new TaskTransition(5L, TaskStatus.TODO, 0L, null)));
+        // When / Then
+        assertThatThrownBy(() -> taskService.updateStatus(5L, false, 1L, null, TaskStatus.DONE))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("TODO -> DONE");
+        verifyNoInteractions(summaryService, eventPublisher);
+    }
+
+    @Test
+    void updateStatus_shouldAllowAnyTransition_whenAdmin() {
+        // Given
+        when(transitionRepository.transition(1L, null, Set.of(TaskStatus.values()), TaskStatus.DONE, null))
+                .thenReturn(Optional.of(new TaskTransition(5L, TaskStatus.TODO, 0L, response(TaskStatus.DONE))));
+        // When
+        TaskResponse res = taskService.updateStatus(null, true, 1L, null, TaskStatus.DONE);
+        // Then
+        assertThat(res.status()).isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void delete_shouldRemoveTaskFromSummary() {
+        // Given
+        Task t = task(1L, null);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(t));
+        // When
+        taskService.delete(1L);
+        // Then
+        verify(summaryService).move(new TaskSummaryKey(0L, TaskStatus.TODO, LocalDate.of(2030, 1, 1)), null);
     }
 
     private static Task task(Long id, User assignee) {
@@ -102,6 +398,11 @@ class TaskServiceUnitTest {
         return t;
     }
 
+    private static TaskResponse response(TaskStatus status) {
+        Instant at = Instant.parse("2020-01-01T00:00:00Z");
+        return new TaskResponse(1L, 5L, "a@test.com", "t", "d", status, LocalDate.of(2030, 1, 1), at, at, 1L);
+    }
+
     private static User user(Long id, String email) {
         User u = new User();
         u.setId(id);
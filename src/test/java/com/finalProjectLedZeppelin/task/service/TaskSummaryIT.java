@@ -0,0 +1,128 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskSummaryResponse;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@SpringBootTest(properties = "app.tasks.summary.reconcile-range-size=1")
+@DirtiesContext
+class TaskSummaryIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskSummaryService summaryService;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DataSource dataSource;
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM task_summary");
+    }
+
+    @Test
+    void writes_shouldKeepSummaryInSync() {
+        // Given
+        Long userId = persistUser("u@test.com").getId();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Long a = taskService.create(new TaskCreateRequest("a", null, yesterday, userId)).id();
+        Long b = taskService.create(new TaskCreateRequest("b", null, yesterday, userId)).id();
+        taskService.create(new TaskCreateRequest("c", null, null, null));
+        // When
+        taskService.updateStatus(userId, false, a, null, TaskStatus.DONE);
+        taskService.updateStatus(userId, false, b, null, TaskStatus.IN_PROGRESS);
+        // Then
+        assertThat(summaryService.forAssignee(userId)).isEqualTo(new TaskSummaryResponse(0, 1, 1, 1));
+        assertThat(summaryService.global()).isEqualTo(new TaskSummaryResponse(1, 1, 1, 1));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM task_summary WHERE assignee_key = 0", Long.class)).isZero();
+        assertThat(summaryService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcile_shouldCorrectDrift() {
+        // Given
+        Long userId = persistUser("d@test.com").getId();
+        taskService.create(new TaskCreateRequest("a", null, null, userId));
+        jdbcTemplate.update("UPDATE task_summary SET task_count = 7");
+        // When
+        long diff = summaryService.reconcile();
+        // Then
+        assertThat(diff).isEqualTo(6);
+        assertThat(summaryService.forAssignee(userId)).isEqualTo(new TaskSummaryResponse(1, 0, 0, 0));
+    }
+
+    @Test
+    void reconcile_shouldSkipWhileAnotherInstanceRunsIt() throws Exception {
+        // Given
+        Long userId = persistUser("l@test.com").getId();
+        taskService.create(new TaskCreateRequest("a", null, null, userId));
+        jdbcTemplate.update("UPDATE task_summary SET task_count = 7");
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            other.createStatement().execute("SELECT job FROM job_lock WHERE job = 'task-summary-reconcile' FOR UPDATE");
+            // When
+            long diff = summaryService.reconcile();
+            // Then
+            assertThat(diff).isZero();
+            other.rollback();
+        }
+        assertThat(summaryService.reconcile()).isEqualTo(6);
+    }
+
+    @Test
+    void reconcile_shouldCorrectEveryAssigneeRange() {
+        // Given
+        Long first = persistUser("r1@test.com").getId();
+        Long second = persistUser("r2@test.com").getId();
+        taskService.create(new TaskCreateRequest("a", null, null, first));
+        taskService.create(new TaskCreateRequest("b", null, null, second));
+        jdbcTemplate.update("DELETE FROM task_summary");
+        // When
+        long diff = summaryService.reconcile();
+        // Then
+        assertThat(diff).isEqualTo(2);
+        assertThat(summaryService.forAssignee(second)).isEqualTo(new TaskSummaryResponse(1, 0, 0, 0));
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
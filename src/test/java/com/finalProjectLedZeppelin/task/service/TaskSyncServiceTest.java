@@ -0,0 +1,135 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.task.dto.TaskChangesResponse;
+import com.finalProjectLedZeppelin.task.model.Task;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final Instant UP_TO = NOW.minusSeconds(5);
+
+    @Mock
+    TaskRepository taskRepository;
+    @Mock
+    TaskTombstoneRepository tombstoneRepository;
+
+    TaskSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new TaskSyncService(
+                taskRepository, tombstoneRepository, false,
+                Duration.ofSeconds(5), Duration.ofDays(30),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void changes_shouldResetAndScanFromOrigin_whenNoToken() {
+        // given
+        when(taskRepository.findChangedAfterByAssigneeId(7L, Instant.EPOCH, 0L, UP_TO, Limit.of(3)))
+                .thenReturn(List.of(task(1L, "2026-02-01T00:00:00Z")));
+        // when
+        TaskChangesResponse res = syncService.changes(7L, false, null, 2);
+        // then
+        assertThat(res.reset()).isTrue();
+        assertThat(res.hasMore()).isFalse();
+        assertThat(res.tasks()).extracting(t -> t.id()).containsExactly(1L);
+        assertThat(res.removedIds()).isEmpty();
+        assertThat(TaskSyncService.Position.decode(res.token()))
+                .isEqualTo(new TaskSyncService.Position(UP_TO, Long.MAX_VALUE));
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void changes_shouldResumeFromLastTask_whenPageIsFull() {
+        // given
+        Instant since = Instant.parse("2026-02-20T00:00:00Z");
+        String token = new TaskSyncService.Position(since, 4L).encode();
+        Task a = task(5L, "2026-02-21T00:00:00Z");
+        Task b = task(6L, "2026-02-22T00:00:00Z");
+        Task c = task(7L, "2026-02-23T00:00:00Z");
+        when(taskRepository.findChangedAfter(since, 4L, UP_TO, Limit.of(3))).thenReturn(List.of(a, b, c));
+        when(tombstoneRepository.findDeletedTaskIds(since, b.getUpdatedAt())).thenReturn(List.of(3L));
+        // when
+        TaskChangesResponse res = syncService.changes(1L, true, token, 2);
+        // then
+        assertThat(res.reset()).isFalse();
+        assertThat(res.hasMore()).isTrue();
+        assertThat(res.tasks()).extracting(t -> t.id()).containsExactly(5L, 6L);
+        assertThat(res.removedIds()).containsExactly(3L);
+        assertThat(TaskSyncService.Position.decode(res.token()))
+                .isEqualTo(new TaskSyncService.Position(b.getUpdatedAt(), 6L));
+    }
+
+    @Test
+    void changes_shouldReset_whenTokenOlderThanRetention() {
+        // given
+        String token = new TaskSyncService.Position(NOW.minus(Duration.ofDays(31)), 9L).encode();
+        when(taskRepository.findChangedAfter(any(), anyLong(), any(), any())).thenReturn(List.of());
+        // when
+        TaskChangesResponse res = syncService.changes(1L, true, token, 10);
+        // then
+        assertThat(res.reset()).isTrue();
+        verify(taskRepository).findChangedAfter(Instant.EPOCH, 0L, UP_TO, Limit.of(11));
+    }
+
+    @Test
+    void changes_shouldThrow_whenTokenMalformed() {
+        // when / then
+        assertThatThrownBy(() -> syncService.changes(1L, true, "not-a-token", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid sync token");
+    }
+
+    @Test
+    void changes_shouldThrow_whenSharded() {
+        // given
+        TaskSyncService sharded = new TaskSyncService(
+                taskRepository, tombstoneRepository, true,
+                Duration.ofSeconds(5), Duration.ofDays(30),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+        // when / then
+        assertThatThrownBy(() -> sharded.changes(1L, true, null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Sync is not supported in sharded mode");
+        verifyNoInteractions(taskRepository, tombstoneRepository);
+    }
+
+    private static Task task(Long id, String updatedAt) {
+        User u = new User();
+        u.setId(7L);
+        u.setEmail("u@test.com");
+        Task t = new Task();
+        t.setId(id);
+        t.setAssignee(u);
+        t.setTitle("t");
+        t.setStatus(TaskStatus.TODO);
+        t.setCreatedAt(Instant.parse(updatedAt));
+        t.setUpdatedAt(Instant.parse(updatedAt));
+        return t;
+    }
+}
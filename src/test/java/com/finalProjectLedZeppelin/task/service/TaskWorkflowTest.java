@@ -0,0 +1,64 @@
+package com.finalProjectLedZeppelin.task.service;
+
+import com.finalProjectLedZeppelin.common.error.ConflictException;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskWorkflowTest {
+
+    private final TaskWorkflow workflow = new TaskWorkflow(new TaskWorkflowProperties(Map.of(
+            TaskStatus.TODO, Set.of(TaskStatus.IN_PROGRESS),
+            TaskStatus.IN_PROGRESS, Set.of(TaskStatus.DONE, TaskStatus.TODO)
+    ), true));
+
+    @Test
+    void predecessorsOf_shouldIncludeConfiguredSourcesAndTargetItself() {
+        // When / Then
+        assertThat(workflow.predecessorsOf(TaskStatus.DONE, false))
+                .containsExactlyInAnyOrder(TaskStatus.IN_PROGRESS, TaskStatus.DONE);
+        assertThat(workflow.predecessorsOf(TaskStatus.TODO, false))
+                .containsExactlyInAnyOrder(TaskStatus.IN_PROGRESS, TaskStatus.TODO);
+    }
+
+    @Test
+    void allows_shouldRejectUnconfiguredTransition_unlessAdminOverride() {
+        // When / Then
+        assertThat(workflow.allows(TaskStatus.TODO, TaskStatus.DONE, false)).isFalse();
+        assertThat(workflow.allows(TaskStatus.DONE, TaskStatus.TODO, false)).isFalse();
+        assertThat(workflow.allows(TaskStatus.TODO, TaskStatus.DONE, true)).isTrue();
+    }
+
+    @Test
+    void allows_shouldApplyToAdmins_whenOverrideDisabled() {
+        // Given
+        TaskWorkflow strict = new TaskWorkflow(new TaskWorkflowProperties(Map.of(
+                TaskStatus.TODO, Set.of(TaskStatus.IN_PROGRESS)
+        ), false));
+        // When / Then
+        assertThat(strict.allows(TaskStatus.TODO, TaskStatus.DONE, true)).isFalse();
+        assertThat(strict.predecessorsOf(TaskStatus.DONE, true)).containsExactly(TaskStatus.DONE);
+    }
+
+    @Test
+    void allows_shouldPermitEverything_whenNoTransitionsConfigured() {
+        // Given
+        TaskWorkflow open = new TaskWorkflow(new TaskWorkflowProperties(Map.of(), false));
+        // When / Then
+        assertThat(open.predecessorsOf(TaskStatus.TODO, false)).containsExactlyInAnyOrder(TaskStatus.values());
+    }
+
+    @Test
+    void require_shouldThrowConflict_whenTransitionNotAllowed() {
+        // When / Then
+        assertThatThrownBy(() -> workflow.require(1L, TaskStatus.TODO, TaskStatus.DONE, false))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage("Status transition not allowed: TODO -> DONE");
+        assertThatCode(() -> workflow.require(1L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, false))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,65 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardMapTest {
+
+    @Test
+    void of_shouldRouteBucketsToOwningShard() {
+        // given
+        ShardMap map = ShardMap.of(8, List.of("0-3", "4,5-7"));
+        // when / then
+        LongStream.range(1, 1000).forEach(id -> {
+            int bucket = map.bucketOf(id);
+            assertThat(map.shardOf(id)).isEqualTo(bucket < 4 ? 0 : 1);
+        });
+    }
+
+    @Test
+    void shardOf_shouldSpreadAssigneesAcrossShards() {
+        // given
+        ShardMap map = ShardMap.of(256, List.of("0-127", "128-255"));
+        // when
+        long onFirst = LongStream.rangeClosed(1, 10_000).filter(id -> map.shardOf(id) == 0).count();
+        // then
+        assertThat(onFirst).isBetween(4_500L, 5_500L);
+    }
+
+    @Test
+    void of_shouldRejectUnownedBucket() {
+        assertThatThrownBy(() -> ShardMap.of(8, List.of("0-3", "5-7")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Bucket 4");
+    }
+
+    @Test
+    void of_shouldRejectOverlappingRanges() {
+        assertThatThrownBy(() -> ShardMap.of(8, List.of("0-4", "4-7")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than one shard");
+    }
+
+    @Test
+    void of_shouldRejectMalformedRange() {
+        assertThatThrownBy(() -> ShardMap.of(8, List.of("0-x")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid bucket range");
+    }
+
+    @Test
+    void homeOf_shouldFollowIdentifierSequences() {
+        // given
+        ShardMap map = ShardMap.of(4, List.of("0-1", "2-3"));
+        // when / then
+        assertThat(map.homeOf(1)).isZero();
+        assertThat(map.homeOf(2)).isEqualTo(1);
+        assertThat(map.homeOf(1 + ShardMap.MAX_SHARDS)).isZero();
+        assertThat(map.homeOf(3)).isEqualTo(-1);
+    }
+}
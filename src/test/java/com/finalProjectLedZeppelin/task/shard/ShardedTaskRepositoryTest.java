@@ -0,0 +1,57 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedTaskRepositoryTest {
+
+    @Test
+    void merge_shouldReturnGlobalWindowOfSortedShards() {
+        // given
+        Comparator<ShardedTask> byTitle = ShardedTaskRepository.comparator(Sort.by("title"));
+        List<ShardedTask> first = List.of(task(1, "a", null), task(3, "c", null), task(5, "e", null));
+        List<ShardedTask> second = List.of(task(2, "b", null), task(4, "d", null));
+        // when
+        List<ShardedTask> page = ShardedTaskRepository.merge(List.of(first, second, List.of()), byTitle, 1, 3);
+        // then
+        assertThat(page).extracting(ShardedTask::title).containsExactly("b", "c", "d");
+    }
+
+    @Test
+    void comparator_shouldOrderNullsLikePostgres() {
+        // given
+        ShardedTask none = task(1, "x", null);
+        ShardedTask early = task(2, "x", LocalDate.of(2030, 1, 1));
+        ShardedTask late = task(3, "x", LocalDate.of(2030, 6, 1));
+        // when
+        List<ShardedTask> asc = List.of(none, late, early).stream()
+                .sorted(ShardedTaskRepository.comparator(Sort.by("deadline"))).toList();
+        List<ShardedTask> desc = List.of(early, none, late).stream()
+                .sorted(ShardedTaskRepository.comparator(Sort.by(Sort.Direction.DESC, "deadline"))).toList();
+        // then
+        assertThat(asc).containsExactly(early, late, none);
+        assertThat(desc).containsExactly(none, late, early);
+    }
+
+    @Test
+    void orderBy_shouldBreakTiesByIdAndRejectUnknownProperties() {
+        assertThat(ShardedTaskRepository.orderBy(Sort.by(Sort.Direction.DESC, "createdAt")))
+                .isEqualTo(" ORDER BY created_at DESC, id ASC");
+        assertThatThrownBy(() -> ShardedTaskRepository.orderBy(Sort.by("assignee.email")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ShardedTask task(long id, String title, LocalDate deadline) {
+        Instant now = Instant.parse("2030-01-01T00:00:00Z");
+        return new ShardedTask(id, null, title, null, TaskStatus.TODO, deadline, now, now, 0L);
+    }
+}
@@ -0,0 +1,190 @@
+package com.finalProjectLedZeppelin.task.shard;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
+import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the sharded persistence mode against two local PostgreSQL
+ * containers standing in for shard databases.
+ */
+@Testcontainers
+@SpringBootTest
+@DirtiesContext
+class ShardedTaskServiceIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static PostgreSQLContainer<?> shard0 = new PostgreSQLContainer<>("postgres:16-alpine");
+    @Container
+    static PostgreSQLContainer<?> shard1 = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void shards(DynamicPropertyRegistry registry) {
+        registry.add("app.sharding.enabled", () -> "true");
+        registry.add("app.sharding.buckets", () -> "16");
+        registry.add("app.outbox.relay.enabled", () -> "false");
+        List<PostgreSQLContainer<?>> shards = List.of(shard0, shard1);
+        for (int i = 0; i < shards.size(); i++) {
+            PostgreSQLContainer<?> c = shards.get(i);
+            int index = i;
+            String prefix = "app.sharding.shards[" + i + "].";
+            registry.add(prefix + "name", () -> "s" + index);
+            registry.add(prefix + "url", c::getJdbcUrl);
+            registry.add(prefix + "username", c::getUsername);
+            registry.add(prefix + "password", c::getPassword);
+            registry.add(prefix + "buckets", () -> index == 0 ? "0-7" : "8-15");
+        }
+    }
+
+    @Autowired
+    TaskService taskService;
+    @Autowired
+    TaskShards shards;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private final ShardMap map = ShardMap.of(16, List.of("0-7", "8-15"));
+
+    @BeforeEach
+    void cleanDb() {
+        shards.all().forEach(s -> {
+            s.jdbc().update("DELETE FROM tasks");
+            s.jdbc().update("DELETE FROM task_outbox");
+        });
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void create_shouldRouteTaskToAssigneeShard() {
+        // given
+        User u = persistUser("route@test.com");
+        // when
+        TaskResponse created = taskService.create(new TaskCreateRequest("t", null, null, u.getId()));
+        // then
+        assertThat(taskService.get(u.getId(), false, created.id()).assigneeEmail()).isEqualTo("route@test.com");
+        assertThat(countOn(map.shardOf(u.getId()))).isEqualTo(1);
+        assertThat(countOn(1 - map.shardOf(u.getId()))).isZero();
+    }
+
+    @Test
+    void adminUpdate_shouldMoveTaskBetweenShards() {
+        // given
+        User[] pair = usersOnDifferentShards();
+        TaskResponse created = taskService.create(new TaskCreateRequest("move", "d", null, pair[0].getId()));
+        // when
+        TaskResponse moved = taskService.adminUpdate(created.id(), created.version(),
+                new TaskUpdateRequest("moved", "d", TaskStatus.IN_PROGRESS, null, pair[1].getId()));
+        // then
+        assertThat(moved.id()).isEqualTo(created.id());
+        assertThat(moved.version()).isEqualTo(created.version() + 1);
+        assertThat(countOn(map.shardOf(pair[0].getId()))).isZero();
+        assertThat(countOn(map.shardOf(pair[1].getId()))).isEqualTo(1);
+        TaskResponse reloaded = taskService.get(pair[1].getId(), false, created.id());
+        assertThat(reloaded.title()).isEqualTo("moved");
+        assertThat(reloaded.status()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(taskService.list(pair[0].getId(), false, null, null, null, PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    void writes_shouldRecordEventsInOutboxOfTheShard() {
+        // given
+        User[] pair = usersOnDifferentShards();
+        int source = map.shardOf(pair[0].getId());
+        TaskResponse created = taskService.create(new TaskCreateRequest("outbox", null, null, pair[0].getId()));
+        // when
+        taskService.adminUpdate(created.id(), created.version(),
+                new TaskUpdateRequest("outbox", null, TaskStatus.TODO, null, pair[1].getId()));
+        // then
+        assertThat(shards.all().get(source).jdbc().queryForList(
+                "SELECT event_type FROM task_outbox WHERE task_id = ? ORDER BY id", String.class, created.id()))
+                .containsExactly("CREATED", "UPDATED");
+        assertThat(shards.all().get(1 - source).jdbc().queryForObject("SELECT count(*) FROM task_outbox", Long.class))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM task_outbox", Long.class)).isZero();
+    }
+
+    @Test
+    void get_shouldFindUnassignedTaskOnAnyShard() {
+        // given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(taskService.create(new TaskCreateRequest("u" + i, null, null, null)).id());
+        }
+        // when / then
+        ids.forEach(id -> assertThat(taskService.get(null, true, id).title()).startsWith("u"));
+    }
+
+    @Test
+    void list_shouldMergeSortedPagesForAdmin() {
+        // given
+        User[] pair = usersOnDifferentShards();
+        for (int i = 0; i < 12; i++) {
+            Long assignee = i % 3 == 2 ? null : pair[i % 3].getId();
+            taskService.create(new TaskCreateRequest(String.format("task-%02d", i), null, null, assignee));
+        }
+        List<String> expected = new ArrayList<>();
+        // when
+        for (int page = 0; page < 3; page++) {
+            Page<TaskResponse> p = taskService.list(null, true, null, null, null,
+                    PageRequest.of(page, 5, Sort.by(Sort.Direction.DESC, "title")));
+            assertThat(p.getTotalElements()).isEqualTo(12);
+            p.forEach(t -> expected.add(t.title()));
+        }
+        // then
+        assertThat(expected).hasSize(12).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    private User[] usersOnDifferentShards() {
+        User first = persistUser("first@test.com");
+        for (int i = 0; ; i++) {
+            User other = persistUser("other" + i + "@test.com");
+            if (map.shardOf(other.getId()) != map.shardOf(first.getId())) {
+                return new User[]{first, other};
+            }
+        }
+    }
+
+    private long countOn(int shard) {
+        Long n = shards.all().get(shard).jdbc().queryForObject("SELECT count(*) FROM tasks", Long.class);
+        return n != null ? n : 0L;
+    }
+
+    private User persistUser(String email) {
+        User u = new User();
+        u.setEmail(email);
+        u.setPasswordHash("{noop}test");
+        u.setRole(UserRole.USER);
+        return userRepository.save(u);
+    }
+}
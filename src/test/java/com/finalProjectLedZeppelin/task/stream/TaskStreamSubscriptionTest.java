@@ -0,0 +1,79 @@
+package com.finalProjectLedZeppelin.task.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskStreamSubscriptionTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final SseEmitter emitter = mock(SseEmitter.class);
+
+    @Test
+    void offer_shouldReplaceBufferWithResync_whenClientLags() throws IOException {
+        // given
+        TaskStreamSubscription sub = new TaskStreamSubscription(emitter, 1L, false, 3, scheduled::add);
+        // when
+        boolean first = sub.offer(message(1L));
+        sub.offer(message(2L));
+        sub.offer(message(3L));
+        boolean overflow = sub.offer(message(4L));
+        // then
+        assertThat(first).isTrue();
+        assertThat(overflow).isFalse();
+        assertThat(sub.pending()).isEqualTo(2);
+        assertThat(sub.overflows()).isEqualTo(1);
+        assertThat(scheduled).hasSize(1);
+        scheduled.get(0).run();
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(sub.pending()).isZero();
+    }
+
+    @Test
+    void offer_shouldSkipHeartbeat_whenMessagesPending() {
+        // given
+        TaskStreamSubscription sub = new TaskStreamSubscription(emitter, 1L, false, 3, scheduled::add);
+        sub.offer(message(1L));
+        // when
+        sub.offer(TaskStreamSubscription.HEARTBEAT);
+        // then
+        assertThat(sub.pending()).isEqualTo(1);
+    }
+
+    @Test
+    void drain_shouldCloseSubscription_whenSendFails() throws IOException {
+        // given
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        TaskStreamSubscription sub = new TaskStreamSubscription(emitter, 1L, false, 3, Runnable::run);
+        // when
+        sub.offer(message(1L));
+        sub.offer(message(2L));
+        // then
+        verify(emitter, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(emitter).completeWithError(any(IOException.class));
+        assertThat(sub.pending()).isZero();
+    }
+
+    @Test
+    void sees_shouldScopeToAssignee_unlessAdmin() {
+        // given
+        TaskStreamSubscription user = new TaskStreamSubscription(emitter, 7L, false, 3, scheduled::add);
+        TaskStreamSubscription admin = new TaskStreamSubscription(emitter, 1L, true, 3, scheduled::add);
+        // when / then
+        assertThat(user.sees(7L, null)).isTrue();
+        assertThat(user.sees(8L, 7L)).isTrue();
+        assertThat(user.sees(8L, null)).isFalse();
+        assertThat(admin.sees(null, null)).isTrue();
+    }
+
+    private static TaskStreamSubscription.Message message(Long taskId) {
+        return new TaskStreamSubscription.Message("task", new TaskStreamEvent("UPDATED", taskId));
+    }
+}
@@ -0,0 +1,183 @@
+package com.finalProjectLedZeppelin.task.web;
+
+import com.finalProjectLedZeppelin.auth.model.User;
+import com.finalProjectLedZeppelin.auth.model.UserRole;
+import com.finalProjectLedZeppelin.auth.repo.UserRepository;
+import com.finalProjectLedZeppelin.task.repo.TaskRepository;
+import com.finalProjectLedZeppelin.task.service.TaskSummaryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Testcontainers
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class TaskBatchControllerIT {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    TaskRepository taskRepository;
+    @Autowired
+    TaskSummaryService summaryService;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @BeforeEach
+    void cleanDb() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("DELETE FROM task_summary");
+    }
+
+    @Test
+    void batch_shouldCreateAndUpdateTasksInOneTransaction() throws Exception {
+        // Given
+        User admin = persistUser(UserRole.ADMIN);
+        User user = persistUser(UserRole.USER);
+        String body = """
+                {"operations": [
+                  {"op": "CREATE", "create": {"title": "a", "assigneeId": %d}},
+                  {"op": "CREATE", "create": {"title": "b", "deadline": "2030-01-01", "assigneeId": %d}},
+                  {"op": "CREATE", "create": {"title": "c"}}
+                ]}
+                """.formatted(user.getId(), user.getId());
+        // When
+        mockMvc.perform(post("/api/batch")
+                        .with(authentication(auth(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].task.assigneeEmail").value(user.getEmail()))
+                .andExpect(jsonPath("$.results[2].task.assigneeId").isEmpty());
+        Long first = jdbcTemplate.queryForObject("SELECT min(id) FROM tasks", Long.class);
+        mockMvc.perform(post("/api/batch")
+                        .with(authentication(auth(user)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [
+                                  {"op": "STATUS", "taskId": %d, "version": 0, "status": {"status": "IN_PROGRESS"}},
+                                  {"op": "STATUS", "taskId": %d, "status": {"status": "DONE"}}
+                                ]}
+                                """.formatted(first, first)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.results[1].task.version").value(2));
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(3);
+        assertThat(summaryService.forAssignee(user.getId()).done()).isEqualTo(1);
+        assertThat(summaryService.forAssignee(user.getId()).todo()).isEqualTo(1);
+        assertThat(summaryService.reconcile()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM task_list_view v JOIN tasks t USING (id)", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    void batch_shouldRollBack_whenAtomicOperationFails() throws Exception {
+        // Given
+        User admin = persistUser(UserRole.ADMIN);
+        String body = """
+                {"operations": [
+                  {"op": "CREATE", "create": {"title": "a"}},
+                  {"op": "DELETE", "taskId": -1}
+                ]}
+                """;
+        // When
+        mockMvc.perform(post("/api/batch")
+                        .with(authentication(auth(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(424))
+                .andExpect(jsonPath("$.results[1].status").value(404));
+        // Then
+        assertThat(taskRepository.count()).isZero();
+        assertThat(summaryService.global().todo()).isZero();
+    }
+
+    @Test
+    void batch_shouldKeepSuccessfulOperations_whenNotAtomic() throws Exception {
+        // Given
+        User admin = persistUser(UserRole.ADMIN);
+        String body = """
+                {"atomic": false, "operations": [
+                  {"op": "CREATE", "create": {"title": "a"}},
+                  {"op": "CREATE", "create": {"title": "b", "assigneeId": -1}}
+                ]}
+                """;
+        // When
+        mockMvc.perform(post("/api/batch")
+                        .with(authentication(auth(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value(201))
+                .andExpect(jsonPath("$.results[1].status").value(400));
+        // Then
+        assertThat(taskRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void batch_shouldReturn400_whenOperationBodyInvalid() throws Exception {
+        // Given
+        User admin = persistUser(UserRole.ADMIN);
+        // When / Then
+        mockMvc.perform(post("/api/batch")
+                        .with(authentication(auth(admin)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"operations": [{"op": "CREATE", "create": {"title": ""}}]}
+                                """))
+                .andExpect(status().isBadRequest());
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    private User persistUser(UserRole role) {
+        int n = SEQ.incrementAndGet();
+        User u = new User();
+        u.setEmail("batch" + n + "@test.com");
+        u.setPasswordHash("test-hash");
+        u.setRole(role);
+        return userRepository.save(u);
+    }
+
+    private UsernamePasswordAuthenticationToken auth(User u) {
+        return new UsernamePasswordAuthenticationToken(
+                u.getId(),
+                "n/a",
+                List.of(new SimpleGrantedAuthority("ROLE_" + u.getRole().name()))
+        );
+    }
+}
@@ -1,12 +1,34 @@
 package com.finalProjectLedZeppelin.task.web;
 
+import com.finalProjectLedZeppelin.common.web.PageGuard;
+import com.finalProjectLedZeppelin.common.web.ResourceVersions;
+import com.finalProjectLedZeppelin.task.dto.TaskChangesResponse;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskClaimResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskCreateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskDueWindow;
+import com.finalProjectLedZeppelin.task.dto.TaskFacets;
+import com.finalProjectLedZeppelin.task.dto.TaskFields;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskLookupResult;
+import com.finalProjectLedZeppelin.task.dto.TaskPatchRequest;
 import com.finalProjectLedZeppelin.task.dto.TaskResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskStatusUpdateRequest;
+import com.finalProjectLedZeppelin.task.dto.TaskSummaryResponse;
 import com.finalProjectLedZeppelin.task.dto.TaskUpdateRequest;
 import com.finalProjectLedZeppelin.task.model.TaskStatus;
+import com.finalProjectLedZeppelin.task.repo.TaskStamp;
+import com.finalProjectLedZeppelin.task.service.TaskArchiveService;
+import com.finalProjectLedZeppelin.task.service.TaskClaimService;
+import com.finalProjectLedZeppelin.task.service.TaskFacetService;
 import com.finalProjectLedZeppelin.task.service.TaskService;
+import com.finalProjectLedZeppelin.task.service.TaskSummaryService;
+import com.finalProjectLedZeppelin.task.service.TaskSyncService;
+import com.finalProjectLedZeppelin.task.stream.TaskEventBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.TestConfiguration;
@@ -26,25 +48,49 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = TaskController.class)
-@Import(TaskControllerTest.TestSecurityConfig.class)
+@Import({TaskControllerTest.TestSecurityConfig.class, PageGuard.class})
 class TaskControllerTest {
 
     @Autowired
     MockMvc mockMvc;
     @Autowired
     ObjectMapper objectMapper;
+    @Autowired
+    MeterRegistry meterRegistry;
     @MockitoBean
     TaskService taskService;
+    @MockitoBean
+    TaskSyncService taskSyncService;
+    @MockitoBean
+    TaskSummaryService taskSummaryService;
+    @MockitoBean
+    TaskArchiveService taskArchiveService;
+    @MockitoBean
+    TaskFacetService taskFacetService;
+    @MockitoBean
+    TaskClaimService taskClaimService;
+    @MockitoBean
+    ResourceVersions resourceVersions;
+    @MockitoBean
+    TaskEventBroadcaster taskEventBroadcaster;
 
     @TestConfiguration
     @EnableMethodSecurity
@@ -56,6 +102,11 @@ class TaskControllerTest {
                     .authorizeHttpRequests(reg -> reg.anyRequest().permitAll())
                     .build();
         }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
     }
 
     private Authentication userAuth(long userId) {
@@ -84,7 +135,8 @@ class TaskControllerTest {
                 TaskStatus.TODO,
                 LocalDate.parse("2026-01-10"),
                 Instant.parse("2026-01-01T00:00:00Z"),
-                Instant.parse("2026-01-01T00:00:00Z")
+                Instant.parse("2026-01-01T00:00:00Z"),
+                0L
         );
     }
 
@@ -126,14 +178,15 @@ class TaskControllerTest {
     void updateStatus_shouldCallService_whenUser() throws Exception {
         // given
         TaskStatusUpdateRequest req = new TaskStatusUpdateRequest(TaskStatus.DONE);
-        Mockito.when(taskService.updateStatus(10L, false, 9L, TaskStatus.DONE))
+        Mockito.when(taskService.updateStatus(10L, false, 9L, null, TaskStatus.DONE))
                 .thenReturn(new TaskResponse(
                         9L, 10L, "u@test.com",
                         "title", "desc",
                         TaskStatus.DONE,
                         LocalDate.parse("2026-01-10"),
                         Instant.parse("2026-01-01T00:00:00Z"),
-                        Instant.parse("2026-01-02T00:00:00Z")
+                        Instant.parse("2026-01-02T00:00:00Z"),
+                        1L
                 ));
         // when / then
         mockMvc.perform(patch("/api/tasks/9/status")
@@ -142,7 +195,7 @@ class TaskControllerTest {
                         .content(objectMapper.writeValueAsString(req)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("DONE"));
-        Mockito.verify(taskService).updateStatus(10L, false, 9L, TaskStatus.DONE);
+        Mockito.verify(taskService).updateStatus(10L, false, 9L, null, TaskStatus.DONE);
     }
 
     @Test
@@ -155,14 +208,15 @@ class TaskControllerTest {
                 LocalDate.parse("2026-02-01"),
                 2L
         );
-        Mockito.when(taskService.adminUpdate(eq(9L), any(TaskUpdateRequest.class)))
+        Mockito.when(taskService.adminUpdate(eq(9L), isNull(), any(TaskUpdateRequest.class)))
                 .thenReturn(new TaskResponse(
                         9L, 2L, "a@test.com",
                         "new title", "new desc",
                         TaskStatus.IN_PROGRESS,
                         LocalDate.parse("2026-02-01"),
                         Instant.parse("2026-01-01T00:00:00Z"),
-                        Instant.parse("2026-01-02T00:00:00Z")
+                        Instant.parse("2026-01-02T00:00:00Z"),
+                        1L
                 ));
         // when / then
         mockMvc.perform(put("/api/tasks/9")
@@ -172,7 +226,7 @@ class TaskControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
                 .andExpect(jsonPath("$.assigneeId").value(2));
-        Mockito.verify(taskService).adminUpdate(eq(9L), any(TaskUpdateRequest.class));
+        Mockito.verify(taskService).adminUpdate(eq(9L), isNull(), any(TaskUpdateRequest.class));
     }
 
     @Test
@@ -212,4 +266,455 @@ class TaskControllerTest {
                 any(Pageable.class)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void get_shouldReturnEtag_andThen304_whenIfNoneMatchMatches() throws Exception {
+        // given
+        Mockito.when(taskService.stamp(10L, false, 9L))
+                .thenReturn(new TaskStamp(9L, 10L, Instant.parse("2026-01-01T00:00:00Z"), 3L));
+        Mockito.when(taskService.get(10L, false, 9L)).thenReturn(sample(9L, 10L));
+        String etag = mockMvc.perform(get("/api/tasks/9")
+                        .with(authentication(userAuth(10L))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andReturn().getResponse().getHeader("ETag");
+        // when / then
+        mockMvc.perform(get("/api/tasks/9")
+                        .with(authentication(userAuth(10L)))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        Mockito.verify(taskService, Mockito.times(1)).get(10L, false, 9L);
+    }
+
+    @Test
+    void list_shouldReturn304_whenVersionUnchanged() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        Mockito.when(taskService.list(eq(10L), eq(false), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sample(1L, 10L))));
+        String etag = mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(6L);
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        Mockito.verify(taskService, Mockito.times(2))
+                .list(eq(10L), eq(false), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void changes_shouldPassTokenAndLimit_toSyncService() throws Exception {
+        // given
+        Mockito.when(taskSyncService.changes(10L, false, "abc", 50))
+                .thenReturn(new TaskChangesResponse(List.of(sample(1L, 10L)), List.of(2L), "next", false, false));
+        // when / then
+        mockMvc.perform(get("/api/tasks/changes")
+                        .with(authentication(userAuth(10L)))
+                        .param("since", "abc")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tasks[0].id").value(1))
+                .andExpect(jsonPath("$.removedIds[0]").value(2))
+                .andExpect(jsonPath("$.token").value("next"));
+        Mockito.verify(taskSyncService).changes(10L, false, "abc", 50);
+    }
+
+    @Test
+    void summary_shouldReturnOwnCounts_whenUser_andGlobalCounts_whenAdmin() throws Exception {
+        // given
+        Mockito.when(taskSummaryService.forAssignee(10L)).thenReturn(new TaskSummaryResponse(1, 2, 3, 1));
+        Mockito.when(taskSummaryService.global()).thenReturn(new TaskSummaryResponse(10, 20, 30, 5));
+        // when / then
+        mockMvc.perform(get("/api/tasks/summary").with(authentication(userAuth(10L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todo").value(1))
+                .andExpect(jsonPath("$.overdue").value(1));
+        mockMvc.perform(get("/api/tasks/summary").with(authentication(adminAuth(1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.done").value(30));
+        Mockito.verify(taskSummaryService).forAssignee(10L);
+        Mockito.verify(taskSummaryService).global();
+    }
+
+    @Test
+    void get_shouldReadArchive_whenIncludeArchived() throws Exception {
+        // given
+        Mockito.when(taskArchiveService.stamp(10L, false, 9L))
+                .thenReturn(new TaskStamp(9L, 10L, Instant.parse("2026-01-01T00:00:00Z"), 2L));
+        Mockito.when(taskArchiveService.get(10L, false, 9L)).thenReturn(sample(9L, 10L));
+        // when / then
+        mockMvc.perform(get("/api/tasks/9")
+                        .with(authentication(userAuth(10L)))
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(9));
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void list_shouldReadArchive_whenIncludeArchived() throws Exception {
+        // given
+        Mockito.when(taskArchiveService.list(eq(1L), eq(true), eq(TaskStatus.DONE), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sample(1L, null))));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("status", "DONE")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void updateStatus_shouldPassIfMatchVersion_toService() throws Exception {
+        // given
+        TaskStatusUpdateRequest req = new TaskStatusUpdateRequest(TaskStatus.DONE);
+        Mockito.when(taskService.updateStatus(10L, false, 9L, 4L, TaskStatus.DONE))
+                .thenReturn(sample(9L, 10L));
+        // when / then
+        mockMvc.perform(patch("/api/tasks/9/status")
+                        .with(authentication(userAuth(10L)))
+                        .header("If-Match", "\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk());
+        Mockito.verify(taskService).updateStatus(10L, false, 9L, 4L, TaskStatus.DONE);
+    }
+
+    @Test
+    void updateStatus_shouldReturn412_whenIfMatchIsWeak() throws Exception {
+        // given
+        TaskStatusUpdateRequest req = new TaskStatusUpdateRequest(TaskStatus.DONE);
+        // when / then
+        mockMvc.perform(patch("/api/tasks/9/status")
+                        .with(authentication(userAuth(10L)))
+                        .header("If-Match", "W/\"4\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isPreconditionFailed());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void patch_shouldApplyOnlyPresentFields_whenAdmin() throws Exception {
+        // given
+        Mockito.when(taskService.patch(eq(9L), eq(2L), any(TaskPatchRequest.class)))
+                .thenReturn(sample(9L, null));
+        // when / then
+        mockMvc.perform(patch("/api/tasks/9")
+                        .with(authentication(adminAuth(1L)))
+                        .header("If-Match", "\"2\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"deadline\":\"2026-02-01\",\"assigneeId\":null}"))
+                .andExpect(status().isOk());
+        ArgumentCaptor<TaskPatchRequest> captor = ArgumentCaptor.forClass(TaskPatchRequest.class);
+        Mockito.verify(taskService).patch(eq(9L), eq(2L), captor.capture());
+        TaskPatchRequest req = captor.getValue();
+        assertThat(req.hasDeadline()).isTrue();
+        assertThat(req.deadline()).isEqualTo(LocalDate.parse("2026-02-01"));
+        assertThat(req.hasAssigneeId()).isTrue();
+        assertThat(req.assigneeId()).isNull();
+        assertThat(req.hasTitle()).isFalse();
+        assertThat(req.hasDescription()).isFalse();
+    }
+
+    @Test
+    void patch_shouldReturn400_whenTitleNull() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(patch("/api/tasks/9")
+                        .with(authentication(adminAuth(1L)))
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\":null}"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void patch_shouldReturn403_whenNotAdmin() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(patch("/api/tasks/9")
+                        .with(authentication(userAuth(10L)))
+                        .contentType("application/merge-patch+json")
+                        .content("{\"title\":\"x\"}"))
+                .andExpect(status().isForbidden());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void get_shouldReturnSelectedFields_withFieldsetEtag() throws Exception {
+        // given
+        TaskFields fields = TaskFields.parse("id,title");
+        Mockito.when(taskService.stamp(10L, false, 9L))
+                .thenReturn(new TaskStamp(9L, 10L, Instant.parse("2026-01-01T00:00:00Z"), 3L));
+        Mockito.when(taskService.get(10L, false, 9L, fields)).thenReturn(Map.of("id", 9L, "title", "title"));
+        // when / then
+        mockMvc.perform(get("/api/tasks/9")
+                        .with(authentication(userAuth(10L)))
+                        .param("fields", "title,id"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3;id,title\""))
+                .andExpect(jsonPath("$.title").value("title"))
+                .andExpect(jsonPath("$.description").doesNotExist());
+        Mockito.verify(taskService, Mockito.never()).get(10L, false, 9L);
+    }
+
+    @Test
+    void get_shouldReturn400_whenFieldUnknown() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/api/tasks/9")
+                        .with(authentication(userAuth(10L)))
+                        .param("fields", "id,secret"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void list_shouldPassFieldset_toService() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        Mockito.when(taskService.list(eq(10L), eq(false), isNull(), isNull(), isNull(), isNull(), any(Pageable.class),
+                        eq(TaskFields.SUMMARY_FIELDS)))
+                .thenReturn(new PageImpl<>(List.of(Map.of("id", 1L))));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+        Mockito.verify(taskService, Mockito.never())
+                .list(any(), anyBoolean(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void list_shouldProjectArchive_whenFieldsAndIncludeArchived() throws Exception {
+        // given
+        Mockito.when(taskArchiveService.list(eq(1L), eq(true), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sample(1L, null))));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("fields", "id,status")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].status").value("TODO"))
+                .andExpect(jsonPath("$.content[0].title").doesNotExist());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void lookup_shouldReturnOutcomePerId() throws Exception {
+        // given
+        Mockito.when(taskService.lookup(10L, false, List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(
+                        TaskLookupResult.found(sample(1L, 10L)),
+                        TaskLookupResult.forbidden(2L),
+                        TaskLookupResult.missing(3L)
+                ));
+        // when / then
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .with(authentication(userAuth(10L)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskLookupRequest(List.of(1L, 2L, 3L)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].outcome").value("FOUND"))
+                .andExpect(jsonPath("$.results[0].task.title").value("title"))
+                .andExpect(jsonPath("$.results[1].outcome").value("FORBIDDEN"))
+                .andExpect(jsonPath("$.results[1].task").doesNotExist())
+                .andExpect(jsonPath("$.results[2].outcome").value("MISSING"));
+    }
+
+    @Test
+    void lookup_shouldReturn400_whenTooManyIds() throws Exception {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 501).boxed().toList();
+        // when / then
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .with(authentication(adminAuth(1L)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskLookupRequest(ids))))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void claim_shouldReturnClaimedTask_withLease() throws Exception {
+        // given
+        Instant expires = Instant.parse("2030-01-01T10:30:00Z");
+        TaskClaimRequest req = new TaskClaimRequest(
+                TaskStatus.TODO, null, null, TaskClaimRequest.Order.OLDEST, Duration.ofMinutes(30));
+        Mockito.when(taskClaimService.claim(10L, req))
+                .thenReturn(Optional.of(new TaskClaimResponse(sample(1L, 10L), expires)));
+        // when / then
+        mockMvc.perform(post("/api/tasks/claim")
+                        .with(authentication(userAuth(10L)))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"TODO\",\"order\":\"OLDEST\",\"lease\":\"PT30M\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.task.id").value(1))
+                .andExpect(jsonPath("$.task.assigneeId").value(10))
+                .andExpect(jsonPath("$.leaseExpiresAt").value("2030-01-01T10:30:00Z"));
+    }
+
+    @Test
+    void claim_shouldReturn204_whenNothingToClaim() throws Exception {
+        // given
+        Mockito.when(taskClaimService.claim(10L, TaskClaimRequest.ANY)).thenReturn(Optional.empty());
+        // when / then
+        mockMvc.perform(post("/api/tasks/claim")
+                        .with(authentication(userAuth(10L))))
+                .andExpect(status().isNoContent());
+        Mockito.verify(taskClaimService).claim(10L, TaskClaimRequest.ANY);
+    }
+
+    @Test
+    void list_shouldAddFacets_whenRequested() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        Mockito.when(taskService.list(eq(1L), eq(true), eq(TaskStatus.TODO), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sample(1L, 10L))));
+        Mockito.when(taskFacetService.facets(1L, true, TaskStatus.TODO, null, null, null, EnumSet.allOf(TaskFacets.Facet.class)))
+                .thenReturn(new TaskFacets(
+                        Map.of(TaskStatus.TODO, 1L, TaskStatus.IN_PROGRESS, 4L, TaskStatus.DONE, 0L),
+                        List.of(new TaskFacets.AssigneeCount(10L, "u@test.com", 1L)),
+                        false
+                ));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("status", "TODO")
+                        .param("facets", "assignee,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.facets.status.IN_PROGRESS").value(4))
+                .andExpect(jsonPath("$.facets.assignee[0].assigneeEmail").value("u@test.com"))
+                .andExpect(jsonPath("$.facets.capped").value(false));
+    }
+
+    @Test
+    void list_shouldReturn400_whenFacetsWithArchived() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("facets", "status")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("facets", "priority"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService, taskArchiveService, taskFacetService);
+    }
+
+    @Test
+    void list_shouldListOpenTasksDueBeforeToday_whenOverdue() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        TaskDueWindow due = new TaskDueWindow(null, LocalDate.now(ZoneOffset.UTC));
+        Mockito.when(taskService.list(eq(10L), eq(false), isNull(), eq(due), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sample(1L, 10L))));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("overdue", "true")
+                        .param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+        Mockito.verifyNoInteractions(taskArchiveService);
+    }
+
+    @Test
+    void list_shouldPassDueWindow_toFieldsListAndFacets() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        TaskDueWindow due = new TaskDueWindow(today, today.plusDays(8));
+        Mockito.when(taskService.list(eq(1L), eq(true), isNull(), isNull(), isNull(), eq(due), any(Pageable.class),
+                        any(TaskFields.class)))
+                .thenReturn(new PageImpl<>(List.of(Map.of("id", 1L))));
+        Mockito.when(taskFacetService.facets(1L, true, null, null, null, due, Set.of(TaskFacets.Facet.STATUS)))
+                .thenReturn(new TaskFacets(Map.of(TaskStatus.TODO, 1L), null, false));
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(adminAuth(1L)))
+                        .param("fields", "id")
+                        .param("dueWithin", "P7D")
+                        .param("facets", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.facets.status.TODO").value(1));
+    }
+
+    @Test
+    void list_shouldReturn400_whenDueFiltersConflict() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("overdue", "true")
+                        .param("deadlineFrom", "2030-01-01")
+                        .param("deadlineTo", "2030-01-31"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("dueWithin", "P-1D"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("dueWithin", "week"))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void list_shouldReturn400_whenPageTooLarge() throws Exception {
+        // given
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("size", "1000000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Page size must not exceed 100"));
+        Mockito.verifyNoInteractions(taskService);
+        assertThat(meterRegistry.get("app.http.pageable.rejected").tag("reason", "size").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void list_shouldReturn400_whenSortedByUnindexedProperty() throws Exception {
+        // given
+        Mockito.when(resourceVersions.current(ResourceVersions.Scope.TASKS)).thenReturn(5L);
+        Mockito.when(taskService.list(eq(10L), eq(false), any(), any(), any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+        // when / then
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("sort", "description,desc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Sorting by 'description' is not supported; sortable properties: deadline, id"));
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("fields", "id")
+                        .param("sort", "title"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks")
+                        .with(authentication(userAuth(10L)))
+                        .param("size", "100")
+                        .param("sort", "deadline,desc"))
+                .andExpect(status().isOk());
+        Mockito.verify(taskService).list(eq(10L), eq(false), any(), any(), any(), any(Pageable.class));
+    }
+}